@@ -0,0 +1,68 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nextstep.subway.path.application.PathExecutor;
+import nextstep.subway.path.domain.BatchPathSearch;
+import nextstep.subway.path.domain.ShortestPath;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BatchQueryBenchmark {
+    private static final int SOURCE_GROUPS = 8;
+
+    @Param({"64"})
+    public int batchSize;
+
+    private int[] sources;
+    private int[] targets;
+    private PathExecutor pathExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp(NetworkState state) {
+        sources = new int[batchSize];
+        targets = new int[batchSize];
+        int query = 0;
+        for (int i = 0; i < batchSize; i++) {
+            sources[i] = state.sources[i % SOURCE_GROUPS];
+            while (state.targets[query] == sources[i]) {
+                query++;
+            }
+            targets[i] = state.targets[query++];
+        }
+        pathExecutor = new PathExecutor(Runtime.getRuntime().availableProcessors(), batchSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pathExecutor.shutdown();
+    }
+
+    @Benchmark
+    public ShortestPath[] serial(NetworkState state) {
+        return BatchPathSearch.findPaths(state.graph, sources, targets);
+    }
+
+    @Benchmark
+    public ShortestPath[] parallel(NetworkState state) {
+        return BatchPathSearch.findPaths(state.graph, sources, targets, pathExecutor);
+    }
+}
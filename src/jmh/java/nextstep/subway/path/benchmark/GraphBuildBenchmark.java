@@ -0,0 +1,41 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.graph.WeightedMultigraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.path.domain.SubwayWeightedEdge;
+import nextstep.subway.path.domain.TransferGraph;
+import nextstep.subway.station.domain.Station;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GraphBuildBenchmark {
+
+    @Benchmark
+    public SubwayGraph subwayGraph(NetworkState state) {
+        return SubwayGraph.of(state.sections);
+    }
+
+    @Benchmark
+    public WeightedMultigraph<Station, SubwayWeightedEdge> weightedGraph(NetworkState state) {
+        return SubwayNetwork.of(state.sections).getGraph();
+    }
+
+    @Benchmark
+    public TransferGraph transferGraph(NetworkState state) {
+        return TransferGraph.of(state.graph);
+    }
+}
@@ -0,0 +1,52 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.Random;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+
+@State(Scope.Benchmark)
+public class NetworkState {
+    private static final long SEED = 20201215L;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"GRID", "RADIAL", "CITY"})
+    public SyntheticNetwork shape;
+
+    @Param({"500", "5000", "50000"})
+    public int stationCount;
+
+    public Set<Section> sections;
+    public SubwayNetwork network;
+    public SubwayGraph graph;
+    public int[] sources;
+    public int[] targets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sections = shape.createSections(stationCount, SEED);
+        network = SubwayNetwork.of(sections);
+        graph = network.getSubwayGraph();
+        Random random = new Random(SEED);
+        sources = new int[QUERY_COUNT];
+        targets = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            sources[i] = random.nextInt(graph.size());
+            do {
+                targets[i] = random.nextInt(graph.size());
+            } while (targets[i] == sources[i]);
+        }
+    }
+
+    public int queryIndex(long invocation) {
+        return (int) (invocation % QUERY_COUNT);
+    }
+}
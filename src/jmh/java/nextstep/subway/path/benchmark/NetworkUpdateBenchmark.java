@@ -0,0 +1,99 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.domain.ContractionHierarchy;
+import nextstep.subway.path.domain.Landmarks;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.station.domain.Station;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class NetworkUpdateBenchmark {
+    private static final int LANDMARK_COUNT = 8;
+
+    private Line line;
+    private Station upStation;
+    private Station splitStation;
+    private SubwayNetwork current;
+    private Landmarks landmarks;
+    private ContractionHierarchy hierarchy;
+
+    @Setup(Level.Trial)
+    public void setUp(NetworkState state) {
+        Section section = state.sections.stream()
+            .filter(candidate -> candidate.getDistance() > 1)
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        line = section.getLine();
+        upStation = section.getUpStation();
+        splitStation = new Station("분기역");
+        current = state.network;
+    }
+
+    @Benchmark
+    public SubwayNetwork refresh(NetworkState state) {
+        return SubwayNetwork.of(state.sections);
+    }
+
+    @Benchmark
+    public SubwayNetwork apply() {
+        return applyNext();
+    }
+
+    @Benchmark
+    public Landmarks buildLandmarks(NetworkState state) {
+        return Landmarks.of(state.graph, LANDMARK_COUNT, null);
+    }
+
+    @Benchmark
+    public Landmarks applyAndRepairLandmarks() {
+        if (Objects.isNull(landmarks)) {
+            landmarks = Landmarks.of(current.getSubwayGraph(), LANDMARK_COUNT, null);
+        }
+        landmarks = Landmarks.of(applyNext().getSubwayGraph(), LANDMARK_COUNT, landmarks);
+        return landmarks;
+    }
+
+    @Benchmark
+    public ContractionHierarchy buildHierarchy(NetworkState state) {
+        return ContractionHierarchy.of(state.network);
+    }
+
+    @Benchmark
+    public ContractionHierarchy applyAndReorderHierarchy() {
+        if (Objects.isNull(hierarchy)) {
+            hierarchy = ContractionHierarchy.of(current);
+        }
+        hierarchy = ContractionHierarchy.of(applyNext(), hierarchy);
+        return hierarchy;
+    }
+
+    private SubwayNetwork applyNext() {
+        SectionDelta delta = current.contains(splitStation)
+            ? line.removeSection(splitStation)
+            : line.addSection(new Section(line, upStation, splitStation, 1));
+        current = current.apply(current.getVersion() + 1, delta);
+        return current;
+    }
+}
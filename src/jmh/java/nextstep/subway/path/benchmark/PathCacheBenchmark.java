@@ -0,0 +1,71 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nextstep.subway.path.application.PathCache;
+import nextstep.subway.path.domain.DijkstraSearch;
+import nextstep.subway.path.domain.PathType;
+import nextstep.subway.path.domain.ShortestPath;
+import nextstep.subway.path.dto.PathFinderResponse;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathCacheBenchmark {
+    private static final long TIME_TO_LIVE_SECONDS = 3600L;
+
+    @Param({"1000"})
+    public int cacheSize;
+
+    private PathCache pathCache;
+    private PathFinderResponse[] routes;
+    private int cachedRoutes;
+
+    @Setup(Level.Trial)
+    public void setUp(NetworkState state) {
+        pathCache = new PathCache(cacheSize, TIME_TO_LIVE_SECONDS);
+        cachedRoutes = Math.min(cacheSize, state.sources.length);
+        routes = new PathFinderResponse[cachedRoutes];
+        for (int i = 0; i < cachedRoutes; i++) {
+            ShortestPath shortestPath = DijkstraSearch.findPath(state.graph, state.sources[i], state.targets[i]);
+            PathFinderResponse route = shortestPath.toResponse(state.graph);
+            routes[i] = pathCache.getRoute(state.network, PathType.DISTANCE, (long) state.sources[i],
+                (long) state.targets[i], () -> route);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public PathFinderResponse routeHit(NetworkState state, QueryCursor cursor) {
+        int index = cursor.next(cachedRoutes);
+        return pathCache.getRoute(state.network, PathType.DISTANCE, (long) state.sources[index],
+            (long) state.targets[index], () -> routes[index]);
+    }
+
+    @State(Scope.Thread)
+    public static class QueryCursor {
+        private int position;
+
+        public int next(int bound) {
+            position = position + 1 < bound ? position + 1 : 0;
+            return position;
+        }
+    }
+}
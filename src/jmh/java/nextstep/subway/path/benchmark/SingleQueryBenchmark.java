@@ -0,0 +1,58 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.PathFinderType;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.dto.PathFinderResponse;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SingleQueryBenchmark {
+
+    @Param({"GRAPH", "ARRAY", "BIDIRECTIONAL", "ASTAR", "CONTRACTION_HIERARCHY", "LANDMARK"})
+    public PathFinderType finder;
+
+    private PathFinder pathFinder;
+    private long invocation;
+
+    @Setup(Level.Trial)
+    public void setUp(NetworkState state) {
+        pathFinder = finder.create();
+        pathFinder.prepare(state.network);
+        pathFinder.awaitPrepared(state.network);
+        query(state);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pathFinder.shutdown();
+    }
+
+    @Benchmark
+    public PathFinderResponse query(NetworkState state) {
+        int index = state.queryIndex(invocation++);
+        SubwayGraph graph = state.graph;
+        return pathFinder.getShortestPaths(state.network, graph.getStation(state.sources[index]),
+            graph.getStation(state.targets[index]));
+    }
+}
@@ -0,0 +1,176 @@
+package nextstep.subway.path.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+public enum SyntheticNetwork {
+    GRID {
+        @Override
+        List<Line> createLines(Station[] stations, Random random) {
+            int side = sideOf(stations.length);
+            List<Line> lines = new ArrayList<>();
+            for (int row = 0; row < side; row++) {
+                lines.add(createLine("가로" + row, stations, gridRow(side, row, 0, side), 0, random));
+            }
+            for (int column = 0; column < side; column++) {
+                lines.add(createLine("세로" + column, stations, gridColumn(side, column), 0, random));
+            }
+            return lines;
+        }
+    },
+    RADIAL {
+        @Override
+        List<Line> createLines(Station[] stations, Random random) {
+            int spokes = spokesOf(stations.length);
+            int depth = (stations.length - 1) / spokes;
+            List<Line> lines = new ArrayList<>();
+            for (int spoke = 0; spoke < spokes; spoke++) {
+                int[] path = new int[depth + 1];
+                for (int level = 1; level <= depth; level++) {
+                    path[level] = radialIndex(depth, spoke, level);
+                }
+                lines.add(createLine("방사" + spoke, stations, path, 0, random));
+            }
+            for (int level = RING_INTERVAL; level <= depth; level += RING_INTERVAL) {
+                int[] path = new int[spokes];
+                for (int spoke = 0; spoke < spokes; spoke++) {
+                    path[spoke] = radialIndex(depth, spoke, level);
+                }
+                lines.add(createLine("순환" + level, stations, path, 0, random));
+            }
+            return lines;
+        }
+
+        @Override
+        double[] positionOf(int index, int stationCount) {
+            if (index == 0) {
+                return new double[] {0, 0};
+            }
+            int spokes = spokesOf(stationCount);
+            int depth = (stationCount - 1) / spokes;
+            int level = (index - 1) % depth + 1;
+            double angle = 2 * Math.PI * ((index - 1) / depth) / spokes;
+            return new double[] {level * Math.cos(angle), level * Math.sin(angle)};
+        }
+    },
+    CITY {
+        @Override
+        List<Line> createLines(Station[] stations, Random random) {
+            int side = sideOf(stations.length);
+            List<Line> lines = new ArrayList<>();
+            for (int row = 0; row < side; row++) {
+                for (int from = 0; from < side - 1; from += LOCAL_LINE_LENGTH) {
+                    int to = Math.min(side, from + LOCAL_LINE_LENGTH + 1);
+                    lines.add(createLine("지선" + row + "-" + from, stations, gridRow(side, row, from, to), 0, random));
+                }
+            }
+            for (int column = 0; column < side; column += TRUNK_INTERVAL) {
+                lines.add(createLine("간선" + column, stations, gridColumn(side, column), 0, random));
+            }
+            int expressLines = Math.max(2, side / 4);
+            for (int express = 0; express < expressLines; express++) {
+                int[] path = expressPath(side, random);
+                if (path.length > 1) {
+                    lines.add(createLine("급행" + express, stations, path, EXPRESS_SURCHARGE, random));
+                }
+            }
+            return lines;
+        }
+    };
+
+    private static final double BASE_LATITUDE = 37.45;
+    private static final double BASE_LONGITUDE = 126.90;
+    private static final double SPACING = 0.01;
+    private static final int MAX_DISTANCE = 10;
+    private static final int RING_INTERVAL = 5;
+    private static final int LOCAL_LINE_LENGTH = 30;
+    private static final int TRUNK_INTERVAL = 3;
+    private static final int EXPRESS_SURCHARGE = 900;
+    private static final int EXPRESS_STEP = 3;
+
+    public Set<Section> createSections(int stationCount, long seed) {
+        Station[] stations = new Station[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            double[] position = positionOf(i, stationCount);
+            stations[i] = new Station("역" + i, BASE_LATITUDE + position[0] * SPACING,
+                BASE_LONGITUDE + position[1] * SPACING);
+        }
+        Set<Section> sections = new HashSet<>();
+        for (Line line : createLines(stations, new Random(seed))) {
+            sections.addAll(line.getSections().getSections());
+        }
+        return sections;
+    }
+
+    abstract List<Line> createLines(Station[] stations, Random random);
+
+    double[] positionOf(int index, int stationCount) {
+        int side = sideOf(stationCount);
+        return new double[] {index / side, index % side};
+    }
+
+    private static Line createLine(String name, Station[] stations, int[] path, int surcharge, Random random) {
+        Line line = new Line(name, "bg-gray-600", surcharge, stations[path[0]], stations[path[1]],
+            randomDistance(random));
+        for (int i = 2; i < path.length; i++) {
+            line.addSection(new Section(line, stations[path[i - 1]], stations[path[i]], randomDistance(random)));
+        }
+        return line;
+    }
+
+    private static int randomDistance(Random random) {
+        return 1 + random.nextInt(MAX_DISTANCE);
+    }
+
+    private static int sideOf(int stationCount) {
+        return (int) Math.floor(Math.sqrt(stationCount));
+    }
+
+    private static int spokesOf(int stationCount) {
+        return Math.max(4, sideOf(stationCount) / 2);
+    }
+
+    private static int[] gridRow(int side, int row, int from, int to) {
+        int[] path = new int[to - from];
+        for (int column = from; column < to; column++) {
+            path[column - from] = row * side + column;
+        }
+        return path;
+    }
+
+    private static int[] gridColumn(int side, int column) {
+        int[] path = new int[side];
+        for (int row = 0; row < side; row++) {
+            path[row] = row * side + column;
+        }
+        return path;
+    }
+
+    private static int radialIndex(int depth, int spoke, int level) {
+        return 1 + spoke * depth + level - 1;
+    }
+
+    private static int[] expressPath(int side, Random random) {
+        int row = random.nextInt(side);
+        int column = random.nextInt(side);
+        int rowStep = random.nextBoolean() ? EXPRESS_STEP : -EXPRESS_STEP;
+        int columnStep = random.nextBoolean() ? EXPRESS_STEP : -EXPRESS_STEP;
+        List<Integer> path = new ArrayList<>();
+        while (row >= 0 && row < side && column >= 0 && column < side) {
+            path.add(row * side + column);
+            if (random.nextBoolean()) {
+                row += rowStep;
+            } else {
+                column += columnStep;
+            }
+        }
+        return path.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -8,6 +8,8 @@ import com.google.common.collect.Lists;
 
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.line.domain.NetworkRevisionRepository;
 import nextstep.subway.member.domain.Member;
 import nextstep.subway.member.domain.MemberRepository;
 import nextstep.subway.station.domain.Station;
@@ -17,24 +19,28 @@ import nextstep.subway.station.domain.Station;
 public class DataLoaderConfig implements CommandLineRunner {
     private LineRepository lineRepository;
     private MemberRepository memberRepository;
+    private NetworkRevisionRepository networkRevisionRepository;
 
-    public DataLoaderConfig(LineRepository lineRepository, MemberRepository memberRepository) {
+    public DataLoaderConfig(LineRepository lineRepository, MemberRepository memberRepository,
+        NetworkRevisionRepository networkRevisionRepository) {
         this.lineRepository = lineRepository;
         this.memberRepository = memberRepository;
+        this.networkRevisionRepository = networkRevisionRepository;
     }
 
     @Override
     public void run(String... args) throws Exception {
-        Station 강남역 = new Station("강남역");
-        Station 교대역 = new Station("교대역");
-        Station 양재역 = new Station("양재역");
-        Station 남부터미널역 = new Station("남부터미널역");
+        Station 강남역 = new Station("강남역", 37.497952, 127.027619);
+        Station 교대역 = new Station("교대역", 37.493415, 127.014080);
+        Station 양재역 = new Station("양재역", 37.484147, 127.034631);
+        Station 남부터미널역 = new Station("남부터미널역", 37.485013, 127.016189);
 
         Line 신분당선 = new Line("신분당선", "red lighten-1", 0, 강남역, 양재역, 10);
         Line 이호선 = new Line("2호선", "green lighten-1", 0, 교대역, 강남역, 10);
         Line 삼호선 = new Line("3호선", "orange darken-1", 0, 교대역, 양재역, 10);
 
         lineRepository.saveAll(Lists.newArrayList(신분당선, 이호선, 삼호선));
+        networkRevisionRepository.save(NetworkRevision.create());
 
         memberRepository.save(new Member("probitanima11@gmail.com", "11", 10));
     }
@@ -0,0 +1,169 @@
+package nextstep.subway;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import nextstep.subway.line.domain.NetworkRevision;
+
+@Component
+@Profile("synthetic")
+public class SyntheticDataLoaderConfig implements CommandLineRunner {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoaderConfig.class);
+    private static final String STATION_PREFIX = "합성역";
+    private static final String LINE_SUFFIX = "호선";
+    private static final String LINE_PREFIX = "합성";
+    private static final String MEMBER_PREFIX = "synthetic";
+    private static final String MEMBER_DOMAIN = "@nextstep.com";
+    private static final String MEMBER_PASSWORD = "password";
+    private static final String[] COLORS = {"bg-red-600", "bg-green-600", "bg-orange-600", "bg-blue-600",
+        "bg-purple-600", "bg-yellow-600", "bg-gray-600", "bg-pink-600"};
+    private static final int[] HEADWAYS = {3, 5, 8, 10, 15};
+    private static final int MIN_AGE = 5;
+    private static final int MAX_AGE = 70;
+    private static final int MINUTES_PER_DISTANCE = 2;
+    private static final LocalTime FIRST_DEPARTURE_TIME = LocalTime.of(5, 30);
+    private static final LocalTime LAST_DEPARTURE_TIME = LocalTime.of(23, 30);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int stationCount;
+    private final int lineCount;
+    private final int memberCount;
+    private final int favoritesPerMember;
+    private final long seed;
+    private final int batchSize;
+
+    public SyntheticDataLoaderConfig(JdbcTemplate jdbcTemplate,
+        @Value("${subway.synthetic.station-count:3000}") int stationCount,
+        @Value("${subway.synthetic.line-count:200}") int lineCount,
+        @Value("${subway.synthetic.member-count:100}") int memberCount,
+        @Value("${subway.synthetic.favorites-per-member:20}") int favoritesPerMember,
+        @Value("${subway.synthetic.seed:1}") long seed,
+        @Value("${subway.synthetic.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stationCount = stationCount;
+        this.lineCount = lineCount;
+        this.memberCount = memberCount;
+        this.favoritesPerMember = favoritesPerMember;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        long startedAt = System.currentTimeMillis();
+        SyntheticNetworkLayout layout = SyntheticNetworkLayout.of(stationCount, lineCount, seed);
+        Random random = new Random(seed);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long[] stationIds = insertStations(layout, now);
+        long[] lineIds = insertLines(layout, random, now);
+        int sectionCount = insertSections(layout, stationIds, lineIds);
+        long[] memberIds = insertMembers(random, now);
+        insertFavorites(memberIds, stationIds, random);
+        resetRevision();
+
+        log.info("synthetic network loaded in {} ms: {} stations, {} lines, {} sections, {} members",
+            System.currentTimeMillis() - startedAt, stationIds.length, lineIds.length, sectionCount,
+            memberIds.length);
+    }
+
+    private long[] insertStations(SyntheticNetworkLayout layout, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(layout.getStationCount());
+        for (int station = 0; station < layout.getStationCount(); station++) {
+            rows.add(new Object[] {STATION_PREFIX + station, layout.getLatitude(station),
+                layout.getLongitude(station), now, now});
+        }
+        batchUpdate("insert into station (name, latitude, longitude, created_date, modified_date) "
+            + "values (?, ?, ?, ?, ?)", rows);
+        return findIds("select id, name from station where name like ?", STATION_PREFIX,
+            layout.getStationCount(), name -> Integer.parseInt(name.substring(STATION_PREFIX.length())));
+    }
+
+    private long[] insertLines(SyntheticNetworkLayout layout, Random random, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(layout.getLines().size());
+        for (int line = 0; line < layout.getLines().size(); line++) {
+            rows.add(new Object[] {LINE_PREFIX + line + LINE_SUFFIX, COLORS[random.nextInt(COLORS.length)],
+                layout.getSurcharge(line), Time.valueOf(FIRST_DEPARTURE_TIME), Time.valueOf(LAST_DEPARTURE_TIME),
+                HEADWAYS[random.nextInt(HEADWAYS.length)], now, now});
+        }
+        batchUpdate("insert into line (name, color, surcharge, first_departure_time, last_departure_time, "
+            + "headway, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return findIds("select id, name from line where name like ?", LINE_PREFIX, layout.getLines().size(),
+            name -> Integer.parseInt(name.substring(LINE_PREFIX.length(), name.length() - LINE_SUFFIX.length())));
+    }
+
+    private int insertSections(SyntheticNetworkLayout layout, long[] stationIds, long[] lineIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int line = 0; line < layout.getLines().size(); line++) {
+            int[] path = layout.getLines().get(line);
+            for (int i = 1; i < path.length; i++) {
+                int distance = layout.getDistance(path[i - 1], path[i]);
+                rows.add(new Object[] {lineIds[line], stationIds[path[i - 1]], stationIds[path[i]], distance,
+                    distance * MINUTES_PER_DISTANCE});
+            }
+        }
+        batchUpdate("insert into section (line_id, up_station_id, down_station_id, distance, duration) "
+            + "values (?, ?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private long[] insertMembers(Random random, Timestamp now) {
+        List<Object[]> rows = new ArrayList<>(memberCount);
+        for (int member = 0; member < memberCount; member++) {
+            rows.add(new Object[] {MEMBER_PREFIX + member + MEMBER_DOMAIN, MEMBER_PASSWORD,
+                MIN_AGE + random.nextInt(MAX_AGE - MIN_AGE), now, now});
+        }
+        batchUpdate("insert into member (email, password, age, created_date, modified_date) "
+            + "values (?, ?, ?, ?, ?)", rows);
+        return findIds("select id, email from member where email like ?", MEMBER_PREFIX, memberCount,
+            email -> Integer.parseInt(email.substring(MEMBER_PREFIX.length(), email.indexOf(MEMBER_DOMAIN))));
+    }
+
+    private void insertFavorites(long[] memberIds, long[] stationIds, Random random) {
+        List<Object[]> rows = new ArrayList<>(memberIds.length * favoritesPerMember);
+        for (long memberId : memberIds) {
+            for (int favorite = 0; favorite < favoritesPerMember; favorite++) {
+                int source = random.nextInt(stationIds.length);
+                int target = (source + 1 + random.nextInt(stationIds.length - 1)) % stationIds.length;
+                rows.add(new Object[] {memberId, stationIds[source], stationIds[target]});
+            }
+        }
+        batchUpdate("insert into favorite (member_id, source_id, target_id) values (?, ?, ?)", rows);
+    }
+
+    private void resetRevision() {
+        NetworkRevision revision = NetworkRevision.create();
+        jdbcTemplate.update("merge into network_revision (id, epoch, revision) key (id) values (?, ?, ?)",
+            NetworkRevision.ID, revision.getEpoch(), revision.getRevision());
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    private long[] findIds(String sql, String prefix, int count, ToIntFunction<String> indexParser) {
+        long[] ids = new long[count];
+        jdbcTemplate.query(sql, resultSet -> {
+            ids[indexParser.applyAsInt(resultSet.getString(2))] = resultSet.getLong(1);
+        }, prefix + "%");
+        return ids;
+    }
+}
@@ -0,0 +1,168 @@
+package nextstep.subway;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import nextstep.subway.path.domain.GeoDistance;
+
+public class SyntheticNetworkLayout {
+    private static final double BASE_LATITUDE = 37.40;
+    private static final double BASE_LONGITUDE = 126.80;
+    private static final double LATITUDE_SPACING = 0.009;
+    private static final double LONGITUDE_SPACING = 0.011;
+    private static final double JITTER = 0.3;
+    private static final double STATIONS_PER_LINE_FACTOR = 1.4;
+    private static final double UNCOVERED_PREFERENCE = 0.8;
+    private static final double STRAIGHT_PREFERENCE = 0.6;
+    private static final double SURCHARGED_LINE_RATIO = 0.1;
+    private static final int START_ATTEMPTS = 16;
+    private static final int[] SURCHARGES = {300, 500, 900};
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final List<int[]> lines;
+    private final int[] surcharges;
+
+    private SyntheticNetworkLayout(double[] latitudes, double[] longitudes, List<int[]> lines, int[] surcharges) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.lines = lines;
+        this.surcharges = surcharges;
+    }
+
+    public static SyntheticNetworkLayout of(int stationCount, int lineCount, long seed) {
+        if (stationCount < 2 || lineCount < 1) {
+            throw new IllegalArgumentException("synthetic network needs at least 2 stations and 1 line");
+        }
+        Random random = new Random(seed);
+        int side = (int) Math.ceil(Math.sqrt(stationCount));
+        double[] latitudes = new double[stationCount];
+        double[] longitudes = new double[stationCount];
+        for (int station = 0; station < stationCount; station++) {
+            latitudes[station] = BASE_LATITUDE
+                + (station / side + (random.nextDouble() - 0.5) * JITTER) * LATITUDE_SPACING;
+            longitudes[station] = BASE_LONGITUDE
+                + (station % side + (random.nextDouble() - 0.5) * JITTER) * LONGITUDE_SPACING;
+        }
+
+        int lineLength = (int) Math.min(stationCount,
+            Math.max(2, Math.round(stationCount * STATIONS_PER_LINE_FACTOR / lineCount)));
+        boolean[] covered = new boolean[stationCount];
+        List<Integer> coveredStations = new ArrayList<>();
+        List<int[]> lines = new ArrayList<>(lineCount);
+        int[] surcharges = new int[lineCount];
+        for (int line = 0; line < lineCount; line++) {
+            int start = selectStart(side, stationCount, coveredStations, covered, random);
+            int[] path = walk(side, stationCount, start, lineLength, covered, random);
+            for (int station : path) {
+                if (!covered[station]) {
+                    covered[station] = true;
+                    coveredStations.add(station);
+                }
+            }
+            lines.add(path);
+            if (random.nextDouble() < SURCHARGED_LINE_RATIO) {
+                surcharges[line] = SURCHARGES[random.nextInt(SURCHARGES.length)];
+            }
+        }
+        return new SyntheticNetworkLayout(latitudes, longitudes, lines, surcharges);
+    }
+
+    private static int selectStart(int side, int stationCount, List<Integer> coveredStations, boolean[] covered,
+        Random random) {
+        if (coveredStations.isEmpty()) {
+            return random.nextInt(stationCount);
+        }
+        int start = coveredStations.get(random.nextInt(coveredStations.size()));
+        for (int attempt = 1; attempt < START_ATTEMPTS && !hasUncoveredNeighbor(side, stationCount, start, covered);
+            attempt++) {
+            start = coveredStations.get(random.nextInt(coveredStations.size()));
+        }
+        return start;
+    }
+
+    private static boolean hasUncoveredNeighbor(int side, int stationCount, int station, boolean[] covered) {
+        for (int[] direction : DIRECTIONS) {
+            int neighbor = neighborOf(side, stationCount, station, direction);
+            if (neighbor >= 0 && !covered[neighbor]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] walk(int side, int stationCount, int start, int length, boolean[] covered, Random random) {
+        List<Integer> path = new ArrayList<>(length);
+        Set<Integer> visited = new HashSet<>();
+        path.add(start);
+        visited.add(start);
+        int direction = random.nextInt(DIRECTIONS.length);
+        while (path.size() < length) {
+            int current = path.get(path.size() - 1);
+            List<Integer> candidates = new ArrayList<>();
+            List<Integer> uncovered = new ArrayList<>();
+            for (int next = 0; next < DIRECTIONS.length; next++) {
+                int neighbor = neighborOf(side, stationCount, current, DIRECTIONS[next]);
+                if (neighbor >= 0 && !visited.contains(neighbor)) {
+                    candidates.add(next);
+                    if (!covered[neighbor]) {
+                        uncovered.add(next);
+                    }
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            List<Integer> pool = !uncovered.isEmpty() && random.nextDouble() < UNCOVERED_PREFERENCE
+                ? uncovered : candidates;
+            if (!pool.contains(direction) || random.nextDouble() >= STRAIGHT_PREFERENCE) {
+                direction = pool.get(random.nextInt(pool.size()));
+            }
+            int next = neighborOf(side, stationCount, current, DIRECTIONS[direction]);
+            path.add(next);
+            visited.add(next);
+        }
+        return path.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int neighborOf(int side, int stationCount, int station, int[] direction) {
+        int row = station / side + direction[0];
+        int column = station % side + direction[1];
+        int neighbor = row * side + column;
+        if (row < 0 || column < 0 || column >= side || neighbor >= stationCount) {
+            return -1;
+        }
+        return neighbor;
+    }
+
+    public int getStationCount() {
+        return latitudes.length;
+    }
+
+    public double getLatitude(int station) {
+        return latitudes[station];
+    }
+
+    public double getLongitude(int station) {
+        return longitudes[station];
+    }
+
+    public List<int[]> getLines() {
+        return Collections.unmodifiableList(lines);
+    }
+
+    public int getSurcharge(int line) {
+        return surcharges[line];
+    }
+
+    public int getDistance(int station, int other) {
+        double kilometers = GeoDistance.kilometersBetween(latitudes[station], longitudes[station],
+            latitudes[other], longitudes[other]);
+        return Math.max(1, (int) Math.ceil(kilometers));
+    }
+}
@@ -1,16 +1,17 @@
 package nextstep.subway.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import nextstep.subway.path.domain.GraphPathFinder;
 import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.PathFinderType;
 
 @Configuration
 public class AppConfig {
 
     @Bean
-    public PathFinder pathFinder() {
-        return new GraphPathFinder();
+    public PathFinder pathFinder(@Value("${subway.path.finder:GRAPH}") PathFinderType pathFinderType) {
+        return pathFinderType.create();
     }
 }
@@ -0,0 +1,36 @@
+package nextstep.subway.event;
+
+import java.util.Objects;
+
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.line.domain.SectionDelta;
+
+public class SubwayNetworkChangedEvent {
+    private final SectionDelta delta;
+    private final NetworkRevision revision;
+
+    public SubwayNetworkChangedEvent() {
+        this(null, NetworkRevision.none());
+    }
+
+    private SubwayNetworkChangedEvent(SectionDelta delta, NetworkRevision revision) {
+        this.delta = delta;
+        this.revision = revision;
+    }
+
+    public static SubwayNetworkChangedEvent of(SectionDelta delta, NetworkRevision revision) {
+        return new SubwayNetworkChangedEvent(delta, revision);
+    }
+
+    public boolean isIncremental() {
+        return Objects.nonNull(delta);
+    }
+
+    public SectionDelta getDelta() {
+        return delta;
+    }
+
+    public NetworkRevision getRevision() {
+        return revision;
+    }
+}
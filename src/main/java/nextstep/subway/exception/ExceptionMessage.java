@@ -2,6 +2,7 @@ package nextstep.subway.exception;
 
 public enum ExceptionMessage {
     LESS_THAN_DISTANCE_BETWEEN_STATION("역과 역 사이의 거리보다 좁은 거리를 입력해주세요."),
+    LESS_THAN_DURATION_BETWEEN_STATION("역과 역 사이의 소요 시간보다 짧은 소요 시간을 입력해주세요."),
     ALREADY_ADD_SECTION("이미 등록된 구간 입니다."),
     NOT_POSSIBLE_ADD_SECTION("등록할 수 없는 구간 입니다."),
     NOT_REMOVE_SECTION_MIN_SIZE("구간이 하나인 경우 구간을 제거할 수 없습니다."),
@@ -9,6 +10,10 @@ public enum ExceptionMessage {
     NOT_FOUND_DATA("데이터를 찾을 수 없습니다."),
     SAME_STATION("출발역과 도착역이 같습니다."),
     NOT_EXIST_STATION("해당역이 존재하지 않습니다"),
+    NOT_CONNECTED_STATION("출발역과 도착역이 연결되어 있지 않습니다."),
+    INVALID_TRANSFER_PENALTY("환승 벌점은 0 이상 10000 이하로 입력해주세요."),
+    NO_PATHS("조회할 경로를 입력해주세요."),
+    TOO_MANY_PATHS("한 번에 조회할 수 있는 경로 수를 초과했습니다."),
     WRONG_TOKEN("유효하지 않은 토큰입니다."),
     WRONG_AUTH("잘못된 인증 정보 입니다.");
 
@@ -4,16 +4,22 @@ import static nextstep.subway.exception.ExceptionMessage.*;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import nextstep.subway.event.SubwayNetworkChangedEvent;
 import nextstep.subway.exception.BadRequestException;
 import nextstep.subway.line.domain.Line;
 import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.line.domain.NetworkRevisionRepository;
 import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
 import nextstep.subway.line.dto.SectionRequest;
@@ -25,17 +31,25 @@ import nextstep.subway.station.dto.StationResponse;
 public class LineService {
     private final LineRepository lineRepository;
     private final StationService stationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NetworkRevisionRepository networkRevisionRepository;
 
-    public LineService(LineRepository lineRepository, StationService stationService) {
+    public LineService(LineRepository lineRepository, StationService stationService,
+        ApplicationEventPublisher eventPublisher, NetworkRevisionRepository networkRevisionRepository) {
         this.lineRepository = lineRepository;
         this.stationService = stationService;
+        this.eventPublisher = eventPublisher;
+        this.networkRevisionRepository = networkRevisionRepository;
     }
 
     @Transactional
     public LineResponse saveLine(LineRequest request) {
+        NetworkRevision revision = increaseRevision();
         Station upStation = stationService.findStationById(request.getUpStationId());
         Station downStation = stationService.findStationById(request.getDownStationId());
         Line persistLine = lineRepository.save(request.toLine(upStation, downStation));
+        eventPublisher.publishEvent(
+            SubwayNetworkChangedEvent.of(SectionDelta.added(persistLine.getSections().getSections()), revision));
         List<StationResponse> stations = convertToStationResponses(persistLine.getStations());
         return LineResponse.of(persistLine, stations);
     }
@@ -58,12 +72,22 @@ public class LineService {
         return allSection;
     }
 
+    @Transactional(readOnly = true)
+    public Optional<NetworkRevision> findRevision() {
+        return networkRevisionRepository.findById(NetworkRevision.ID);
+    }
+
     @Transactional(readOnly = true)
     public Line findLineById(Long id) {
         return lineRepository.findById(id)
             .orElseThrow(() -> new BadRequestException(NOT_FOUND_DATA));
     }
 
+    @Transactional(readOnly = true)
+    public List<Line> findLinesByIds(List<Long> ids) {
+        return lineRepository.findAllById(ids);
+    }
+
     @Transactional(readOnly = true)
     public LineResponse findLineResponseById(Long id) {
         Line persistLine = findLineById(id);
@@ -73,30 +97,50 @@ public class LineService {
 
     @Transactional
     public void updateLine(Long id, LineRequest lineUpdateRequest) {
+        increaseRevision();
         Line persistLine = lineRepository.findById(id)
             .orElseThrow(() -> new BadRequestException(NOT_FOUND_DATA));
         persistLine.update(new Line(lineUpdateRequest.getName(), lineUpdateRequest.getColor(),
             lineUpdateRequest.getSurcharge()));
+        if (lineUpdateRequest.hasSchedule()) {
+            persistLine.updateSchedule(lineUpdateRequest.toSchedule());
+        }
+        eventPublisher.publishEvent(new SubwayNetworkChangedEvent());
     }
 
     @Transactional
     public void deleteLineById(Long id) {
-        lineRepository.deleteById(id);
+        NetworkRevision revision = increaseRevision();
+        Line persistLine = findLineById(id);
+        SectionDelta delta = SectionDelta.lineRemoved(persistLine.getSections().getSections());
+        lineRepository.delete(persistLine);
+        eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(delta, revision));
     }
 
     @Transactional
     public void addSection(Long lineId, SectionRequest request) {
+        NetworkRevision revision = increaseRevision();
         Line line = findLineById(lineId);
         Station upStation = stationService.findStationById(request.getUpStationId());
         Station downStation = stationService.findStationById(request.getDownStationId());
-        line.addSection(new Section(line, upStation, downStation, request.getDistance()));
+        SectionDelta delta = line.addSection(new Section(line, upStation, downStation, request.getDistance(),
+            request.getDurationOrDefault()));
+        eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(delta, revision));
     }
 
     @Transactional
     public void removeSection(Long lineId, Long stationId) {
+        NetworkRevision revision = increaseRevision();
         Line line = findLineById(lineId);
         Station station = stationService.findStationById(stationId);
-        line.removeSection(station);
+        SectionDelta delta = line.removeSection(station);
+        eventPublisher.publishEvent(SubwayNetworkChangedEvent.of(delta, revision));
+    }
+
+    private NetworkRevision increaseRevision() {
+        NetworkRevision revision = networkRevisionRepository.findForUpdate(NetworkRevision.ID)
+            .orElseGet(() -> networkRevisionRepository.save(NetworkRevision.create()));
+        return revision.increase();
     }
 
     private List<StationResponse> convertToStationResponses(List<Station> stations) {
@@ -26,6 +26,9 @@ public class Line extends BaseEntity {
 
     private int surcharge;
 
+    @Embedded
+    private LineSchedule schedule = LineSchedule.defaultSchedule();
+
     @Embedded
     private final Sections sections = new Sections();
 
@@ -74,6 +77,14 @@ public class Line extends BaseEntity {
         return surcharge;
     }
 
+    public void updateSchedule(LineSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    public LineSchedule getSchedule() {
+        return schedule;
+    }
+
     public Sections getSections() {
         return sections;
     }
@@ -82,12 +93,12 @@ public class Line extends BaseEntity {
         return sections.getStations();
     }
 
-    public void addSection(Section section) {
-        sections.addSection(section);
+    public SectionDelta addSection(Section section) {
+        return sections.addSection(section);
     }
 
-    public void removeSection(Station station) {
-        sections.removeSection(station);
+    public SectionDelta removeSection(Station station) {
+        return sections.removeSection(station);
     }
 
     public Set<Section> collectNonDuplicatedSection(Set<Section> allSection) {
@@ -0,0 +1,50 @@
+package nextstep.subway.line.domain;
+
+import java.time.LocalTime;
+import java.util.Objects;
+
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class LineSchedule {
+    private static final LocalTime DEFAULT_FIRST_DEPARTURE_TIME = LocalTime.of(5, 30);
+    private static final LocalTime DEFAULT_LAST_DEPARTURE_TIME = LocalTime.of(23, 30);
+    private static final int DEFAULT_HEADWAY = 10;
+    private static final int MIN_HEADWAY = 1;
+
+    private LocalTime firstDepartureTime;
+    private LocalTime lastDepartureTime;
+    private int headway;
+
+    protected LineSchedule() {
+    }
+
+    private LineSchedule(LocalTime firstDepartureTime, LocalTime lastDepartureTime, int headway) {
+        this.firstDepartureTime = firstDepartureTime;
+        this.lastDepartureTime = lastDepartureTime;
+        this.headway = Math.max(headway, MIN_HEADWAY);
+    }
+
+    public static LineSchedule defaultSchedule() {
+        return new LineSchedule(DEFAULT_FIRST_DEPARTURE_TIME, DEFAULT_LAST_DEPARTURE_TIME, DEFAULT_HEADWAY);
+    }
+
+    public static LineSchedule of(LocalTime firstDepartureTime, LocalTime lastDepartureTime, Integer headway) {
+        return new LineSchedule(
+            Objects.isNull(firstDepartureTime) ? DEFAULT_FIRST_DEPARTURE_TIME : firstDepartureTime,
+            Objects.isNull(lastDepartureTime) ? DEFAULT_LAST_DEPARTURE_TIME : lastDepartureTime,
+            Objects.isNull(headway) ? DEFAULT_HEADWAY : headway);
+    }
+
+    public LocalTime getFirstDepartureTime() {
+        return firstDepartureTime;
+    }
+
+    public LocalTime getLastDepartureTime() {
+        return lastDepartureTime;
+    }
+
+    public int getHeadway() {
+        return headway;
+    }
+}
@@ -0,0 +1,84 @@
+package nextstep.subway.line.domain;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class NetworkRevision {
+    public static final Long ID = 1L;
+    private static final long NO_EPOCH = 0L;
+    private static final SecureRandom EPOCHS = new SecureRandom();
+
+    @Id
+    private Long id;
+    private long epoch;
+    private long revision;
+
+    public NetworkRevision() {
+    }
+
+    private NetworkRevision(Long id, long epoch, long revision) {
+        this.id = id;
+        this.epoch = epoch;
+        this.revision = revision;
+    }
+
+    public static NetworkRevision create() {
+        long epoch = EPOCHS.nextLong();
+        return new NetworkRevision(ID, epoch == NO_EPOCH ? 1L : epoch, 0L);
+    }
+
+    public static NetworkRevision none() {
+        return new NetworkRevision(null, NO_EPOCH, 0L);
+    }
+
+    public static NetworkRevision of(long epoch, long revision) {
+        return new NetworkRevision(ID, epoch, revision);
+    }
+
+    public NetworkRevision increase() {
+        revision++;
+        return of(epoch, revision);
+    }
+
+    public boolean exists() {
+        return epoch != NO_EPOCH;
+    }
+
+    public boolean follows(NetworkRevision previous) {
+        return epoch == previous.epoch && revision == previous.revision + 1;
+    }
+
+    public boolean isIncludedIn(NetworkRevision current) {
+        return epoch == current.epoch && revision <= current.revision;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NetworkRevision that = (NetworkRevision) o;
+        return epoch == that.epoch && revision == that.revision;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(epoch, revision);
+    }
+
+    @Override
+    public String toString() {
+        return epoch + ":" + revision;
+    }
+}
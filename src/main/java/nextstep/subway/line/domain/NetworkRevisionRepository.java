@@ -0,0 +1,16 @@
+package nextstep.subway.line.domain;
+
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NetworkRevisionRepository extends JpaRepository<NetworkRevision, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from NetworkRevision r where r.id = :id")
+    Optional<NetworkRevision> findForUpdate(@Param("id") Long id);
+}
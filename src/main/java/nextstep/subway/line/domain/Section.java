@@ -15,6 +15,8 @@ import nextstep.subway.station.domain.Station;
 
 @Entity
 public class Section {
+    private static final int MIN_DURATION = 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,14 +35,21 @@ public class Section {
 
     private int distance;
 
+    private int duration;
+
     public Section() {
     }
 
     public Section(Line line, Station upStation, Station downStation, int distance) {
+        this(line, upStation, downStation, distance, distance);
+    }
+
+    public Section(Line line, Station upStation, Station downStation, int distance, int duration) {
         this.line = line;
         this.upStation = upStation;
         this.downStation = downStation;
         this.distance = distance;
+        this.duration = Math.max(duration, MIN_DURATION);
     }
 
     public Long getId() {
@@ -63,19 +72,30 @@ public class Section {
         return distance;
     }
 
-    public void updateUpStation(Station station, int newDistance) {
-        if (this.distance <= newDistance) {
-            throw new BadRequestException(LESS_THAN_DISTANCE_BETWEEN_STATION);
-        }
+    public int getDuration() {
+        return duration;
+    }
+
+    public void updateUpStation(Station station, int newDistance, int newDuration) {
+        validateSplit(newDistance, newDuration);
         this.upStation = station;
         this.distance -= newDistance;
+        this.duration -= newDuration;
+    }
+
+    public void updateDownStation(Station station, int newDistance, int newDuration) {
+        validateSplit(newDistance, newDuration);
+        this.downStation = station;
+        this.distance -= newDistance;
+        this.duration -= newDuration;
     }
 
-    public void updateDownStation(Station station, int newDistance) {
+    private void validateSplit(int newDistance, int newDuration) {
         if (this.distance <= newDistance) {
             throw new BadRequestException(LESS_THAN_DISTANCE_BETWEEN_STATION);
         }
-        this.downStation = station;
-        this.distance -= newDistance;
+        if (this.duration <= newDuration) {
+            throw new BadRequestException(LESS_THAN_DURATION_BETWEEN_STATION);
+        }
     }
 }
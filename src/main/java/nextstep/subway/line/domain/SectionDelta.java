@@ -0,0 +1,60 @@
+package nextstep.subway.line.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class SectionDelta {
+    private final SectionDeltaType type;
+    private final List<SectionSnapshot> removedSections;
+    private final List<SectionSnapshot> addedSections;
+
+    private SectionDelta(SectionDeltaType type, List<SectionSnapshot> removedSections,
+        List<SectionSnapshot> addedSections) {
+        this.type = type;
+        this.removedSections = Collections.unmodifiableList(removedSections);
+        this.addedSections = Collections.unmodifiableList(addedSections);
+    }
+
+    public static SectionDelta added(List<Section> sections) {
+        return new SectionDelta(SectionDeltaType.ADDED, Collections.emptyList(), snapshots(sections));
+    }
+
+    public static SectionDelta split(SectionSnapshot original, Section shortened, Section inserted) {
+        return new SectionDelta(SectionDeltaType.SPLIT, Collections.singletonList(original),
+            snapshots(Arrays.asList(shortened, inserted)));
+    }
+
+    public static SectionDelta merged(List<Section> sections, Section connected) {
+        return new SectionDelta(SectionDeltaType.MERGED, snapshots(sections),
+            Collections.singletonList(SectionSnapshot.of(connected)));
+    }
+
+    public static SectionDelta removed(Section section) {
+        return new SectionDelta(SectionDeltaType.REMOVED, Collections.singletonList(SectionSnapshot.of(section)),
+            Collections.emptyList());
+    }
+
+    public static SectionDelta lineRemoved(List<Section> sections) {
+        return new SectionDelta(SectionDeltaType.LINE_REMOVED, snapshots(sections), Collections.emptyList());
+    }
+
+    private static List<SectionSnapshot> snapshots(List<Section> sections) {
+        return sections.stream()
+            .map(SectionSnapshot::of)
+            .collect(Collectors.toList());
+    }
+
+    public SectionDeltaType getType() {
+        return type;
+    }
+
+    public List<SectionSnapshot> getRemovedSections() {
+        return removedSections;
+    }
+
+    public List<SectionSnapshot> getAddedSections() {
+        return addedSections;
+    }
+}
@@ -0,0 +1,9 @@
+package nextstep.subway.line.domain;
+
+public enum SectionDeltaType {
+    ADDED,
+    SPLIT,
+    MERGED,
+    REMOVED,
+    LINE_REMOVED
+}
@@ -0,0 +1,44 @@
+package nextstep.subway.line.domain;
+
+import nextstep.subway.station.domain.Station;
+
+public class SectionSnapshot {
+    private final Line line;
+    private final Station upStation;
+    private final Station downStation;
+    private final int distance;
+    private final int duration;
+
+    private SectionSnapshot(Line line, Station upStation, Station downStation, int distance, int duration) {
+        this.line = line;
+        this.upStation = upStation;
+        this.downStation = downStation;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public static SectionSnapshot of(Section section) {
+        return new SectionSnapshot(section.getLine(), section.getUpStation(), section.getDownStation(),
+            section.getDistance(), section.getDuration());
+    }
+
+    public Line getLine() {
+        return line;
+    }
+
+    public Station getUpStation() {
+        return upStation;
+    }
+
+    public Station getDownStation() {
+        return downStation;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+}
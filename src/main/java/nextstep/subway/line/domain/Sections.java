@@ -3,6 +3,7 @@ package nextstep.subway.line.domain;
 import static nextstep.subway.exception.ExceptionMessage.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -49,40 +50,47 @@ public class Sections {
         return stations;
     }
 
-    public void addSection(Section section) {
+    public SectionDelta addSection(Section section) {
         if (sections.isEmpty()) {
             sections.add(section);
-            return;
+            return SectionDelta.added(Collections.singletonList(section));
         }
         validateAddSection(section);
-        if (!addStationOfBetween(section)) {
-            sections.add(section);
-        }
+        return addStationOfBetween(section)
+            .orElseGet(() -> addTerminalSection(section));
     }
 
-    public void removeSection(Station station) {
+    public SectionDelta removeSection(Station station) {
         validateRemoveSection(station);
         Optional<Section> sectionOfUpStation = findSectionOfEqualUpStation(station);
         Optional<Section> sectionOfDownStation = findSectionOfEqualDownStation(station);
         if (sectionOfUpStation.isPresent() && sectionOfDownStation.isPresent()) {
-            addConnectSection(sectionOfUpStation.get(), sectionOfDownStation.get());
+            Section connectSection = addConnectSection(sectionOfUpStation.get(), sectionOfDownStation.get());
+            sections.remove(sectionOfUpStation.get());
+            sections.remove(sectionOfDownStation.get());
+            return SectionDelta.merged(Arrays.asList(sectionOfDownStation.get(), sectionOfUpStation.get()),
+                connectSection);
         }
-        sectionOfUpStation.ifPresent(it -> sections.remove(it));
-        sectionOfDownStation.ifPresent(it -> sections.remove(it));
+        Section removedSection = sectionOfUpStation.orElseGet(sectionOfDownStation::get);
+        sections.remove(removedSection);
+        return SectionDelta.removed(removedSection);
     }
 
-    private boolean addStationOfBetween(Section section) {
+    private Optional<SectionDelta> addStationOfBetween(Section section) {
         Optional<Section> sectionOfEqualUpStation = findSectionOfEqualUpStation(section.getUpStation());
         if (sectionOfEqualUpStation.isPresent()) {
-            addUpStationOfBetween(section, sectionOfEqualUpStation.get());
-            return true;
+            return Optional.of(addUpStationOfBetween(section, sectionOfEqualUpStation.get()));
         }
         Optional<Section> sectionOfEqualDownStation = findSectionOfEqualDownStation(section.getDownStation());
         if (sectionOfEqualDownStation.isPresent()) {
-            addDownStationOfBetween(section, sectionOfEqualDownStation.get());
-            return true;
+            return Optional.of(addDownStationOfBetween(section, sectionOfEqualDownStation.get()));
         }
-        return false;
+        return Optional.empty();
+    }
+
+    private SectionDelta addTerminalSection(Section section) {
+        sections.add(section);
+        return SectionDelta.added(Collections.singletonList(section));
     }
 
     private boolean isLastStation(Station station, Set<Station> upStations) {
@@ -122,14 +130,18 @@ public class Sections {
             .collect(Collectors.toSet());
     }
 
-    private void addUpStationOfBetween(Section section, Section findSection) {
-        findSection.updateUpStation(section.getDownStation(), section.getDistance());
+    private SectionDelta addUpStationOfBetween(Section section, Section findSection) {
+        SectionSnapshot original = SectionSnapshot.of(findSection);
+        findSection.updateUpStation(section.getDownStation(), section.getDistance(), section.getDuration());
         sections.add(section);
+        return SectionDelta.split(original, findSection, section);
     }
 
-    private void addDownStationOfBetween(Section section, Section findSection) {
-        findSection.updateDownStation(section.getUpStation(), section.getDistance());
+    private SectionDelta addDownStationOfBetween(Section section, Section findSection) {
+        SectionSnapshot original = SectionSnapshot.of(findSection);
+        findSection.updateDownStation(section.getUpStation(), section.getDistance(), section.getDuration());
         sections.add(section);
+        return SectionDelta.split(original, findSection, section);
     }
 
     private void validateAddSection(Section section) {
@@ -169,11 +181,15 @@ public class Sections {
         }
     }
 
-    private void addConnectSection(Section sectionOfUpStation, Section sectionOfDownStation) {
+    private Section addConnectSection(Section sectionOfUpStation, Section sectionOfDownStation) {
         Station newUpStation = sectionOfDownStation.getUpStation();
         Station newDownStation = sectionOfUpStation.getDownStation();
         int newDistance = sectionOfUpStation.getDistance() + sectionOfDownStation.getDistance();
-        sections.add(new Section(sectionOfUpStation.getLine(), newUpStation, newDownStation, newDistance));
+        int newDuration = sectionOfUpStation.getDuration() + sectionOfDownStation.getDuration();
+        Section connectSection = new Section(sectionOfUpStation.getLine(), newUpStation, newDownStation,
+            newDistance, newDuration);
+        sections.add(connectSection);
+        return connectSection;
     }
 
     private Optional<Section> findSectionOfEqualUpStation(Station station) {
@@ -1,6 +1,11 @@
 package nextstep.subway.line.dto;
 
+import java.time.LocalTime;
+import java.util.Objects;
+
 import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineSchedule;
+import nextstep.subway.line.domain.Section;
 import nextstep.subway.station.domain.Station;
 
 public class LineRequest {
@@ -10,6 +15,10 @@ public class LineRequest {
     private Long downStationId;
     private int distance;
     private int surcharge;
+    private Integer duration;
+    private LocalTime firstDepartureTime;
+    private LocalTime lastDepartureTime;
+    private Integer headway;
 
     public LineRequest() {
     }
@@ -23,6 +32,15 @@ public class LineRequest {
         this.distance = distance;
     }
 
+    public LineRequest(String name, String color, int surcharge, Long upStationId, Long downStationId, int distance,
+        Integer duration, LocalTime firstDepartureTime, LocalTime lastDepartureTime, Integer headway) {
+        this(name, color, surcharge, upStationId, downStationId, distance);
+        this.duration = duration;
+        this.firstDepartureTime = firstDepartureTime;
+        this.lastDepartureTime = lastDepartureTime;
+        this.headway = headway;
+    }
+
     public String getName() {
         return name;
     }
@@ -47,7 +65,35 @@ public class LineRequest {
         return surcharge;
     }
 
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public LocalTime getFirstDepartureTime() {
+        return firstDepartureTime;
+    }
+
+    public LocalTime getLastDepartureTime() {
+        return lastDepartureTime;
+    }
+
+    public Integer getHeadway() {
+        return headway;
+    }
+
+    public boolean hasSchedule() {
+        return Objects.nonNull(firstDepartureTime) || Objects.nonNull(lastDepartureTime) || Objects.nonNull(headway);
+    }
+
+    public LineSchedule toSchedule() {
+        return LineSchedule.of(firstDepartureTime, lastDepartureTime, headway);
+    }
+
     public Line toLine(Station upStation, Station downStation) {
-        return new Line(name, color, surcharge, upStation, downStation, distance);
+        Line line = new Line(name, color, surcharge);
+        line.addSection(new Section(line, upStation, downStation, distance,
+            Objects.isNull(duration) ? distance : duration));
+        line.updateSchedule(toSchedule());
+        return line;
     }
 }
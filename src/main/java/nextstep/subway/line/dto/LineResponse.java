@@ -4,6 +4,7 @@ import nextstep.subway.line.domain.Line;
 import nextstep.subway.station.dto.StationResponse;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 public class LineResponse {
@@ -11,6 +12,9 @@ public class LineResponse {
     private String name;
     private String color;
     private int surcharge;
+    private LocalTime firstDepartureTime;
+    private LocalTime lastDepartureTime;
+    private int headway;
     private List<StationResponse> stations;
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
@@ -18,12 +22,16 @@ public class LineResponse {
     public LineResponse() {
     }
 
-    public LineResponse(Long id, String name, String color, int surcharge,
-        List<StationResponse> stations, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+    public LineResponse(Long id, String name, String color, int surcharge, LocalTime firstDepartureTime,
+        LocalTime lastDepartureTime, int headway, List<StationResponse> stations, LocalDateTime createdDate,
+        LocalDateTime modifiedDate) {
         this.id = id;
         this.name = name;
         this.color = color;
         this.surcharge = surcharge;
+        this.firstDepartureTime = firstDepartureTime;
+        this.lastDepartureTime = lastDepartureTime;
+        this.headway = headway;
         this.stations = stations;
         this.createdDate = createdDate;
         this.modifiedDate = modifiedDate;
@@ -31,7 +39,8 @@ public class LineResponse {
 
     public static LineResponse of(Line line, List<StationResponse> stations) {
         return new LineResponse(line.getId(), line.getName(), line.getColor(), line.getSurcharge(),
-            stations, line.getCreatedDate(), line.getModifiedDate());
+            line.getSchedule().getFirstDepartureTime(), line.getSchedule().getLastDepartureTime(),
+            line.getSchedule().getHeadway(), stations, line.getCreatedDate(), line.getModifiedDate());
     }
 
     public Long getId() {
@@ -50,6 +59,18 @@ public class LineResponse {
         return surcharge;
     }
 
+    public LocalTime getFirstDepartureTime() {
+        return firstDepartureTime;
+    }
+
+    public LocalTime getLastDepartureTime() {
+        return lastDepartureTime;
+    }
+
+    public int getHeadway() {
+        return headway;
+    }
+
     public List<StationResponse> getStations() {
         return stations;
     }
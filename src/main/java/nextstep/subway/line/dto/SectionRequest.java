@@ -1,9 +1,12 @@
 package nextstep.subway.line.dto;
 
+import java.util.Objects;
+
 public class SectionRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private Integer duration;
 
     public SectionRequest() {
     }
@@ -14,6 +17,11 @@ public class SectionRequest {
         this.distance = distance;
     }
 
+    public SectionRequest(Long upStationId, Long downStationId, int distance, Integer duration) {
+        this(upStationId, downStationId, distance);
+        this.duration = duration;
+    }
+
     public Long getUpStationId() {
         return upStationId;
     }
@@ -25,4 +33,12 @@ public class SectionRequest {
     public int getDistance() {
         return distance;
     }
+
+    public Integer getDuration() {
+        return duration;
+    }
+
+    public int getDurationOrDefault() {
+        return Objects.isNull(duration) ? distance : duration;
+    }
 }
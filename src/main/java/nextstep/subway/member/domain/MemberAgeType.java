@@ -1,21 +1,24 @@
 package nextstep.subway.member.domain;
 
-import java.util.Arrays;
-import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 public enum MemberAgeType {
     NONE(age -> age < 6 || age >= 19),
     KID(age -> age >= 6 && age < 13),
     ADOLESCENT(age -> age >= 13 && age < 19);
 
-    private final Function<Integer, Boolean> expression;
+    private static final int LOOKUP_AGE_LIMIT = 20;
+    private static final MemberAgeType[] VALUES = values();
+    private static final MemberAgeType[] AGE_TYPES = createAgeTypes();
 
-    MemberAgeType(Function<Integer, Boolean> expression) {
+    private final IntPredicate expression;
+
+    MemberAgeType(IntPredicate expression) {
         this.expression = expression;
     }
 
     private boolean check(int age) {
-        return expression.apply(age);
+        return expression.test(age);
     }
 
     public boolean isNone() {
@@ -27,9 +30,26 @@ public enum MemberAgeType {
     }
 
     public static MemberAgeType getMemberAgeType(int age) {
-        return Arrays.stream(values())
-            .filter(ageType -> ageType.check(age))
-            .findFirst()
-            .orElse(NONE);
+        if (age >= 0 && age < AGE_TYPES.length) {
+            return AGE_TYPES[age];
+        }
+        return findMemberAgeType(age);
+    }
+
+    private static MemberAgeType[] createAgeTypes() {
+        MemberAgeType[] ageTypes = new MemberAgeType[LOOKUP_AGE_LIMIT];
+        for (int age = 0; age < ageTypes.length; age++) {
+            ageTypes[age] = findMemberAgeType(age);
+        }
+        return ageTypes;
+    }
+
+    private static MemberAgeType findMemberAgeType(int age) {
+        for (MemberAgeType ageType : VALUES) {
+            if (ageType.check(age)) {
+                return ageType;
+            }
+        }
+        return NONE;
     }
 }
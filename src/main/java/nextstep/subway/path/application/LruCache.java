@@ -0,0 +1,183 @@
+package nextstep.subway.path.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class LruCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private final long timeToLiveMillis;
+    private final LongSupplier clock;
+    private final List<Segment> segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LruCache(int maximumSize, Duration timeToLive) {
+        this(maximumSize, timeToLive, System::currentTimeMillis);
+    }
+
+    public LruCache(int maximumSize, Duration timeToLive, LongSupplier clock) {
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.clock = clock;
+        this.segments = createSegments(maximumSize);
+    }
+
+    private List<Segment> createSegments(int maximumSize) {
+        int count = 1;
+        while (count < MAX_SEGMENTS && count * 2 * MIN_SEGMENT_SIZE <= maximumSize) {
+            count *= 2;
+        }
+        List<Segment> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            created.add(new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0)));
+        }
+        return created;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        V cached = getIfPresent(key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        V value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    public V getIfPresent(K key) {
+        return getIfPresent(key, value -> true);
+    }
+
+    public V getIfPresent(K key, Predicate<V> usable) {
+        V value = segmentFor(key).get(key, clock.getAsLong());
+        if (Objects.isNull(value) || !usable.test(value)) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return value;
+    }
+
+    public void put(K key, V value) {
+        segmentFor(key).put(key, new CacheEntry<>(value, clock.getAsLong() + timeToLiveMillis));
+    }
+
+    public void updateAll(BiFunction<K, V, V> updater) {
+        for (Segment segment : segments) {
+            segment.updateAll(updater);
+        }
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (segments.size() - 1));
+    }
+
+    private class Segment {
+        private final Map<K, CacheEntry<V>> entries;
+
+        private Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                    if (size() > maximumSize) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized V get(K key, long now) {
+            CacheEntry<V> entry = entries.get(key);
+            if (Objects.isNull(entry)) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                evictionCount.increment();
+                return null;
+            }
+            return entry.value;
+        }
+
+        private synchronized void put(K key, CacheEntry<V> entry) {
+            entries.put(key, entry);
+        }
+
+        private synchronized void updateAll(BiFunction<K, V, V> updater) {
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                CacheEntry<V> current = entry.getValue();
+                V value = updater.apply(entry.getKey(), current.value);
+                if (Objects.isNull(value)) {
+                    iterator.remove();
+                    continue;
+                }
+                entry.setValue(new CacheEntry<>(value, current.expiresAt));
+            }
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CacheEntry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
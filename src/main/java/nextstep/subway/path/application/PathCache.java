@@ -0,0 +1,110 @@
+package nextstep.subway.path.application;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.domain.PathType;
+import nextstep.subway.path.domain.RouteRepair;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.path.dto.PathFinderResponse;
+
+@Component
+public class PathCache {
+
+    private final LruCache<RouteKey, CachedRoute> routes;
+    private volatile long routeVersion;
+
+    public PathCache(@Value("${subway.path.cache.size:1000}") int maximumSize,
+        @Value("${subway.path.cache.ttl-seconds:600}") long timeToLiveSeconds) {
+        this.routes = new LruCache<>(maximumSize, Duration.ofSeconds(timeToLiveSeconds));
+    }
+
+    public PathFinderResponse getRoute(SubwayNetwork network, PathType pathType, Long source, Long target,
+        Supplier<PathFinderResponse> finder) {
+        long version = network.getVersion();
+        invalidateRoutesBefore(version);
+        RouteKey key = new RouteKey(pathType, source, target);
+        CachedRoute cached = routes.getIfPresent(key, route -> route.version == version);
+        if (Objects.nonNull(cached)) {
+            return cached.route;
+        }
+        PathFinderResponse route = finder.get();
+        if (!route.isStale() && version == routeVersion) {
+            routes.put(key, new CachedRoute(version, route));
+        }
+        return route;
+    }
+
+    public synchronized void repairRoutes(SubwayNetwork previous, SubwayNetwork next, SectionDelta delta) {
+        if (routeVersion != previous.getVersion()) {
+            invalidateRoutesBefore(next.getVersion());
+            return;
+        }
+        RouteRepair repair = RouteRepair.of(previous.getSubwayGraph(), next.getSubwayGraph(), delta);
+        if (repair.isPreserving()) {
+            routes.updateAll((key, cached) -> cached.version != previous.getVersion() ? null
+                : repair.repair(cached.route).map(route -> new CachedRoute(next.getVersion(), route)).orElse(null));
+        } else {
+            routes.clear();
+        }
+        routeVersion = next.getVersion();
+    }
+
+    public LruCache<?, ?> getRoutes() {
+        return routes;
+    }
+
+    private void invalidateRoutesBefore(long version) {
+        if (version <= routeVersion) {
+            return;
+        }
+        synchronized (this) {
+            if (version > routeVersion) {
+                routes.clear();
+                routeVersion = version;
+            }
+        }
+    }
+
+    private static class CachedRoute {
+        private final long version;
+        private final PathFinderResponse route;
+
+        private CachedRoute(long version, PathFinderResponse route) {
+            this.version = version;
+            this.route = route;
+        }
+    }
+
+    private static class RouteKey {
+        private final PathType pathType;
+        private final Long source;
+        private final Long target;
+
+        private RouteKey(PathType pathType, Long source, Long target) {
+            this.pathType = pathType;
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RouteKey routeKey = (RouteKey) o;
+            return pathType == routeKey.pathType &&
+                    Objects.equals(source, routeKey.source) &&
+                    Objects.equals(target, routeKey.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(pathType, source, target);
+        }
+    }
+}
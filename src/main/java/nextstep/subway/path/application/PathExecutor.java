@@ -0,0 +1,58 @@
+package nextstep.subway.path.application;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PathExecutor implements Executor {
+    private static final String THREAD_NAME_PREFIX = "path-worker-";
+
+    private final ThreadPoolExecutor executor;
+
+    public PathExecutor(@Value("${subway.path.executor.threads:2}") int threads,
+        @Value("${subway.path.executor.queue-capacity:32}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            PathExecutor::rejectOrRunOnCaller);
+    }
+
+    private static void rejectOrRunOnCaller(Runnable runnable, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("path executor has been shut down");
+        }
+        runnable.run();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package nextstep.subway.path.application;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.SubwayGraph;
+
+@Component
+public class PathGauges {
+
+    private final SubwayNetworkService subwayNetworkService;
+
+    public PathGauges(MeterRegistry registry, SubwayNetworkService subwayNetworkService, PathCache pathCache,
+        PathExecutor pathExecutor, PathFinder pathFinder) {
+        this.subwayNetworkService = subwayNetworkService;
+        Gauge.builder("subway.path.network.version", subwayNetworkService,
+            service -> service.findNetwork().map(network -> (double) network.getVersion()).orElse(0.0))
+            .register(registry);
+        bindGraph(registry, "subway.path.graph.stations", SubwayGraph::size);
+        bindGraph(registry, "subway.path.graph.edges", SubwayGraph::getEdgeCount);
+
+        Gauge.builder("subway.path.finder.memory", pathFinder, PathFinder::getMemoryBytes)
+            .baseUnit("bytes")
+            .register(registry);
+
+        bindCache(registry, "route", pathCache.getRoutes());
+
+        Gauge.builder("subway.path.executor.active", pathExecutor, PathExecutor::getActiveCount)
+            .register(registry);
+        Gauge.builder("subway.path.executor.queued", pathExecutor, PathExecutor::getQueueSize)
+            .register(registry);
+    }
+
+    private void bindGraph(MeterRegistry registry, String name, ToDoubleFunction<SubwayGraph> size) {
+        Gauge.builder(name, subwayNetworkService,
+            service -> service.findNetwork().map(network -> size.applyAsDouble(network.getSubwayGraph())).orElse(0.0))
+            .register(registry);
+    }
+
+    private void bindCache(MeterRegistry registry, String cache, LruCache<?, ?> lruCache) {
+        Gauge.builder("subway.path.cache.size", lruCache, LruCache::size)
+            .tag("cache", cache)
+            .register(registry);
+        FunctionCounter.builder("subway.path.cache.hits", lruCache, LruCache::getHitCount)
+            .tag("cache", cache)
+            .register(registry);
+        FunctionCounter.builder("subway.path.cache.misses", lruCache, LruCache::getMissCount)
+            .tag("cache", cache)
+            .register(registry);
+        FunctionCounter.builder("subway.path.cache.evictions", lruCache, LruCache::getEvictionCount)
+            .tag("cache", cache)
+            .register(registry);
+    }
+}
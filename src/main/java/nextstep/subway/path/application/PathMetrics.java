@@ -0,0 +1,113 @@
+package nextstep.subway.path.application;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import nextstep.subway.path.domain.SearchSpace;
+import nextstep.subway.path.domain.SearchStatistics;
+
+@Component
+public class PathMetrics {
+    private static final String PHASE_TIMER = "subway.path.phase";
+    private static final String QUERY_TIMER = "subway.path.query";
+    private static final String SEARCH_SUMMARY_PREFIX = "subway.path.search.";
+
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+    private final Map<Query, Timer> queryTimers = new EnumMap<>(Query.class);
+    private final Map<Query, SearchSummaries> searchSummaries = new EnumMap<>(Query.class);
+    private final int sampleInterval;
+
+    public PathMetrics(MeterRegistry registry,
+        @Value("${subway.path.metrics.sample-interval:10}") int sampleInterval) {
+        for (Phase phase : Phase.values()) {
+            timers.put(phase, Timer.builder(PHASE_TIMER)
+                .tag("phase", tagOf(phase))
+                .register(registry));
+        }
+        for (Query query : Query.values()) {
+            queryTimers.put(query, Timer.builder(QUERY_TIMER)
+                .tag("query", tagOf(query))
+                .register(registry));
+            if (query.searchesOnCaller) {
+                searchSummaries.put(query, new SearchSummaries(registry, tagOf(query)));
+            }
+        }
+        this.sampleInterval = Math.max(1, sampleInterval);
+    }
+
+    private static String tagOf(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    public <T> T record(Phase phase, Supplier<T> supplier) {
+        return timers.get(phase).record(supplier);
+    }
+
+    public <T> T record(Query query, Supplier<T> supplier) {
+        Timer timer = queryTimers.get(query);
+        if (!query.searchesOnCaller || !isSampled()) {
+            return timer.record(supplier);
+        }
+        SearchStatistics start = SearchSpace.statistics();
+        T result = timer.record(supplier);
+        SearchStatistics statistics = SearchSpace.statistics().since(start);
+        if (statistics.getSettledCount() > 0) {
+            searchSummaries.get(query).record(statistics);
+        }
+        return result;
+    }
+
+    private boolean isSampled() {
+        return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+    }
+
+    public enum Phase {
+        NETWORK, SEARCH, RESPONSE, LOAD, BUILD, APPLY
+    }
+
+    public enum Query {
+        SHORTEST(true), BATCH(false), ALTERNATIVES(true), TRANSFERS(true), PARETO(false), TIMETABLE(false),
+        REACHABLE(true);
+
+        private final boolean searchesOnCaller;
+
+        Query(boolean searchesOnCaller) {
+            this.searchesOnCaller = searchesOnCaller;
+        }
+    }
+
+    private static class SearchSummaries {
+        private final DistributionSummary settledNodes;
+        private final DistributionSummary relaxedEdges;
+        private final DistributionSummary heapOperations;
+
+        private SearchSummaries(MeterRegistry registry, String query) {
+            this.settledNodes = searchSummary(registry, "settled", "nodes", query);
+            this.relaxedEdges = searchSummary(registry, "relaxed", "edges", query);
+            this.heapOperations = searchSummary(registry, "heap.operations", "operations", query);
+        }
+
+        private static DistributionSummary searchSummary(MeterRegistry registry, String name, String unit,
+            String query) {
+            return DistributionSummary.builder(SEARCH_SUMMARY_PREFIX + name)
+                .baseUnit(unit)
+                .tag("query", query)
+                .register(registry);
+        }
+
+        private void record(SearchStatistics statistics) {
+            settledNodes.record(statistics.getSettledCount());
+            relaxedEdges.record(statistics.getRelaxedCount());
+            heapOperations.record(statistics.getHeapOperationCount());
+        }
+    }
+}
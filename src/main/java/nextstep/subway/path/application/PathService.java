@@ -1,51 +1,205 @@
 package nextstep.subway.path.application;
 
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import nextstep.subway.line.application.LineService;
-import nextstep.subway.line.domain.Section;
+import nextstep.subway.exception.BadRequestException;
 import nextstep.subway.member.domain.MemberAgeType;
+import nextstep.subway.path.application.PathMetrics.Phase;
+import nextstep.subway.path.application.PathMetrics.Query;
+import nextstep.subway.path.domain.BatchPathSearch;
+import nextstep.subway.path.domain.FareOptimalSearch;
+import nextstep.subway.path.domain.KShortestPathSearch;
 import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.PathType;
+import nextstep.subway.path.domain.ShortestPath;
+import nextstep.subway.path.domain.ShortestPathTree;
 import nextstep.subway.path.domain.SubwayFare;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.path.dto.AlternativePathResponse;
+import nextstep.subway.path.dto.PathBatchRequest;
+import nextstep.subway.path.dto.PathBatchResponse;
 import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.path.dto.PathRequest;
 import nextstep.subway.path.dto.PathResponse;
 import nextstep.subway.path.dto.PathStationResponse;
-import nextstep.subway.path.dto.SubwayFareRequest;
+import nextstep.subway.path.dto.ReachableStationResponse;
 import nextstep.subway.station.application.StationService;
 import nextstep.subway.station.domain.Station;
 
 @Service
 public class PathService {
 
-    private final LineService lineService;
+    private final SubwayNetworkService subwayNetworkService;
     private final StationService stationService;
     private final PathFinder pathFinder;
+    private final PathCache pathCache;
+    private final PathExecutor pathExecutor;
+    private final PathMetrics pathMetrics;
+    private final int maxBatchSize;
+    private final int maxAlternativeCount;
+    private final int maxAlternativeExpansions;
 
-    public PathService(LineService lineService, StationService stationService, PathFinder pathFinder) {
-        this.lineService = lineService;
+    public PathService(SubwayNetworkService subwayNetworkService, StationService stationService,
+        PathFinder pathFinder, PathCache pathCache, PathExecutor pathExecutor, PathMetrics pathMetrics,
+        @Value("${subway.path.batch.max-size:100}") int maxBatchSize,
+        @Value("${subway.path.alternatives.max-count:5}") int maxAlternativeCount,
+        @Value("${subway.path.alternatives.max-expansions:100000}") int maxAlternativeExpansions) {
+        this.subwayNetworkService = subwayNetworkService;
         this.stationService = stationService;
         this.pathFinder = pathFinder;
+        this.pathCache = pathCache;
+        this.pathExecutor = pathExecutor;
+        this.pathMetrics = pathMetrics;
+        this.maxBatchSize = maxBatchSize;
+        this.maxAlternativeCount = maxAlternativeCount;
+        this.maxAlternativeExpansions = maxAlternativeExpansions;
+    }
+
+    public PathResponse getShortestPaths(Long source, Long target, PathType pathType, int age) {
+        return pathMetrics.record(Query.SHORTEST, () -> findShortestPaths(source, target, pathType, age));
+    }
+
+    private PathResponse findShortestPaths(Long source, Long target, PathType pathType, int age) {
+        SubwayNetwork network = pathMetrics.record(Phase.NETWORK, subwayNetworkService::getNetwork);
+        PathFinderResponse pathFinderResponse = pathCache.getRoute(network, pathType, source, target,
+            () -> pathMetrics.record(Phase.SEARCH, () -> findShortestPaths(network, pathType, source, target)));
+        return pathMetrics.record(Phase.RESPONSE,
+            () -> convertPathResponse(pathFinderResponse, MemberAgeType.getMemberAgeType(age)));
+    }
+
+    public PathBatchResponse getShortestPaths(PathBatchRequest pathBatchRequest, int age) {
+        return pathMetrics.record(Query.BATCH, () -> findShortestPaths(pathBatchRequest, age));
+    }
+
+    private PathBatchResponse findShortestPaths(PathBatchRequest pathBatchRequest, int age) {
+        List<PathRequest> pathRequests = pathBatchRequest.getPaths();
+        validateBatchSize(pathRequests);
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayGraph graph = network.getSubwayGraph();
+        int[] sources = new int[pathRequests.size()];
+        int[] targets = new int[pathRequests.size()];
+        for (int i = 0; i < pathRequests.size(); i++) {
+            sources[i] = graph.indexOf(network.findStationById(pathRequests.get(i).getSource()));
+            targets[i] = graph.indexOf(network.findStationById(pathRequests.get(i).getTarget()));
+        }
+
+        MemberAgeType memberAgeType = MemberAgeType.getMemberAgeType(age);
+        ShortestPath[] shortestPaths = BatchPathSearch.findPaths(graph, sources, targets, pathExecutor);
+        List<PathResponse> pathResponses = Arrays.stream(shortestPaths)
+            .map(shortestPath -> convertPathResponse(shortestPath.toResponse(graph), memberAgeType))
+            .collect(Collectors.toList());
+        return new PathBatchResponse(pathResponses);
+    }
+
+    private void validateBatchSize(List<PathRequest> pathRequests) {
+        if (Objects.isNull(pathRequests) || pathRequests.contains(null)) {
+            throw new BadRequestException(NO_PATHS);
+        }
+        if (pathRequests.size() > maxBatchSize) {
+            throw new BadRequestException(TOO_MANY_PATHS);
+        }
+    }
+
+    public List<AlternativePathResponse> getAlternativePaths(Long source, Long target, int count, int age) {
+        return pathMetrics.record(Query.ALTERNATIVES, () -> findAlternativePaths(source, target, count, age));
     }
 
-    public PathResponse getShortestPaths(Long source, Long target, int age) {
-        Station sourceStation = stationService.findStationById(source);
-        Station targetStation = stationService.findStationById(target);
-        Set<Section> allSection = lineService.findAllSection();
-        PathFinderResponse pathFinderResponse = pathFinder.getShortestPaths(allSection, sourceStation, targetStation);
-        int subwayUsageFare = SubwayFare.getSubwayUsageFare(new SubwayFareRequest(
-            pathFinderResponse.getDistance(), pathFinderResponse.getLineSurcharge(),
-            MemberAgeType.getMemberAgeType(age)));
+    private List<AlternativePathResponse> findAlternativePaths(Long source, Long target, int count, int age) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayGraph graph = network.getSubwayGraph();
+        int sourceIndex = graph.indexOf(network.findStationById(source));
+        int targetIndex = graph.indexOf(network.findStationById(target));
+        MemberAgeType memberAgeType = MemberAgeType.getMemberAgeType(age);
+        return KShortestPathSearch.findPaths(graph, sourceIndex, targetIndex,
+            Math.max(1, Math.min(count, maxAlternativeCount)), maxAlternativeExpansions).stream()
+            .map(shortestPath -> convertAlternativePathResponse(shortestPath.toResponse(graph), memberAgeType))
+            .collect(Collectors.toList());
+    }
+
+    public List<ReachableStationResponse> findReachableStations(Long source, Integer maxDistance, Integer maxFare,
+        int age) {
+        return pathMetrics.record(Query.REACHABLE, () -> searchReachableStations(source, maxDistance, maxFare, age));
+    }
+
+    private List<ReachableStationResponse> searchReachableStations(Long source, Integer maxDistance,
+        Integer maxFare, int age) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayGraph graph = network.getSubwayGraph();
+        MemberAgeType memberAgeType = MemberAgeType.getMemberAgeType(age);
+        int distanceLimit = getDistanceLimit(maxDistance, maxFare, memberAgeType);
+        ShortestPathTree tree = ShortestPathTree.of(graph, graph.indexOf(network.findStationById(source)),
+            distanceLimit);
+
+        List<ReachableStationResponse> reachableStations = new ArrayList<>(tree.size());
+        for (int i = 0; i < tree.size(); i++) {
+            int distance = tree.getDistance(i);
+            int lineSurcharge = tree.getSurcharge(i);
+            int fare = SubwayFare.getSubwayUsageFare(distance, lineSurcharge, memberAgeType);
+            if (Objects.isNull(maxFare) || fare <= maxFare) {
+                Station station = tree.getStation(i);
+                reachableStations.add(ReachableStationResponse.of(station.getId(), station.getName(), distance, fare));
+            }
+        }
+        return reachableStations;
+    }
+
+    private int getDistanceLimit(Integer maxDistance, Integer maxFare, MemberAgeType memberAgeType) {
+        int distanceLimit = Objects.isNull(maxDistance) ? Integer.MAX_VALUE : maxDistance;
+        if (Objects.nonNull(maxFare)) {
+            distanceLimit = Math.min(distanceLimit, SubwayFare.getMaxDistanceWithinFare(maxFare, memberAgeType));
+        }
+        return distanceLimit;
+    }
+
+    private PathFinderResponse findShortestPaths(SubwayNetwork network, PathType pathType, Long source,
+        Long target) {
+        Station sourceStation = findStation(network, source);
+        Station targetStation = findStation(network, target);
+        if (pathType.isFare()) {
+            return findCheapestPaths(network, sourceStation, targetStation);
+        }
+        return pathFinder.getShortestPaths(network, sourceStation, targetStation);
+    }
+
+    private Station findStation(SubwayNetwork network, Long id) {
+        return network.findStation(id).orElseGet(() -> stationService.findStationById(id));
+    }
+
+    private PathFinderResponse findCheapestPaths(SubwayNetwork network, Station sourceStation,
+        Station targetStation) {
+        if (sourceStation.equals(targetStation)) {
+            throw new BadRequestException(SAME_STATION);
+        }
+        SubwayGraph graph = network.getSubwayGraph();
+        return FareOptimalSearch.findPath(graph, graph.indexOf(sourceStation), graph.indexOf(targetStation))
+            .toResponse(graph);
+    }
 
-        return convertPathResponse(pathFinderResponse.getStations(), pathFinderResponse.getDistance(),
+    private PathResponse convertPathResponse(PathFinderResponse pathFinderResponse, MemberAgeType memberAgeType) {
+        int distance = pathFinderResponse.getDistance();
+        int lineSurcharge = pathFinderResponse.getLineSurcharge();
+        int subwayUsageFare = SubwayFare.getSubwayUsageFare(distance, lineSurcharge, memberAgeType);
+        return new PathResponse(convertPathStationResponses(pathFinderResponse.getStations()), distance,
             subwayUsageFare);
     }
 
-    private PathResponse convertPathResponse(List<Station> stations, double weight, int subwayFare) {
-        return new PathResponse(convertPathStationResponses(stations), (int)weight, subwayFare);
+    private AlternativePathResponse convertAlternativePathResponse(PathFinderResponse pathFinderResponse,
+        MemberAgeType memberAgeType) {
+        int distance = pathFinderResponse.getDistance();
+        int lineSurcharge = pathFinderResponse.getLineSurcharge();
+        int subwayUsageFare = SubwayFare.getSubwayUsageFare(distance, lineSurcharge, memberAgeType);
+        return new AlternativePathResponse(convertPathStationResponses(pathFinderResponse.getStations()), distance,
+            lineSurcharge, subwayUsageFare);
     }
 
     private List<PathStationResponse> convertPathStationResponses(List<Station> stations) {
@@ -0,0 +1,142 @@
+package nextstep.subway.path.application;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import nextstep.subway.event.SubwayNetworkChangedEvent;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.application.PathMetrics.Phase;
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.SubwayGraphSnapshot;
+import nextstep.subway.path.domain.SubwayNetwork;
+
+@Service
+public class SubwayNetworkService {
+    private static final Logger log = LoggerFactory.getLogger(SubwayNetworkService.class);
+
+    private final LineService lineService;
+    private final PathFinder pathFinder;
+    private final PathCache pathCache;
+    private final SubwayNetworkSnapshotStore snapshotStore;
+    private final PathMetrics pathMetrics;
+    private volatile SubwayNetwork network;
+    private NetworkRevision revision = NetworkRevision.none();
+
+    public SubwayNetworkService(LineService lineService, PathFinder pathFinder, PathCache pathCache,
+        SubwayNetworkSnapshotStore snapshotStore, PathMetrics pathMetrics) {
+        this.lineService = lineService;
+        this.pathFinder = pathFinder;
+        this.pathCache = pathCache;
+        this.snapshotStore = snapshotStore;
+        this.pathMetrics = pathMetrics;
+    }
+
+    public SubwayNetwork getNetwork() {
+        SubwayNetwork current = network;
+        if (Objects.isNull(current)) {
+            return initialize();
+        }
+        return current;
+    }
+
+    public Optional<SubwayNetwork> findNetwork() {
+        return Optional.ofNullable(network);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!snapshotStore.isEnabled()) {
+            return;
+        }
+        SubwayNetwork current = getNetwork();
+        try {
+            pathFinder.awaitPrepared(current);
+        } catch (IllegalStateException e) {
+            log.warn("path finder preprocessing failed during warm up for network version {}: {}",
+                current.getVersion(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNetworkChanged(SubwayNetworkChangedEvent event) {
+        if (event.isIncremental()) {
+            apply(event.getDelta(), event.getRevision());
+            return;
+        }
+        refresh();
+    }
+
+    public synchronized void apply(SectionDelta delta, NetworkRevision nextRevision) {
+        if (Objects.isNull(network) || nextRevision.isIncludedIn(revision)) {
+            return;
+        }
+        if (!nextRevision.follows(revision)) {
+            log.warn("{} delta was committed at network revision {} but revision {} is installed, rebuilding",
+                delta.getType(), nextRevision, revision);
+            refresh();
+            return;
+        }
+        SubwayNetwork next;
+        try {
+            next = pathMetrics.record(Phase.APPLY, () -> network.apply(network.getVersion() + 1, delta));
+        } catch (IllegalStateException e) {
+            log.warn("failed to apply {} delta to network version {}, rebuilding: {}",
+                delta.getType(), network.getVersion(), e.getMessage());
+            refresh();
+            return;
+        }
+        pathCache.repairRoutes(network, next, delta);
+        install(next, nextRevision);
+        snapshotStore.save(network, revision);
+    }
+
+    public synchronized SubwayNetwork refresh() {
+        long nextVersion = Objects.isNull(network) ? 1L : network.getVersion() + 1;
+        NetworkRevision nextRevision;
+        Set<Section> loaded;
+        do {
+            nextRevision = findRevision();
+            loaded = pathMetrics.record(Phase.LOAD, lineService::findAllSection);
+        } while (!nextRevision.equals(findRevision()));
+        Set<Section> sections = loaded;
+        install(pathMetrics.record(Phase.BUILD, () -> SubwayNetwork.of(nextVersion, sections)), nextRevision);
+        snapshotStore.save(network, revision);
+        return network;
+    }
+
+    private synchronized SubwayNetwork initialize() {
+        if (Objects.nonNull(network)) {
+            return network;
+        }
+        NetworkRevision current = findRevision();
+        Optional<SubwayGraphSnapshot> snapshot = pathMetrics.record(Phase.LOAD, () -> snapshotStore.load(current));
+        if (!snapshot.isPresent()) {
+            return refresh();
+        }
+        SubwayNetwork restored = SubwayNetwork.of(1L, snapshot.get().getGraph());
+        pathFinder.restore(restored, snapshot.get());
+        install(restored, current);
+        return network;
+    }
+
+    private NetworkRevision findRevision() {
+        return lineService.findRevision().orElseGet(NetworkRevision::none);
+    }
+
+    private void install(SubwayNetwork next, NetworkRevision nextRevision) {
+        network = next;
+        revision = nextRevision;
+        pathFinder.prepare(next);
+    }
+}
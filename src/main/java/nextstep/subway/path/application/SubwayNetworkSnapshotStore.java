@@ -0,0 +1,123 @@
+package nextstep.subway.path.application;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.SubwayGraphSnapshot;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.station.application.StationService;
+
+@Component
+public class SubwayNetworkSnapshotStore {
+    private static final Logger log = LoggerFactory.getLogger(SubwayNetworkSnapshotStore.class);
+    private static final String WRITER_THREAD_NAME = "path-snapshot-writer";
+
+    private final StationService stationService;
+    private final LineService lineService;
+    private final PathFinder pathFinder;
+    private final boolean enabled;
+    private final Path file;
+    private final AtomicReference<PendingSnapshot> pendingSnapshot = new AtomicReference<>();
+    private final ExecutorService writer;
+
+    public SubwayNetworkSnapshotStore(StationService stationService, LineService lineService, PathFinder pathFinder,
+        @Value("${subway.path.snapshot.enabled:false}") boolean enabled,
+        @Value("${subway.path.snapshot.file:subway-graph.snapshot}") String file) {
+        this.stationService = stationService;
+        this.lineService = lineService;
+        this.pathFinder = pathFinder;
+        this.enabled = enabled;
+        this.file = Paths.get(file);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SubwayGraphSnapshot> load(NetworkRevision revision) {
+        if (!enabled || !revision.exists() || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            SubwayGraphSnapshot snapshot = SubwayGraphSnapshot.read(file);
+            if (!revision.equals(snapshot.getRevision())) {
+                log.info("snapshot {} was written at network revision {} but the database is at {}, "
+                    + "loading the network from the database", file, snapshot.getRevision(), revision);
+                return Optional.empty();
+            }
+            return Optional.of(snapshot.resolve(stationService.findStationsByIds(snapshot.getStationIds()),
+                lineService.findLinesByIds(snapshot.getLineIds())));
+        } catch (IOException | IllegalStateException e) {
+            log.warn("failed to read snapshot {}, loading the network from the database: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(SubwayNetwork network, NetworkRevision revision) {
+        if (!enabled || !revision.exists()) {
+            return;
+        }
+        PendingSnapshot previous = pendingSnapshot.getAndSet(new PendingSnapshot(network, revision));
+        if (Objects.isNull(previous)) {
+            writer.execute(this::writeLatest);
+        }
+    }
+
+    private void writeLatest() {
+        PendingSnapshot pending = pendingSnapshot.getAndSet(null);
+        try {
+            pathFinder.awaitPrepared(pending.network);
+        } catch (IllegalStateException e) {
+            log.warn("writing snapshot {} without preprocessed tables for network version {}: {}", file,
+                pending.network.getVersion(), e.getMessage());
+        }
+        try {
+            SubwayGraphSnapshot snapshot = pathFinder.snapshot(pending.network, pending.revision);
+            snapshot.write(file);
+            log.info("snapshot {} written at network revision {}: landmarks={}, hierarchy={}", file,
+                pending.revision, snapshot.hasLandmarks(), snapshot.hasHierarchy());
+        } catch (IOException | IllegalStateException e) {
+            log.warn("failed to write snapshot {} for network version {}: {}", file, pending.network.getVersion(),
+                e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    private static class PendingSnapshot {
+        private final SubwayNetwork network;
+        private final NetworkRevision revision;
+
+        private PendingSnapshot(SubwayNetwork network, NetworkRevision revision) {
+            this.network = network;
+            this.revision = revision;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package nextstep.subway.path.application;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.member.domain.MemberAgeType;
+import nextstep.subway.path.application.PathMetrics.Query;
+import nextstep.subway.path.domain.ConnectionScanSearch;
+import nextstep.subway.path.domain.SubwayFare;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.path.domain.Timetable;
+import nextstep.subway.path.domain.TimetablePath;
+import nextstep.subway.path.dto.PathStationResponse;
+import nextstep.subway.path.dto.TimetableLegResponse;
+import nextstep.subway.path.dto.TimetablePathResponse;
+import nextstep.subway.station.domain.Station;
+
+@Service
+public class TimetablePathService {
+
+    private final SubwayNetworkService subwayNetworkService;
+    private final PathMetrics pathMetrics;
+
+    public TimetablePathService(SubwayNetworkService subwayNetworkService, PathMetrics pathMetrics) {
+        this.subwayNetworkService = subwayNetworkService;
+        this.pathMetrics = pathMetrics;
+    }
+
+    public TimetablePathResponse getEarliestArrivalPaths(Long source, Long target, LocalTime departureTime,
+        int age) {
+        return pathMetrics.record(Query.TIMETABLE,
+            () -> findEarliestArrivalPaths(source, target, departureTime, age));
+    }
+
+    private TimetablePathResponse findEarliestArrivalPaths(Long source, Long target, LocalTime departureTime,
+        int age) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayGraph graph = network.getSubwayGraph();
+        TimetablePath timetablePath = ConnectionScanSearch.findEarliestArrival(network.getTimetable(),
+            graph.indexOf(network.findStationById(source)), graph.indexOf(network.findStationById(target)),
+            Timetable.toMinutes(departureTime));
+
+        MemberAgeType memberAgeType = MemberAgeType.getMemberAgeType(age);
+        int distance = timetablePath.getDistance(graph);
+        int lineSurcharge = timetablePath.getSurcharge(graph);
+        int fare = SubwayFare.getSubwayUsageFare(distance, lineSurcharge, memberAgeType);
+        return new TimetablePathResponse(convertPathStationResponses(graph, timetablePath),
+            convertTimetableLegResponses(graph, timetablePath), departureTime,
+            Timetable.toLocalTime(timetablePath.getArrival()),
+            timetablePath.getArrival() - timetablePath.getDeparture(), distance, fare);
+    }
+
+    private List<PathStationResponse> convertPathStationResponses(SubwayGraph graph, TimetablePath timetablePath) {
+        List<PathStationResponse> stations = new ArrayList<>();
+        for (TimetablePath.Leg leg : timetablePath.getLegs()) {
+            int[] legStations = leg.getStations();
+            for (int i = stations.isEmpty() ? 0 : 1; i < legStations.length; i++) {
+                Station station = graph.getStation(legStations[i]);
+                stations.add(PathStationResponse.of(station.getId(), station.getName(), station.getCreatedDate()));
+            }
+        }
+        return stations;
+    }
+
+    private List<TimetableLegResponse> convertTimetableLegResponses(SubwayGraph graph, TimetablePath timetablePath) {
+        List<TimetableLegResponse> legs = new ArrayList<>();
+        for (TimetablePath.Leg leg : timetablePath.getLegs()) {
+            Line line = graph.getLine(leg.getLineIndex());
+            int[] legStations = leg.getStations();
+            Station legSource = graph.getStation(legStations[0]);
+            Station legTarget = graph.getStation(legStations[legStations.length - 1]);
+            legs.add(TimetableLegResponse.of(line.getId(), line.getName(), legSource.getId(), legTarget.getId(),
+                Timetable.toLocalTime(leg.getDeparture()), Timetable.toLocalTime(leg.getArrival())));
+        }
+        return legs;
+    }
+}
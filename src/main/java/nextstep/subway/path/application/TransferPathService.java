@@ -0,0 +1,132 @@
+package nextstep.subway.path.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.member.domain.MemberAgeType;
+import nextstep.subway.path.application.PathMetrics.Query;
+import nextstep.subway.path.domain.ParetoSearch;
+import nextstep.subway.path.domain.SubwayFare;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.path.domain.TransferPath;
+import nextstep.subway.path.domain.TransferPolicy;
+import nextstep.subway.path.domain.TransferSearch;
+import nextstep.subway.path.dto.PathHopResponse;
+import nextstep.subway.path.dto.PathStationResponse;
+import nextstep.subway.path.dto.TransferPathResponse;
+import nextstep.subway.station.domain.Station;
+
+@Service
+public class TransferPathService {
+
+    private final SubwayNetworkService subwayNetworkService;
+    private final PathMetrics pathMetrics;
+    private final int defaultTransferPenalty;
+    private final int maxParetoLabels;
+
+    public TransferPathService(SubwayNetworkService subwayNetworkService, PathMetrics pathMetrics,
+        @Value("${subway.path.transfer-penalty:10}") int defaultTransferPenalty,
+        @Value("${subway.path.pareto.max-labels:20000}") int maxParetoLabels) {
+        this.subwayNetworkService = subwayNetworkService;
+        this.pathMetrics = pathMetrics;
+        this.defaultTransferPenalty = defaultTransferPenalty;
+        this.maxParetoLabels = maxParetoLabels;
+    }
+
+    public TransferPathResponse getTransferPaths(Long source, Long target, TransferPolicy policy,
+        Integer transferPenalty, int age) {
+        return pathMetrics.record(Query.TRANSFERS,
+            () -> findTransferPaths(source, target, policy, transferPenalty, age));
+    }
+
+    private TransferPathResponse findTransferPaths(Long source, Long target, TransferPolicy policy,
+        Integer transferPenalty, int age) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayGraph graph = network.getSubwayGraph();
+        int penalty = Objects.isNull(transferPenalty) ? defaultTransferPenalty : transferPenalty;
+        TransferPath transferPath = TransferSearch.findPath(network.getTransferGraph(),
+            graph.indexOf(network.findStationById(source)), graph.indexOf(network.findStationById(target)),
+            policy, penalty);
+
+        return convertTransferPathResponse(graph, transferPath, MemberAgeType.getMemberAgeType(age));
+    }
+
+    public List<TransferPathResponse> getParetoPaths(Long source, Long target, int age) {
+        return pathMetrics.record(Query.PARETO, () -> findParetoPaths(source, target, age));
+    }
+
+    private List<TransferPathResponse> findParetoPaths(Long source, Long target, int age) {
+        SubwayNetwork network = subwayNetworkService.getNetwork();
+        SubwayGraph graph = network.getSubwayGraph();
+        List<TransferPath> transferPaths = ParetoSearch.findPaths(network.getTransferGraph(),
+            graph.indexOf(network.findStationById(source)), graph.indexOf(network.findStationById(target)),
+            maxParetoLabels);
+
+        MemberAgeType memberAgeType = MemberAgeType.getMemberAgeType(age);
+        List<TransferPathResponse> responses = transferPaths.stream()
+            .map(transferPath -> convertTransferPathResponse(graph, transferPath, memberAgeType))
+            .collect(Collectors.toList());
+        List<TransferPathResponse> paretoPaths = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            if (isParetoOptimal(responses, i)) {
+                paretoPaths.add(responses.get(i));
+            }
+        }
+        return paretoPaths;
+    }
+
+    private boolean isParetoOptimal(List<TransferPathResponse> responses, int index) {
+        TransferPathResponse response = responses.get(index);
+        for (int i = 0; i < responses.size(); i++) {
+            TransferPathResponse other = responses.get(i);
+            boolean weaklyDominated = other.getDistance() <= response.getDistance()
+                && other.getFare() <= response.getFare()
+                && other.getTransferCount() <= response.getTransferCount();
+            boolean sameCriteria = other.getDistance() == response.getDistance()
+                && other.getFare() == response.getFare()
+                && other.getTransferCount() == response.getTransferCount();
+            if (i != index && weaklyDominated && (!sameCriteria || i < index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TransferPathResponse convertTransferPathResponse(SubwayGraph graph, TransferPath transferPath,
+        MemberAgeType memberAgeType) {
+        int distance = transferPath.getDistance();
+        int lineSurcharge = transferPath.getSurcharge();
+        int fare = SubwayFare.getSubwayUsageFare(distance, lineSurcharge, memberAgeType);
+        return new TransferPathResponse(convertPathStationResponses(graph, transferPath),
+            convertPathHopResponses(graph, transferPath), distance, transferPath.getTransferCount(), fare);
+    }
+
+    private List<PathStationResponse> convertPathStationResponses(SubwayGraph graph, TransferPath transferPath) {
+        List<PathStationResponse> stations = new ArrayList<>();
+        for (int index : transferPath.getStations()) {
+            Station station = graph.getStation(index);
+            stations.add(PathStationResponse.of(station.getId(), station.getName(), station.getCreatedDate()));
+        }
+        return stations;
+    }
+
+    private List<PathHopResponse> convertPathHopResponses(SubwayGraph graph, TransferPath transferPath) {
+        List<PathHopResponse> hops = new ArrayList<>();
+        int[] stations = transferPath.getStations();
+        int[] edges = transferPath.getEdges();
+        for (int i = 0; i < edges.length; i++) {
+            Line line = graph.getLine(graph.getLineIndex(edges[i]));
+            hops.add(PathHopResponse.of(graph.getStation(stations[i]).getId(),
+                graph.getStation(stations[i + 1]).getId(), line.getId(), line.getName(),
+                graph.getDistance(edges[i])));
+        }
+        return hops;
+    }
+}
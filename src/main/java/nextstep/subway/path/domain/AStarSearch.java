@@ -0,0 +1,50 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class AStarSearch {
+
+    private AStarSearch() {
+    }
+
+    public static ShortestPath findPath(SubwayGraph graph, int source, int target) {
+        if (!graph.isCoordinated()) {
+            return DijkstraSearch.findPath(graph, source, target);
+        }
+        return findPath(graph, source, target, (node, goal) -> estimateByCoordinates(graph, node, goal));
+    }
+
+    public static ShortestPath findPath(SubwayGraph graph, int source, int target, Heuristic heuristic) {
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        space.start(source);
+
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            if (node == target) {
+                return ShortestPath.of(graph, space, target);
+            }
+            relax(graph, space, node, target, heuristic);
+        }
+        throw new BadRequestException(NOT_CONNECTED_STATION);
+    }
+
+    private static void relax(SubwayGraph graph, SearchSpace space, int node, int target, Heuristic heuristic) {
+        int distance = space.getDistance(node);
+        space.countRelaxed(graph.lastEdge(node) - graph.firstEdge(node));
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int next = graph.getTarget(edge);
+            int nextDistance = distance + graph.getDistance(edge);
+            if (nextDistance < space.getDistance(next)) {
+                space.reach(next, nextDistance, node, edge);
+                space.getHeap().push(next, nextDistance + heuristic.estimate(next, target));
+            }
+        }
+    }
+
+    private static int estimateByCoordinates(SubwayGraph graph, int node, int target) {
+        return (int)(graph.getMinDistancePerKilometer() * graph.kilometersBetween(node, target));
+    }
+}
@@ -0,0 +1,69 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.Objects;
+
+import javax.annotation.PreDestroy;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+public class AllPairsPathFinder implements PathFinder {
+
+    private final NetworkPreprocessor<DistanceMatrix> matrices =
+        new NetworkPreprocessor<>("all-pairs-matrix", DistanceMatrix::of);
+
+    @Override
+    public PathFinderResponse getShortestPaths(SubwayNetwork network, Station sourceStation, Station targetStation) {
+        validateSameStation(sourceStation, targetStation);
+        SubwayGraph graph = network.getSubwayGraph();
+        int source = graph.indexOf(sourceStation);
+        int target = graph.indexOf(targetStation);
+        DistanceMatrix matrix = findMatrix(network);
+        if (Objects.isNull(matrix)) {
+            return DijkstraSearch.findPath(graph, source, target).toResponse(graph);
+        }
+        return matrix.findPath(source, target).toResponse(graph);
+    }
+
+    @Override
+    public void prepare(SubwayNetwork network) {
+        if (DistanceMatrix.supports(network.getSubwayGraph())) {
+            matrices.prepare(network);
+        }
+    }
+
+    @Override
+    public void awaitPrepared(SubwayNetwork network) {
+        if (DistanceMatrix.supports(network.getSubwayGraph())) {
+            matrices.await(network);
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void shutdown() {
+        matrices.shutdown();
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        DistanceMatrix matrix = matrices.getCurrent();
+        return Objects.isNull(matrix) ? 0 : matrix.getMemoryBytes();
+    }
+
+    private DistanceMatrix findMatrix(SubwayNetwork network) {
+        if (!DistanceMatrix.supports(network.getSubwayGraph())) {
+            return null;
+        }
+        return matrices.get(network, false);
+    }
+
+    private void validateSameStation(Station sourceStation, Station targetStation) {
+        if (sourceStation.equals(targetStation)) {
+            throw new BadRequestException(SAME_STATION);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class BatchPathSearch {
+
+    private BatchPathSearch() {
+    }
+
+    public static ShortestPath[] findPaths(SubwayGraph graph, int[] sources, int[] targets) {
+        return findPaths(graph, sources, targets, Runnable::run);
+    }
+
+    public static ShortestPath[] findPaths(SubwayGraph graph, int[] sources, int[] targets, Executor executor) {
+        validateSameStation(sources, targets);
+        ShortestPath[] paths = new ShortestPath[sources.length];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<Integer, IntList> group : groupBySource(sources).entrySet()) {
+            tasks.add(CompletableFuture.runAsync(
+                () -> findGroupPaths(graph, group.getKey(), group.getValue(), targets, paths), executor));
+        }
+        join(tasks);
+        return paths;
+    }
+
+    private static void findGroupPaths(SubwayGraph graph, int source, IntList queries, int[] targets,
+        ShortestPath[] paths) {
+        SearchSpace space = DijkstraSearch.searchTargets(graph, source, targetsOf(queries, targets));
+        for (int i = 0; i < queries.size(); i++) {
+            int query = queries.get(i);
+            paths[query] = findPath(graph, space, targets[query]);
+        }
+    }
+
+    private static void join(List<CompletableFuture<Void>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException)e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void validateSameStation(int[] sources, int[] targets) {
+        for (int query = 0; query < sources.length; query++) {
+            if (sources[query] == targets[query]) {
+                throw new BadRequestException(SAME_STATION);
+            }
+        }
+    }
+
+    private static Map<Integer, IntList> groupBySource(int[] sources) {
+        Map<Integer, IntList> groups = new LinkedHashMap<>();
+        for (int query = 0; query < sources.length; query++) {
+            groups.computeIfAbsent(sources[query], source -> new IntList()).add(query);
+        }
+        return groups;
+    }
+
+    private static int[] targetsOf(IntList queries, int[] targets) {
+        int[] groupTargets = new int[queries.size()];
+        for (int i = 0; i < queries.size(); i++) {
+            groupTargets[i] = targets[queries.get(i)];
+        }
+        return groupTargets;
+    }
+
+    private static ShortestPath findPath(SubwayGraph graph, SearchSpace space, int target) {
+        if (!space.isReached(target)) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        return ShortestPath.of(graph, space, target);
+    }
+}
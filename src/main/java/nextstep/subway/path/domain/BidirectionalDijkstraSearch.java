@@ -0,0 +1,67 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class BidirectionalDijkstraSearch {
+
+    private BidirectionalDijkstraSearch() {
+    }
+
+    public static ShortestPath findPath(SubwayGraph graph, int source, int target) {
+        SearchSpace forward = SearchSpace.forward(graph.size());
+        SearchSpace backward = SearchSpace.backward(graph.size());
+        forward.start(source);
+        backward.start(target);
+        Meeting meeting = new Meeting();
+
+        while (!forward.getHeap().isEmpty() && !backward.getHeap().isEmpty()) {
+            if ((long)forward.getHeap().peekKey() + backward.getHeap().peekKey() >= meeting.distance) {
+                break;
+            }
+            if (forward.getHeap().peekKey() <= backward.getHeap().peekKey()) {
+                relax(graph, forward, backward, meeting);
+                continue;
+            }
+            relax(graph, backward, forward, meeting);
+        }
+
+        if (meeting.node == SearchSpace.NONE) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        return ShortestPath.of(graph, forward, backward, meeting.node);
+    }
+
+    private static void relax(SubwayGraph graph, SearchSpace space, SearchSpace opposite, Meeting meeting) {
+        int node = space.getHeap().poll();
+        int distance = space.getDistance(node);
+        meeting.update(node, distance, opposite);
+        space.countRelaxed(graph.lastEdge(node) - graph.firstEdge(node));
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int next = graph.getTarget(edge);
+            int nextDistance = distance + graph.getDistance(edge);
+            if (nextDistance < space.getDistance(next)) {
+                space.reach(next, nextDistance, node, edge);
+                space.getHeap().push(next, nextDistance);
+                meeting.update(next, nextDistance, opposite);
+            }
+        }
+    }
+
+    private static class Meeting {
+        private int node = SearchSpace.NONE;
+        private long distance = Long.MAX_VALUE;
+
+        private void update(int node, int distance, SearchSpace opposite) {
+            if (!opposite.isReached(node)) {
+                return;
+            }
+            long total = (long)distance + opposite.getDistance(node);
+            if (total < this.distance) {
+                this.node = node;
+                this.distance = total;
+            }
+        }
+    }
+}
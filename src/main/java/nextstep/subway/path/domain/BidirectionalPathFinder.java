@@ -0,0 +1,25 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+public class BidirectionalPathFinder implements PathFinder {
+
+    @Override
+    public PathFinderResponse getShortestPaths(SubwayNetwork network, Station sourceStation, Station targetStation) {
+        validateSameStation(sourceStation, targetStation);
+        SubwayGraph graph = network.getSubwayGraph();
+        int source = graph.indexOf(sourceStation);
+        int target = graph.indexOf(targetStation);
+        return BidirectionalDijkstraSearch.findPath(graph, source, target).toResponse(graph);
+    }
+
+    private void validateSameStation(Station sourceStation, Station targetStation) {
+        if (sourceStation.equals(targetStation)) {
+            throw new BadRequestException(SAME_STATION);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class ConnectionScanSearch {
+    private static final int NONE = SearchSpace.NONE;
+    private static final int INFINITY = SearchSpace.INFINITY;
+
+    private ConnectionScanSearch() {
+    }
+
+    public static TimetablePath findEarliestArrival(Timetable timetable, int source, int target, int departure) {
+        if (source == target) {
+            throw new BadRequestException(SAME_STATION);
+        }
+        int size = timetable.getGraph().size();
+        int[] earliestArrivals = new int[size];
+        int[] boardConnections = new int[size];
+        int[] exitConnections = new int[size];
+        int[] tripBoardings = new int[timetable.getTripCount()];
+        Arrays.fill(earliestArrivals, INFINITY);
+        Arrays.fill(tripBoardings, NONE);
+        earliestArrivals[source] = departure;
+
+        for (int connection = timetable.firstConnectionAfter(departure);
+             connection < timetable.getConnectionCount(); connection++) {
+            if (timetable.getDeparture(connection) >= earliestArrivals[target]) {
+                break;
+            }
+            int trip = timetable.getTrip(connection);
+            if (tripBoardings[trip] == NONE
+                && earliestArrivals[timetable.getFrom(connection)] <= timetable.getDeparture(connection)) {
+                tripBoardings[trip] = connection;
+            }
+            int to = timetable.getTo(connection);
+            if (tripBoardings[trip] != NONE && timetable.getArrival(connection) < earliestArrivals[to]) {
+                earliestArrivals[to] = timetable.getArrival(connection);
+                boardConnections[to] = tripBoardings[trip];
+                exitConnections[to] = connection;
+            }
+        }
+        if (earliestArrivals[target] == INFINITY) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        return TimetablePath.of(collectLegs(timetable, source, target, boardConnections, exitConnections), departure);
+    }
+
+    private static List<TimetablePath.Leg> collectLegs(Timetable timetable, int source, int target,
+        int[] boardConnections, int[] exitConnections) {
+        List<TimetablePath.Leg> legs = new ArrayList<>();
+        for (int station = target; station != source; ) {
+            int board = boardConnections[station];
+            int exit = exitConnections[station];
+            legs.add(toLeg(timetable, timetable.getTrip(board), timetable.getPosition(board),
+                timetable.getPosition(exit) + 1));
+            station = timetable.getFrom(board);
+        }
+        Collections.reverse(legs);
+        return legs;
+    }
+
+    private static TimetablePath.Leg toLeg(Timetable timetable, int trip, int from, int to) {
+        int[] stations = new int[to - from + 1];
+        int[] edges = new int[to - from];
+        for (int position = from; position <= to; position++) {
+            stations[position - from] = timetable.getStop(trip, position);
+            if (position < to) {
+                edges[position - from] = timetable.getEdge(trip, position);
+            }
+        }
+        return new TimetablePath.Leg(timetable.getLineIndex(trip), stations, edges,
+            timetable.getTime(trip, from), timetable.getTime(trip, to));
+    }
+}
@@ -0,0 +1,461 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class ContractionHierarchy {
+    static final int FROMS = 0;
+    static final int TOS = 1;
+    static final int WEIGHTS = 2;
+    static final int SURCHARGES = 3;
+    static final int MIDDLES = 4;
+    static final int FIRST_CHILDREN = 5;
+    static final int SECOND_CHILDREN = 6;
+    static final int TABLE_COUNT = 7;
+    private static final int NONE = -1;
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int REORDER_DIVISOR = 10;
+
+    private final SubwayNetwork network;
+    private final int[] ranks;
+    private final int[] upOffsets;
+    private final int[] upEdges;
+    private final int[] froms;
+    private final int[] tos;
+    private final int[] weights;
+    private final int[] surcharges;
+    private final int[] middles;
+    private final int[] firstChildren;
+    private final int[] secondChildren;
+    private final int unorderedCount;
+
+    private ContractionHierarchy(SubwayNetwork network, int[] ranks, Contraction contraction, int unorderedCount) {
+        this(network, ranks, contraction.toTables(), unorderedCount);
+    }
+
+    private ContractionHierarchy(SubwayNetwork network, int[] ranks, int[][] tables, int unorderedCount) {
+        this.network = network;
+        this.ranks = ranks;
+        this.unorderedCount = unorderedCount;
+        this.froms = tables[FROMS];
+        this.tos = tables[TOS];
+        this.weights = tables[WEIGHTS];
+        this.surcharges = tables[SURCHARGES];
+        this.middles = tables[MIDDLES];
+        this.firstChildren = tables[FIRST_CHILDREN];
+        this.secondChildren = tables[SECOND_CHILDREN];
+        this.upOffsets = new int[ranks.length + 1];
+        this.upEdges = new int[froms.length];
+        indexUpwardEdges();
+    }
+
+    static ContractionHierarchy of(SubwayNetwork network, int[] ranks, int[][] tables) {
+        return new ContractionHierarchy(network, ranks, tables, 0);
+    }
+
+    public static ContractionHierarchy of(SubwayNetwork network) {
+        Contraction contraction = new Contraction(network.getSubwayGraph());
+        int[] ranks = contraction.contractAll();
+        return new ContractionHierarchy(network, ranks, contraction, 0);
+    }
+
+    public static ContractionHierarchy of(SubwayNetwork network, ContractionHierarchy previous) {
+        SubwayGraph graph = network.getSubwayGraph();
+        if (Objects.isNull(previous) || !graph.isPatchOf(previous.getGraph())) {
+            return of(network);
+        }
+        int unorderedCount = previous.unorderedCount + graph.size() - previous.ranks.length;
+        if (unorderedCount * REORDER_DIVISOR > graph.size()) {
+            return of(network);
+        }
+        Contraction contraction = new Contraction(graph);
+        int[] ranks = contraction.contractInOrder(previous.orderOf(graph.size()));
+        return new ContractionHierarchy(network, ranks, contraction, unorderedCount);
+    }
+
+    private int[] orderOf(int size) {
+        int[] order = new int[size];
+        int addedCount = size - ranks.length;
+        for (int node = ranks.length; node < size; node++) {
+            order[node - ranks.length] = node;
+        }
+        for (int node = 0; node < ranks.length; node++) {
+            order[addedCount + ranks[node]] = node;
+        }
+        return order;
+    }
+
+    private void indexUpwardEdges() {
+        for (int edge = 0; edge < froms.length; edge++) {
+            upOffsets[lowerEnd(edge) + 1]++;
+        }
+        for (int node = 1; node < upOffsets.length; node++) {
+            upOffsets[node] += upOffsets[node - 1];
+        }
+        int[] cursors = Arrays.copyOf(upOffsets, ranks.length);
+        for (int edge = 0; edge < froms.length; edge++) {
+            upEdges[cursors[lowerEnd(edge)]++] = edge;
+        }
+    }
+
+    private int lowerEnd(int edge) {
+        return ranks[froms[edge]] < ranks[tos[edge]] ? froms[edge] : tos[edge];
+    }
+
+    public SubwayNetwork getNetwork() {
+        return network;
+    }
+
+    public SubwayGraph getGraph() {
+        return network.getSubwayGraph();
+    }
+
+    public long getVersion() {
+        return network.getVersion();
+    }
+
+    public int getShortcutCount() {
+        return froms.length - getGraph().getEdgeCount() / 2;
+    }
+
+    int getUnorderedCount() {
+        return unorderedCount;
+    }
+
+    int getRank(int node) {
+        return ranks[node];
+    }
+
+    int[][] getTables() {
+        return new int[][] {froms, tos, weights, surcharges, middles, firstChildren, secondChildren};
+    }
+
+    public ShortestPath findPath(int source, int target) {
+        SearchSpace forward = SearchSpace.forward(ranks.length);
+        SearchSpace backward = SearchSpace.backward(ranks.length);
+        forward.start(source);
+        backward.start(target);
+        int meeting = NONE;
+        long best = Long.MAX_VALUE;
+
+        while (true) {
+            SearchSpace space = nextSpace(forward, backward, best);
+            if (space == null) {
+                break;
+            }
+            SearchSpace opposite = space == forward ? backward : forward;
+            int node = space.getHeap().poll();
+            if (opposite.isReached(node)) {
+                long total = (long)space.getDistance(node) + opposite.getDistance(node);
+                if (total < best) {
+                    best = total;
+                    meeting = node;
+                }
+            }
+            relaxUpward(space, node);
+        }
+
+        if (meeting == NONE) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        return unpack(forward, backward, meeting, (int)best);
+    }
+
+    private SearchSpace nextSpace(SearchSpace forward, SearchSpace backward, long best) {
+        boolean forwardOpen = !forward.getHeap().isEmpty() && forward.getHeap().peekKey() < best;
+        boolean backwardOpen = !backward.getHeap().isEmpty() && backward.getHeap().peekKey() < best;
+        if (forwardOpen && backwardOpen) {
+            return forward.getHeap().peekKey() <= backward.getHeap().peekKey() ? forward : backward;
+        }
+        if (forwardOpen) {
+            return forward;
+        }
+        return backwardOpen ? backward : null;
+    }
+
+    private void relaxUpward(SearchSpace space, int node) {
+        int distance = space.getDistance(node);
+        space.countRelaxed(upOffsets[node + 1] - upOffsets[node]);
+        for (int i = upOffsets[node]; i < upOffsets[node + 1]; i++) {
+            int edge = upEdges[i];
+            int next = opposite(edge, node);
+            int nextDistance = distance + weights[edge];
+            if (nextDistance < space.getDistance(next)) {
+                space.reach(next, nextDistance, node, edge);
+                space.getHeap().push(next, nextDistance);
+            }
+        }
+    }
+
+    private ShortestPath unpack(SearchSpace forward, SearchSpace backward, int meeting, int distance) {
+        IntList upEdgesFromSource = new IntList();
+        for (int node = meeting; forward.getPrevNode(node) != NONE; node = forward.getPrevNode(node)) {
+            upEdgesFromSource.add(forward.getPrevEdge(node));
+        }
+        int source = meeting;
+        while (forward.getPrevNode(source) != NONE) {
+            source = forward.getPrevNode(source);
+        }
+
+        IntList nodes = new IntList();
+        nodes.add(source);
+        int surcharge = 0;
+        int current = source;
+        for (int i = upEdgesFromSource.size() - 1; i >= 0; i--) {
+            int edge = upEdgesFromSource.get(i);
+            surcharge = Math.max(surcharge, surcharges[edge]);
+            unpackEdge(edge, current, nodes);
+            current = opposite(edge, current);
+        }
+        for (int node = meeting; backward.getPrevNode(node) != NONE; node = backward.getPrevNode(node)) {
+            int edge = backward.getPrevEdge(node);
+            surcharge = Math.max(surcharge, surcharges[edge]);
+            unpackEdge(edge, node, nodes);
+        }
+        return ShortestPath.of(nodes.toArray(), distance, surcharge);
+    }
+
+    private void unpackEdge(int edge, int start, IntList nodes) {
+        IntList edges = new IntList();
+        IntList starts = new IntList();
+        edges.add(edge);
+        starts.add(start);
+        while (!edges.isEmpty()) {
+            int current = edges.removeLast();
+            int from = starts.removeLast();
+            if (firstChildren[current] == NONE) {
+                nodes.add(opposite(current, from));
+                continue;
+            }
+            boolean forwardDirection = from == froms[current];
+            int toward = forwardDirection ? firstChildren[current] : secondChildren[current];
+            int away = forwardDirection ? secondChildren[current] : firstChildren[current];
+            edges.add(away);
+            starts.add(middles[current]);
+            edges.add(toward);
+            starts.add(from);
+        }
+    }
+
+    private int opposite(int edge, int node) {
+        return froms[edge] == node ? tos[edge] : froms[edge];
+    }
+
+    private static class Contraction {
+        private final SubwayGraph graph;
+        private final IntList froms = new IntList();
+        private final IntList tos = new IntList();
+        private final IntList weights = new IntList();
+        private final IntList surcharges = new IntList();
+        private final IntList middles = new IntList();
+        private final IntList firstChildren = new IntList();
+        private final IntList secondChildren = new IntList();
+        private final IntList[] incidentEdges;
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] witnessDistances;
+        private final int[] witnessStamps;
+        private final IndexedMinHeap witnessHeap;
+        private int witnessGeneration;
+
+        private Contraction(SubwayGraph graph) {
+            this.graph = graph;
+            this.incidentEdges = new IntList[graph.size()];
+            this.contracted = new boolean[graph.size()];
+            this.contractedNeighbors = new int[graph.size()];
+            this.witnessDistances = new int[graph.size()];
+            this.witnessStamps = new int[graph.size()];
+            this.witnessHeap = new IndexedMinHeap(graph.size());
+            for (int node = 0; node < graph.size(); node++) {
+                incidentEdges[node] = new IntList();
+            }
+            addOriginalEdges();
+        }
+
+        private int[][] toTables() {
+            return new int[][] {froms.toArray(), tos.toArray(), weights.toArray(), surcharges.toArray(),
+                middles.toArray(), firstChildren.toArray(), secondChildren.toArray()};
+        }
+
+        private void addOriginalEdges() {
+            for (int node = 0; node < graph.size(); node++) {
+                for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                    int target = graph.getTarget(edge);
+                    if (node < target) {
+                        addEdge(node, target, graph.getDistance(edge), graph.getSurcharge(edge), NONE, NONE, NONE);
+                    }
+                }
+            }
+        }
+
+        private void addEdge(int from, int to, int weight, int surcharge, int middle, int first, int second) {
+            int edge = froms.size();
+            froms.add(from);
+            tos.add(to);
+            weights.add(weight);
+            surcharges.add(surcharge);
+            middles.add(middle);
+            firstChildren.add(first);
+            secondChildren.add(second);
+            incidentEdges[from].add(edge);
+            incidentEdges[to].add(edge);
+        }
+
+        private int[] contractAll() {
+            int[] ranks = new int[graph.size()];
+            IndexedMinHeap queue = new IndexedMinHeap(graph.size());
+            for (int node = 0; node < graph.size(); node++) {
+                queue.push(node, priority(node));
+            }
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                int priority = priority(node);
+                if (!queue.isEmpty() && priority > queue.peekKey()) {
+                    queue.push(node, priority);
+                    continue;
+                }
+                contract(node, false);
+                contracted[node] = true;
+                ranks[node] = rank++;
+            }
+            return ranks;
+        }
+
+        private int[] contractInOrder(int[] order) {
+            int[] ranks = new int[graph.size()];
+            for (int rank = 0; rank < order.length; rank++) {
+                int node = order[rank];
+                contract(node, false);
+                contracted[node] = true;
+                ranks[node] = rank;
+            }
+            return ranks;
+        }
+
+        private int priority(int node) {
+            int shortcuts = contract(node, true);
+            return shortcuts - activeNeighbors(node).size() + contractedNeighbors[node];
+        }
+
+        private int contract(int node, boolean simulate) {
+            IntList neighbors = activeNeighbors(node);
+            int shortcuts = 0;
+            for (int i = 0; i < neighbors.size(); i++) {
+                int firstEdge = neighbors.get(i);
+                int from = opposite(firstEdge, node);
+                int limit = weights.get(firstEdge) + maxWeight(neighbors, i + 1);
+                searchWitness(from, node, limit);
+                for (int j = i + 1; j < neighbors.size(); j++) {
+                    int secondEdge = neighbors.get(j);
+                    int to = opposite(secondEdge, node);
+                    int viaDistance = weights.get(firstEdge) + weights.get(secondEdge);
+                    if (witnessDistance(to) <= viaDistance) {
+                        continue;
+                    }
+                    shortcuts++;
+                    if (!simulate) {
+                        int surcharge = Math.max(surcharges.get(firstEdge), surcharges.get(secondEdge));
+                        addEdge(from, to, viaDistance, surcharge, node, firstEdge, secondEdge);
+                    }
+                }
+                if (!simulate) {
+                    contractedNeighbors[from]++;
+                }
+            }
+            return shortcuts;
+        }
+
+        private IntList activeNeighbors(int node) {
+            IntList neighbors = new IntList();
+            IntList edges = incidentEdges[node];
+            for (int i = 0; i < edges.size(); i++) {
+                int edge = edges.get(i);
+                int neighbor = opposite(edge, node);
+                if (neighbor != node && !contracted[neighbor]) {
+                    addShortestEdge(neighbors, edge, node);
+                }
+            }
+            return neighbors;
+        }
+
+        private void addShortestEdge(IntList neighbors, int edge, int node) {
+            int neighbor = opposite(edge, node);
+            for (int i = 0; i < neighbors.size(); i++) {
+                int other = neighbors.get(i);
+                if (opposite(other, node) == neighbor) {
+                    if (isShorter(edge, other)) {
+                        neighbors.set(i, edge);
+                    }
+                    return;
+                }
+            }
+            neighbors.add(edge);
+        }
+
+        private boolean isShorter(int edge, int other) {
+            if (weights.get(edge) != weights.get(other)) {
+                return weights.get(edge) < weights.get(other);
+            }
+            return surcharges.get(edge) < surcharges.get(other);
+        }
+
+        private int maxWeight(IntList edges, int fromIndex) {
+            int max = 0;
+            for (int i = fromIndex; i < edges.size(); i++) {
+                max = Math.max(max, weights.get(edges.get(i)));
+            }
+            return max;
+        }
+
+        private void searchWitness(int source, int excluded, int limit) {
+            if (++witnessGeneration == 0) {
+                Arrays.fill(witnessStamps, 0);
+                witnessGeneration = 1;
+            }
+            witnessHeap.clear();
+            reachWitness(source, 0);
+            witnessHeap.push(source, 0);
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled++ < WITNESS_SETTLE_LIMIT) {
+                if (witnessHeap.peekKey() > limit) {
+                    return;
+                }
+                int node = witnessHeap.poll();
+                IntList edges = incidentEdges[node];
+                for (int i = 0; i < edges.size(); i++) {
+                    int edge = edges.get(i);
+                    int next = opposite(edge, node);
+                    if (next == excluded || contracted[next]) {
+                        continue;
+                    }
+                    int nextDistance = witnessDistances[node] + weights.get(edge);
+                    if (nextDistance < witnessDistance(next)) {
+                        reachWitness(next, nextDistance);
+                        witnessHeap.push(next, nextDistance);
+                    }
+                }
+            }
+        }
+
+        private void reachWitness(int node, int distance) {
+            witnessStamps[node] = witnessGeneration;
+            witnessDistances[node] = distance;
+        }
+
+        private int witnessDistance(int node) {
+            if (witnessStamps[node] != witnessGeneration) {
+                return Integer.MAX_VALUE;
+            }
+            return witnessDistances[node];
+        }
+
+        private int opposite(int edge, int node) {
+            return froms.get(edge) == node ? tos.get(edge) : froms.get(edge);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.Objects;
+
+import javax.annotation.PreDestroy;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+public class ContractionHierarchyPathFinder implements PathFinder {
+
+    private final NetworkPreprocessor<ContractionHierarchy> hierarchies =
+        new NetworkPreprocessor<>("contraction-hierarchy", this::buildHierarchy);
+
+    @Override
+    public PathFinderResponse getShortestPaths(SubwayNetwork network, Station sourceStation, Station targetStation) {
+        validateSameStation(sourceStation, targetStation);
+        ContractionHierarchy hierarchy = hierarchies.get(network, true);
+        SubwayGraph graph = hierarchy.getGraph();
+        int source = graph.indexOf(sourceStation);
+        int target = graph.indexOf(targetStation);
+        PathFinderResponse response = hierarchy.findPath(source, target).toResponse(graph);
+        return graph == network.getSubwayGraph() ? response : response.toStale();
+    }
+
+    @Override
+    public void prepare(SubwayNetwork network) {
+        hierarchies.prepare(network);
+    }
+
+    @Override
+    public void awaitPrepared(SubwayNetwork network) {
+        hierarchies.await(network);
+    }
+
+    @PreDestroy
+    @Override
+    public void shutdown() {
+        hierarchies.shutdown();
+    }
+
+    @Override
+    public SubwayGraphSnapshot snapshot(SubwayNetwork network, NetworkRevision revision) {
+        SubwayGraphSnapshot snapshot = PathFinder.super.snapshot(network, revision);
+        ContractionHierarchy prepared = hierarchies.find(network);
+        return Objects.isNull(prepared) ? snapshot : snapshot.withHierarchy(prepared);
+    }
+
+    @Override
+    public void restore(SubwayNetwork network, SubwayGraphSnapshot snapshot) {
+        snapshot.toHierarchy(network).ifPresent(restored -> hierarchies.restore(network, restored));
+    }
+
+    private ContractionHierarchy buildHierarchy(SubwayNetwork network) {
+        return ContractionHierarchy.of(network, hierarchies.getCurrent());
+    }
+
+    private void validateSameStation(Station sourceStation, Station targetStation) {
+        if (sourceStation.equals(targetStation)) {
+            throw new BadRequestException(SAME_STATION);
+        }
+    }
+}
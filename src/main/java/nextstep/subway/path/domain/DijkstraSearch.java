@@ -0,0 +1,76 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class DijkstraSearch {
+    private static final int PENDING = 0;
+    private static final int SETTLED = 1;
+
+    private DijkstraSearch() {
+    }
+
+    public static ShortestPath findPath(SubwayGraph graph, int source, int target) {
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        space.start(source);
+
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            if (node == target) {
+                return ShortestPath.of(graph, space, target);
+            }
+            relax(graph, space, node);
+        }
+        throw new BadRequestException(NOT_CONNECTED_STATION);
+    }
+
+    public static SearchSpace searchTree(SubwayGraph graph, int source, int maxDistance) {
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        space.start(source);
+
+        while (!heap.isEmpty() && heap.peekKey() <= maxDistance) {
+            relax(graph, space, heap.poll());
+        }
+        return space;
+    }
+
+    public static SearchSpace searchTargets(SubwayGraph graph, int source, int[] targets) {
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        space.start(source);
+
+        SearchSpace targetSpace = SearchSpace.backward(graph.size());
+        int remaining = 0;
+        for (int target : targets) {
+            if (!targetSpace.isReached(target)) {
+                targetSpace.reach(target, PENDING, SearchSpace.NONE, SearchSpace.NONE);
+                remaining++;
+            }
+        }
+        while (!heap.isEmpty() && remaining > 0) {
+            int node = heap.poll();
+            if (targetSpace.getDistance(node) == PENDING) {
+                targetSpace.reach(node, SETTLED, SearchSpace.NONE, SearchSpace.NONE);
+                remaining--;
+            }
+            relax(graph, space, node);
+        }
+        return space;
+    }
+
+    static void relax(SubwayGraph graph, SearchSpace space, int node) {
+        int distance = space.getDistance(node);
+        space.countRelaxed(graph.lastEdge(node) - graph.firstEdge(node));
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int next = graph.getTarget(edge);
+            int nextDistance = distance + graph.getDistance(edge);
+            if (nextDistance < space.getDistance(next)) {
+                space.reach(next, nextDistance, node, edge);
+                space.getHeap().push(next, nextDistance);
+            }
+        }
+    }
+}
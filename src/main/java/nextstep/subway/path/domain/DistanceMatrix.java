@@ -0,0 +1,99 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.stream.IntStream;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class DistanceMatrix {
+    public static final int MAX_STATIONS = 1_000;
+
+    private static final int NONE = SearchSpace.NONE;
+    private static final int INFINITY = SearchSpace.INFINITY;
+
+    private final SubwayGraph graph;
+    private final int[] distances;
+    private final int[] nextHops;
+    private final int[] surcharges;
+
+    private DistanceMatrix(SubwayGraph graph, int[] distances, int[] nextHops, int[] surcharges) {
+        this.graph = graph;
+        this.distances = distances;
+        this.nextHops = nextHops;
+        this.surcharges = surcharges;
+    }
+
+    public static boolean supports(SubwayGraph graph) {
+        return graph.size() <= MAX_STATIONS;
+    }
+
+    public static DistanceMatrix of(SubwayNetwork network) {
+        SubwayGraph graph = network.getSubwayGraph();
+        int size = graph.size();
+        int[] distances = new int[size * size];
+        int[] nextHops = new int[size * size];
+        int[] surcharges = new int[size * size];
+        IntStream.range(0, size)
+            .parallel()
+            .forEach(target -> fillRow(graph, target, distances, nextHops, surcharges));
+        return new DistanceMatrix(graph, distances, nextHops, surcharges);
+    }
+
+    private static void fillRow(SubwayGraph graph, int target, int[] distances, int[] nextHops, int[] surcharges) {
+        int size = graph.size();
+        int offset = target * size;
+        SearchSpace space = DijkstraSearch.searchTree(graph, target, INFINITY);
+        for (int node = 0; node < size; node++) {
+            distances[offset + node] = space.getDistance(node);
+            nextHops[offset + node] = space.isReached(node) ? space.getPrevNode(node) : NONE;
+        }
+        fillSurcharges(graph, space, offset, surcharges);
+    }
+
+    private static void fillSurcharges(SubwayGraph graph, SearchSpace space, int offset, int[] surcharges) {
+        int size = graph.size();
+        boolean[] filled = new boolean[size];
+        IntList pending = new IntList();
+        for (int node = 0; node < size; node++) {
+            int current = node;
+            while (!filled[current] && space.isReached(current) && space.getPrevNode(current) != NONE) {
+                pending.add(current);
+                current = space.getPrevNode(current);
+            }
+            int surcharge = filled[current] ? surcharges[offset + current] : 0;
+            filled[current] = true;
+            surcharges[offset + current] = surcharge;
+            while (!pending.isEmpty()) {
+                int child = pending.removeLast();
+                surcharge = Math.max(surcharge, graph.getSurcharge(space.getPrevEdge(child)));
+                surcharges[offset + child] = surcharge;
+                filled[child] = true;
+            }
+        }
+    }
+
+    public ShortestPath findPath(int source, int target) {
+        int offset = target * graph.size();
+        if (distances[offset + source] == INFINITY) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        IntList nodes = new IntList();
+        for (int node = source; node != NONE; node = nextHops[offset + node]) {
+            nodes.add(node);
+        }
+        return ShortestPath.of(nodes.toArray(), distances[offset + source], surcharges[offset + source]);
+    }
+
+    public int getDistance(int source, int target) {
+        return distances[target * graph.size() + source];
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+
+    public long getMemoryBytes() {
+        return (long)(distances.length + nextHops.length + surcharges.length) * Integer.BYTES;
+    }
+}
@@ -0,0 +1,94 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.Arrays;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class FareOptimalSearch {
+    private static final int NONE = SearchSpace.NONE;
+    private static final int NO_SURCHARGE = 0;
+
+    private final SubwayGraph graph;
+    private final int[] levels;
+    private final SearchSpace states;
+    private final SearchSpace settledLevels;
+
+    private FareOptimalSearch(SubwayGraph graph) {
+        this.graph = graph;
+        this.levels = graph.getSurchargeLevels();
+        this.states = SearchSpace.forward(Math.max(levels.length, 1) * graph.size());
+        this.settledLevels = SearchSpace.backward(graph.size());
+    }
+
+    public static ShortestPath findPath(SubwayGraph graph, int source, int target) {
+        return new FareOptimalSearch(graph).search(source, target);
+    }
+
+    private ShortestPath search(int source, int target) {
+        int size = graph.size();
+        IndexedMinHeap heap = states.getHeap();
+        states.start(source);
+
+        int bestState = NONE;
+        int bestFare = Integer.MAX_VALUE;
+        while (!heap.isEmpty() && SubwayFare.getBaseFare(heap.peekKey(), NO_SURCHARGE) < bestFare) {
+            int state = heap.poll();
+            int node = state % size;
+            int level = state / size;
+            if (getSettledLevel(node) <= level) {
+                continue;
+            }
+            settledLevels.reach(node, level, NONE, NONE);
+            if (node == target) {
+                int fare = SubwayFare.getBaseFare(states.getDistance(state), levels[level]);
+                if (fare < bestFare) {
+                    bestFare = fare;
+                    bestState = state;
+                }
+                continue;
+            }
+            relax(state, node, level);
+        }
+        if (bestState == NONE) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        return toShortestPath(bestState);
+    }
+
+    private void relax(int state, int node, int level) {
+        int size = graph.size();
+        states.countRelaxed(graph.lastEdge(node) - graph.firstEdge(node));
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int next = graph.getTarget(edge);
+            int nextLevel = Math.max(level, Arrays.binarySearch(levels, graph.getSurcharge(edge)));
+            if (getSettledLevel(next) <= nextLevel) {
+                continue;
+            }
+            int nextState = nextLevel * size + next;
+            int nextDistance = states.getDistance(state) + graph.getDistance(edge);
+            if (nextDistance < states.getDistance(nextState)) {
+                states.reach(nextState, nextDistance, state, edge);
+                states.getHeap().push(nextState, nextDistance);
+            }
+        }
+    }
+
+    private int getSettledLevel(int node) {
+        return settledLevels.getDistance(node);
+    }
+
+    private ShortestPath toShortestPath(int targetState) {
+        int size = graph.size();
+        IntList path = new IntList();
+        for (int state = targetState; state != NONE; state = states.getPrevNode(state)) {
+            path.add(state);
+        }
+        int[] nodes = new int[path.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = path.get(nodes.length - 1 - i) % size;
+        }
+        return ShortestPath.of(nodes, states.getDistance(targetState), levels[targetState / size]);
+    }
+}
@@ -0,0 +1,18 @@
+package nextstep.subway.path.domain;
+
+public class GeoDistance {
+    private static final double EARTH_RADIUS_KILOMETER = 6_371.0088;
+
+    private GeoDistance() {
+    }
+
+    public static double kilometersBetween(double latitude, double longitude,
+        double otherLatitude, double otherLongitude) {
+        double latitudeDelta = Math.toRadians(otherLatitude - latitude);
+        double longitudeDelta = Math.toRadians(otherLongitude - longitude);
+        double a = Math.pow(Math.sin(latitudeDelta / 2), 2)
+            + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(otherLatitude))
+            * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_KILOMETER * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,5 @@
+package nextstep.subway.path.domain;
+
+public interface Heuristic {
+    int estimate(int node, int target);
+}
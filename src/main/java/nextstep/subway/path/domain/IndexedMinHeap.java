@@ -0,0 +1,136 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+public class IndexedMinHeap {
+    private static final int ROOT = 0;
+
+    private int[] nodes;
+    private int[] keys;
+    private int[] positions;
+    private int size;
+    private long pushCount;
+    private long pollCount;
+
+    public IndexedMinHeap(int capacity) {
+        nodes = new int[capacity];
+        keys = new int[capacity];
+        positions = new int[capacity];
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (positions.length < capacity) {
+            nodes = Arrays.copyOf(nodes, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int node) {
+        int position = positions[node];
+        return position < size && nodes[position] == node;
+    }
+
+    public int peekKey() {
+        return keys[ROOT];
+    }
+
+    public int peek() {
+        return nodes[ROOT];
+    }
+
+    public void push(int node, int key) {
+        pushCount++;
+        if (contains(node)) {
+            decreaseKey(node, key);
+            return;
+        }
+        nodes[size] = node;
+        keys[size] = key;
+        positions[node] = size;
+        siftUp(size++);
+    }
+
+    public int poll() {
+        pollCount++;
+        int node = nodes[ROOT];
+        size--;
+        if (size > 0) {
+            move(size, ROOT);
+            siftDown(ROOT);
+        }
+        positions[node] = Integer.MAX_VALUE;
+        return node;
+    }
+
+    public long getPushCount() {
+        return pushCount;
+    }
+
+    public long getPollCount() {
+        return pollCount;
+    }
+
+    private void decreaseKey(int node, int key) {
+        int position = positions[node];
+        if (key < keys[position]) {
+            keys[position] = key;
+            siftUp(position);
+        }
+    }
+
+    private void siftUp(int position) {
+        int node = nodes[position];
+        int key = keys[position];
+        while (position > ROOT) {
+            int parent = (position - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, position);
+            position = parent;
+        }
+        place(node, key, position);
+    }
+
+    private void siftDown(int position) {
+        int node = nodes[position];
+        int key = keys[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = (position << 1) + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            move(child, position);
+            position = child;
+        }
+        place(node, key, position);
+    }
+
+    private void move(int from, int to) {
+        place(nodes[from], keys[from], to);
+    }
+
+    private void place(int node, int key, int position) {
+        nodes[position] = node;
+        keys[position] = key;
+        positions[node] = position;
+    }
+}
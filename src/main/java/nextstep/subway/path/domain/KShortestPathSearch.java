@@ -0,0 +1,246 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class KShortestPathSearch {
+    private static final int INFINITY = SearchSpace.INFINITY;
+    private static final int NONE = SearchSpace.NONE;
+
+    private final SubwayGraph graph;
+    private final int target;
+    private final int[] toTarget;
+    private final int[] towardTarget;
+    private final boolean[] blockedNodes;
+    private final IntList blockedEdges = new IntList();
+    private int remainingExpansions;
+
+    private KShortestPathSearch(SubwayGraph graph, int target, int maxExpansions) {
+        this.graph = graph;
+        this.target = target;
+        this.toTarget = new int[graph.size()];
+        this.towardTarget = new int[graph.size()];
+        this.blockedNodes = new boolean[graph.size()];
+        this.remainingExpansions = maxExpansions;
+        SearchSpace tree = DijkstraSearch.searchTree(graph, target, INFINITY);
+        for (int node = 0; node < graph.size(); node++) {
+            toTarget[node] = tree.getDistance(node);
+            towardTarget[node] = tree.isReached(node) ? tree.getPrevNode(node) : NONE;
+        }
+    }
+
+    public static List<ShortestPath> findPaths(SubwayGraph graph, int source, int target, int count,
+        int maxExpansions) {
+        if (source == target) {
+            throw new BadRequestException(SAME_STATION);
+        }
+        return new KShortestPathSearch(graph, target, maxExpansions).findPaths(source, count);
+    }
+
+    private List<ShortestPath> findPaths(int source, int count) {
+        Route shortest = findTreeRoute(source);
+        if (Objects.isNull(shortest)) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        List<Route> accepted = new ArrayList<>();
+        accepted.add(shortest);
+        PriorityQueue<Route> candidates = new PriorityQueue<>(Route.ORDER);
+        Set<Route> seen = new HashSet<>();
+        seen.add(shortest);
+
+        while (accepted.size() < count && remainingExpansions > 0) {
+            Route last = accepted.get(accepted.size() - 1);
+            for (int spurIndex = 0; spurIndex < last.edges.length && remainingExpansions > 0; spurIndex++) {
+                Route candidate = findSpurCandidate(accepted, last, spurIndex);
+                if (Objects.nonNull(candidate) && seen.add(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            if (remainingExpansions <= 0 || candidates.isEmpty()) {
+                break;
+            }
+            accepted.add(candidates.poll());
+        }
+        return accepted.stream()
+            .map(route -> route.toShortestPath(graph))
+            .collect(Collectors.toList());
+    }
+
+    private Route findSpurCandidate(List<Route> accepted, Route last, int spurIndex) {
+        for (int i = 0; i < spurIndex; i++) {
+            blockedNodes[last.nodes[i]] = true;
+        }
+        for (Route route : accepted) {
+            if (route.edges.length > spurIndex && route.hasSameEdges(last, spurIndex)) {
+                blockedEdges.add(route.edges[spurIndex]);
+            }
+        }
+
+        int spurNode = last.nodes[spurIndex];
+        Route spur = findTreeRoute(spurNode);
+        if (Objects.isNull(spur)) {
+            spur = findSearchedRoute(spurNode);
+        }
+
+        for (int i = 0; i < spurIndex; i++) {
+            blockedNodes[last.nodes[i]] = false;
+        }
+        blockedEdges.clear();
+        return Objects.isNull(spur) ? null : last.join(graph, spurIndex, spur);
+    }
+
+    private Route findTreeRoute(int spurNode) {
+        if (toTarget[spurNode] == INFINITY) {
+            return null;
+        }
+        IntList nodes = new IntList();
+        IntList edges = new IntList();
+        nodes.add(spurNode);
+        for (int node = spurNode; node != target; node = towardTarget[node]) {
+            int edge = findTreeEdge(node);
+            if (edge == NONE || blockedNodes[towardTarget[node]]) {
+                return null;
+            }
+            edges.add(edge);
+            nodes.add(towardTarget[node]);
+        }
+        return new Route(nodes.toArray(), edges.toArray(), toTarget[spurNode]);
+    }
+
+    private int findTreeEdge(int node) {
+        int next = towardTarget[node];
+        int found = NONE;
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            if (graph.getTarget(edge) == next && graph.getDistance(edge) == toTarget[node] - toTarget[next]
+                && !isBlocked(edge) && (found == NONE || graph.getSurcharge(edge) < graph.getSurcharge(found))) {
+                found = edge;
+            }
+        }
+        return found;
+    }
+
+    private Route findSearchedRoute(int spurNode) {
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        space.start(spurNode);
+
+        while (!heap.isEmpty() && remainingExpansions-- > 0) {
+            int node = heap.poll();
+            if (node == target) {
+                return toRoute(space, spurNode);
+            }
+            int distance = space.getDistance(node);
+            space.countRelaxed(graph.lastEdge(node) - graph.firstEdge(node));
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int next = graph.getTarget(edge);
+                int nextDistance = distance + graph.getDistance(edge);
+                if (blockedNodes[next] || isBlocked(edge) || toTarget[next] == INFINITY
+                    || nextDistance >= space.getDistance(next)) {
+                    continue;
+                }
+                space.reach(next, nextDistance, node, edge);
+                heap.push(next, nextDistance + toTarget[next]);
+            }
+        }
+        return null;
+    }
+
+    private Route toRoute(SearchSpace space, int spurNode) {
+        IntList nodes = new IntList();
+        IntList edges = new IntList();
+        for (int node = target; node != spurNode; node = space.getPrevNode(node)) {
+            nodes.add(node);
+            edges.add(space.getPrevEdge(node));
+        }
+        nodes.add(spurNode);
+        return new Route(reverse(nodes.toArray()), reverse(edges.toArray()), space.getDistance(target));
+    }
+
+    private boolean isBlocked(int edge) {
+        for (int i = 0; i < blockedEdges.size(); i++) {
+            if (blockedEdges.get(i) == edge) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+        return values;
+    }
+
+    private static class Route {
+        private static final Comparator<Route> ORDER = Comparator.<Route>comparingInt(route -> route.distance)
+            .thenComparingInt(route -> route.edges.length);
+
+        private final int[] nodes;
+        private final int[] edges;
+        private final int distance;
+
+        private Route(int[] nodes, int[] edges, int distance) {
+            this.nodes = nodes;
+            this.edges = edges;
+            this.distance = distance;
+        }
+
+        private boolean hasSameEdges(Route other, int length) {
+            for (int i = 0; i < length; i++) {
+                if (edges[i] != other.edges[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Route join(SubwayGraph graph, int spurIndex, Route spur) {
+            int[] joinedNodes = new int[spurIndex + spur.nodes.length];
+            int[] joinedEdges = new int[spurIndex + spur.edges.length];
+            System.arraycopy(nodes, 0, joinedNodes, 0, spurIndex);
+            System.arraycopy(spur.nodes, 0, joinedNodes, spurIndex, spur.nodes.length);
+            System.arraycopy(edges, 0, joinedEdges, 0, spurIndex);
+            System.arraycopy(spur.edges, 0, joinedEdges, spurIndex, spur.edges.length);
+            int rootDistance = 0;
+            for (int i = 0; i < spurIndex; i++) {
+                rootDistance += graph.getDistance(edges[i]);
+            }
+            return new Route(joinedNodes, joinedEdges, rootDistance + spur.distance);
+        }
+
+        private ShortestPath toShortestPath(SubwayGraph graph) {
+            int surcharge = 0;
+            for (int edge : edges) {
+                surcharge = Math.max(surcharge, graph.getSurcharge(edge));
+            }
+            return ShortestPath.of(nodes, distance, surcharge);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Route route = (Route) o;
+            return Arrays.equals(edges, route.edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(edges);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.Objects;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+public class LandmarkPathFinder implements PathFinder {
+    private static final Logger log = LoggerFactory.getLogger(LandmarkPathFinder.class);
+    private static final int LANDMARK_COUNT = 8;
+
+    private final NetworkPreprocessor<Landmarks> landmarks =
+        new NetworkPreprocessor<>("alt-landmarks", this::buildLandmarks);
+
+    @Override
+    public PathFinderResponse getShortestPaths(SubwayNetwork network, Station sourceStation, Station targetStation) {
+        validateSameStation(sourceStation, targetStation);
+        SubwayGraph graph = network.getSubwayGraph();
+        int source = graph.indexOf(sourceStation);
+        int target = graph.indexOf(targetStation);
+        Landmarks current = landmarks.get(network, false);
+        if (Objects.isNull(current)) {
+            return DijkstraSearch.findPath(graph, source, target).toResponse(graph);
+        }
+        return AStarSearch.findPath(graph, source, target, current).toResponse(graph);
+    }
+
+    @Override
+    public void prepare(SubwayNetwork network) {
+        landmarks.prepare(network);
+    }
+
+    @Override
+    public void awaitPrepared(SubwayNetwork network) {
+        landmarks.await(network);
+    }
+
+    @PreDestroy
+    @Override
+    public void shutdown() {
+        landmarks.shutdown();
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        Landmarks current = landmarks.getCurrent();
+        return Objects.isNull(current) ? 0 : current.getMemoryBytes();
+    }
+
+    @Override
+    public SubwayGraphSnapshot snapshot(SubwayNetwork network, NetworkRevision revision) {
+        SubwayGraphSnapshot snapshot = PathFinder.super.snapshot(network, revision);
+        Landmarks prepared = landmarks.find(network);
+        return Objects.isNull(prepared) ? snapshot : snapshot.withLandmarks(prepared);
+    }
+
+    @Override
+    public void restore(SubwayNetwork network, SubwayGraphSnapshot snapshot) {
+        snapshot.toLandmarks(network).ifPresent(restored -> landmarks.restore(network, restored));
+    }
+
+    public Landmarks getLandmarks() {
+        return landmarks.getCurrent();
+    }
+
+    private Landmarks buildLandmarks(SubwayNetwork network) {
+        Landmarks built = Landmarks.of(network.getSubwayGraph(), LANDMARK_COUNT, landmarks.getCurrent());
+        log.info("landmarks built for network version {}: count={}, reused={}, copiedRows={}, repairedNodes={}, "
+                + "memory={} bytes", network.getVersion(), built.getLandmarkCount(), built.getReusedCount(),
+            built.getCopiedRowCount(), built.getRepairedNodeCount(), built.getMemoryBytes());
+        return built;
+    }
+
+    private void validateSameStation(Station sourceStation, Station targetStation) {
+        if (sourceStation.equals(targetStation)) {
+            throw new BadRequestException(SAME_STATION);
+        }
+    }
+}
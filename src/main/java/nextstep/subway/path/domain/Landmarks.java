@@ -0,0 +1,334 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import nextstep.subway.station.domain.Station;
+
+public class Landmarks implements Heuristic {
+    private static final int INFINITY = SearchSpace.INFINITY;
+    private static final int BYTES_PER_INT = Integer.BYTES;
+
+    private final SubwayGraph graph;
+    private final int[] landmarks;
+    private final int[] distances;
+    private final int reusedCount;
+    private final int copiedRowCount;
+    private final int repairedNodeCount;
+
+    private Landmarks(SubwayGraph graph, int[] landmarks, int[] distances, int reusedCount, int copiedRowCount,
+        int repairedNodeCount) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.distances = distances;
+        this.reusedCount = reusedCount;
+        this.copiedRowCount = copiedRowCount;
+        this.repairedNodeCount = repairedNodeCount;
+    }
+
+    public static Landmarks of(SubwayGraph graph, int count, Landmarks previous) {
+        if (isRepairable(graph, count, previous)) {
+            return previous.repair(graph);
+        }
+        int size = graph.size();
+        int landmarkCount = Math.min(count, size);
+        int[] landmarks = new int[landmarkCount];
+        int[] previousRows = new int[landmarkCount];
+        int[] distances = new int[landmarkCount * size];
+        int selected = reuse(graph, previous, landmarks, previousRows);
+        int reusedCount = selected;
+        int copiedRowCount = 0;
+        int[] previousIndexes = selected > 0 ? previous.indexesOf(graph) : null;
+        for (int i = 0; i < selected; i++) {
+            if (Objects.nonNull(previousIndexes)
+                && previous.isValidRow(previousRows[i], graph, previousIndexes, landmarks[i])) {
+                previous.copyRow(previousRows[i], previousIndexes, distances, i * size);
+                copiedRowCount++;
+            } else {
+                fillDistances(graph, landmarks[i], distances, i);
+            }
+        }
+        while (selected < landmarkCount) {
+            landmarks[selected] = selectFarthest(graph, landmarks, distances, selected);
+            fillDistances(graph, landmarks[selected], distances, selected);
+            selected++;
+        }
+        return new Landmarks(graph, landmarks, distances, reusedCount, copiedRowCount, 0);
+    }
+
+    static Landmarks of(SubwayGraph graph, int[] landmarks, int[] distances) {
+        return new Landmarks(graph, landmarks, distances, 0, 0, 0);
+    }
+
+    private static boolean isRepairable(SubwayGraph graph, int count, Landmarks previous) {
+        if (Objects.isNull(previous) || !graph.isPatchOf(previous.graph)
+            || previous.landmarks.length != Math.min(count, graph.size())) {
+            return false;
+        }
+        for (int landmark : previous.landmarks) {
+            if (!graph.isActive(landmark)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Landmarks repair(SubwayGraph next) {
+        int size = next.size();
+        int previousSize = graph.size();
+        int[] nextDistances = new int[landmarks.length * size];
+        int repairedNodeCount = 0;
+        for (int i = 0; i < landmarks.length; i++) {
+            System.arraycopy(distances, i * previousSize, nextDistances, i * size, previousSize);
+            Arrays.fill(nextDistances, i * size + previousSize, (i + 1) * size, INFINITY);
+            repairedNodeCount += repairRow(next, landmarks[i], nextDistances, i * size);
+        }
+        return new Landmarks(next, landmarks, nextDistances, landmarks.length, landmarks.length, repairedNodeCount);
+    }
+
+    private static int repairRow(SubwayGraph graph, int landmark, int[] distances, int offset) {
+        IntList invalidated = invalidate(graph, landmark, distances, offset);
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        pushNearest(graph, invalidated.toArray(), distances, offset, heap);
+        pushNearest(graph, graph.getChangedNodes(), distances, offset, heap);
+        int repaired = 0;
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            repaired++;
+            long distance = distances[offset + node];
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int target = graph.getTarget(edge);
+                long throughNode = distance + graph.getDistance(edge);
+                if (throughNode < distances[offset + target]) {
+                    distances[offset + target] = (int)throughNode;
+                    heap.push(target, (int)throughNode);
+                }
+            }
+        }
+        return repaired;
+    }
+
+    private static IntList invalidate(SubwayGraph graph, int landmark, int[] distances, int offset) {
+        SearchSpace space = SearchSpace.backward(graph.size());
+        IndexedMinHeap candidates = space.getHeap();
+        for (int node : graph.getChangedNodes()) {
+            if (node != landmark && distances[offset + node] != INFINITY) {
+                candidates.push(node, distances[offset + node]);
+            }
+        }
+        IntList invalidated = new IntList();
+        while (!candidates.isEmpty()) {
+            int node = candidates.poll();
+            if (hasTightNeighbor(graph, space, distances, offset, node)) {
+                continue;
+            }
+            space.reach(node, distances[offset + node], SearchSpace.NONE, SearchSpace.NONE);
+            invalidated.add(node);
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int target = graph.getTarget(edge);
+                int targetDistance = distances[offset + target];
+                if (target != landmark && !space.isReached(target) && targetDistance != INFINITY
+                    && (long)distances[offset + node] + graph.getDistance(edge) == targetDistance) {
+                    candidates.push(target, targetDistance);
+                }
+            }
+        }
+        for (int i = 0; i < invalidated.size(); i++) {
+            distances[offset + invalidated.get(i)] = INFINITY;
+        }
+        return invalidated;
+    }
+
+    private static boolean hasTightNeighbor(SubwayGraph graph, SearchSpace invalidated, int[] distances, int offset,
+        int node) {
+        int distance = distances[offset + node];
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            int neighbor = graph.getTarget(edge);
+            int neighborDistance = distances[offset + neighbor];
+            if (!invalidated.isReached(neighbor) && neighborDistance < distance
+                && (long)neighborDistance + graph.getDistance(edge) == distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void pushNearest(SubwayGraph graph, int[] nodes, int[] distances, int offset,
+        IndexedMinHeap heap) {
+        for (int node : nodes) {
+            long nearest = distances[offset + node];
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                int neighborDistance = distances[offset + graph.getTarget(edge)];
+                if (neighborDistance != INFINITY) {
+                    nearest = Math.min(nearest, (long)neighborDistance + graph.getDistance(edge));
+                }
+            }
+            if (nearest != INFINITY) {
+                distances[offset + node] = (int)nearest;
+                heap.push(node, (int)nearest);
+            }
+        }
+    }
+
+    private static int reuse(SubwayGraph graph, Landmarks previous, int[] landmarks, int[] previousRows) {
+        if (Objects.isNull(previous)) {
+            return 0;
+        }
+        int reused = 0;
+        for (int i = 0; i < previous.landmarks.length && reused < landmarks.length; i++) {
+            Station station = previous.graph.getStation(previous.landmarks[i]);
+            if (graph.contains(station)) {
+                previousRows[reused] = i;
+                landmarks[reused++] = graph.indexOf(station);
+            }
+        }
+        return reused;
+    }
+
+    private int[] indexesOf(SubwayGraph next) {
+        int[] indexes = new int[next.size()];
+        for (int node = 0; node < next.size(); node++) {
+            Station station = next.getStation(node);
+            if (!graph.contains(station)) {
+                return null;
+            }
+            indexes[node] = graph.indexOf(station);
+        }
+        return indexes;
+    }
+
+    private boolean isValidRow(int row, SubwayGraph next, int[] previousIndexes, int landmark) {
+        int offset = row * graph.size();
+        for (int node = 0; node < next.size(); node++) {
+            long distance = distances[offset + previousIndexes[node]];
+            boolean tight = node == landmark || distance == INFINITY;
+            for (int edge = next.firstEdge(node); edge < next.lastEdge(node); edge++) {
+                long neighborDistance = distances[offset + previousIndexes[next.getTarget(edge)]];
+                if (neighborDistance == INFINITY) {
+                    continue;
+                }
+                long throughNeighbor = neighborDistance + next.getDistance(edge);
+                if (throughNeighbor < distance) {
+                    return false;
+                }
+                tight |= throughNeighbor == distance;
+            }
+            if (!tight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void copyRow(int row, int[] previousIndexes, int[] nextDistances, int nextOffset) {
+        int offset = row * graph.size();
+        for (int node = 0; node < previousIndexes.length; node++) {
+            nextDistances[nextOffset + node] = distances[offset + previousIndexes[node]];
+        }
+    }
+
+    private static int selectFarthest(SubwayGraph graph, int[] landmarks, int[] distances, int selected) {
+        if (selected == 0) {
+            return farthestFrom(graph, firstActive(graph));
+        }
+        int farthest = SearchSpace.NONE;
+        long farthestDistance = -1;
+        for (int node = 0; node < graph.size(); node++) {
+            if (!graph.isActive(node)) {
+                continue;
+            }
+            long nearest = nearestLandmarkDistance(graph.size(), landmarks, distances, selected, node);
+            if (nearest > farthestDistance) {
+                farthest = node;
+                farthestDistance = nearest;
+            }
+        }
+        return farthest;
+    }
+
+    private static int firstActive(SubwayGraph graph) {
+        for (int node = 0; node < graph.size(); node++) {
+            if (graph.isActive(node)) {
+                return node;
+            }
+        }
+        return 0;
+    }
+
+    private static int farthestFrom(SubwayGraph graph, int source) {
+        SearchSpace space = DijkstraSearch.searchTree(graph, source, INFINITY);
+        int farthest = source;
+        for (int node = 0; node < graph.size(); node++) {
+            if (space.getDistance(node) != INFINITY && space.getDistance(node) > space.getDistance(farthest)) {
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+
+    private static long nearestLandmarkDistance(int size, int[] landmarks, int[] distances, int selected, int node) {
+        long nearest = Long.MAX_VALUE;
+        for (int i = 0; i < selected; i++) {
+            if (landmarks[i] == node) {
+                return -1;
+            }
+            nearest = Math.min(nearest, distances[i * size + node]);
+        }
+        return nearest;
+    }
+
+    private static void fillDistances(SubwayGraph graph, int landmark, int[] distances, int index) {
+        SearchSpace space = DijkstraSearch.searchTree(graph, landmark, INFINITY);
+        int offset = index * graph.size();
+        for (int node = 0; node < graph.size(); node++) {
+            distances[offset + node] = space.getDistance(node);
+        }
+    }
+
+    @Override
+    public int estimate(int node, int target) {
+        int size = graph.size();
+        int estimate = 0;
+        for (int offset = 0; offset < distances.length; offset += size) {
+            int toNode = distances[offset + node];
+            int toTarget = distances[offset + target];
+            if (toNode != INFINITY && toTarget != INFINITY) {
+                estimate = Math.max(estimate, Math.abs(toTarget - toNode));
+            }
+        }
+        return estimate;
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    public int getReusedCount() {
+        return reusedCount;
+    }
+
+    public int getCopiedRowCount() {
+        return copiedRowCount;
+    }
+
+    public int getRepairedNodeCount() {
+        return repairedNodeCount;
+    }
+
+    int getLandmark(int index) {
+        return landmarks[index];
+    }
+
+    int getDistance(int index, int node) {
+        return distances[index * graph.size() + node];
+    }
+
+    public long getMemoryBytes() {
+        return (long)(landmarks.length + distances.length) * BYTES_PER_INT;
+    }
+}
@@ -0,0 +1,164 @@
+package nextstep.subway.path.domain;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class NetworkPreprocessor<T> {
+    private static final Logger log = LoggerFactory.getLogger(NetworkPreprocessor.class);
+
+    private final String name;
+    private final Function<SubwayNetwork, T> builder;
+    private final AtomicReference<Prepared<T>> current = new AtomicReference<>();
+    private final AtomicReference<SubwayNetwork> latestNetwork = new AtomicReference<>();
+    private final ExecutorService executor;
+    private volatile long failureCount;
+
+    public NetworkPreprocessor(String name, Function<SubwayNetwork, T> builder) {
+        this.name = name;
+        this.builder = builder;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void prepare(SubwayNetwork network) {
+        SubwayNetwork previous = latestNetwork.getAndAccumulate(network, NetworkPreprocessor::newer);
+        if (Objects.isNull(previous) || supersedes(network, previous)) {
+            executor.execute(this::buildLatest);
+        }
+    }
+
+    public T get(SubwayNetwork network, boolean allowStale) {
+        Prepared<T> prepared = current.get();
+        if (Objects.isNull(prepared)) {
+            prepared = awaitPrepared(network);
+        }
+        if (isSameGraph(prepared.network, network)) {
+            return prepared.value;
+        }
+        prepare(network);
+        return allowStale ? prepared.value : null;
+    }
+
+    public T await(SubwayNetwork network) {
+        return awaitPrepared(network).value;
+    }
+
+    public T find(SubwayNetwork network) {
+        Prepared<T> prepared = current.get();
+        return Objects.nonNull(prepared) && isSameGraph(prepared.network, network) ? prepared.value : null;
+    }
+
+    public void restore(SubwayNetwork network, T value) {
+        latestNetwork.accumulateAndGet(network, NetworkPreprocessor::newer);
+        install(network, value);
+    }
+
+    public T getCurrent() {
+        Prepared<T> prepared = current.get();
+        return Objects.isNull(prepared) ? null : prepared.value;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        notifyFailure();
+    }
+
+    private Prepared<T> awaitPrepared(SubwayNetwork network) {
+        long failures = failureCount;
+        prepare(network);
+        return awaitInstalled(network, failures);
+    }
+
+    private synchronized Prepared<T> awaitInstalled(SubwayNetwork network, long failures) {
+        Prepared<T> prepared = current.get();
+        while (!isAvailable(prepared, network)) {
+            if (failureCount != failures) {
+                throw new IllegalStateException(name + " is not available for network version " + network.getVersion());
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(name + " wait was interrupted", e);
+            }
+            prepared = current.get();
+        }
+        return prepared;
+    }
+
+    private void buildLatest() {
+        SubwayNetwork network = latestNetwork.get();
+        Prepared<T> prepared = current.get();
+        if (Objects.nonNull(prepared) && !supersedes(network, prepared.network)) {
+            return;
+        }
+        try {
+            install(network, builder.apply(network));
+        } catch (RuntimeException e) {
+            log.warn("failed to build {} for network version {}: {}", name, network.getVersion(), e.getMessage());
+            latestNetwork.compareAndSet(network, null);
+            notifyFailure();
+        }
+    }
+
+    private void install(SubwayNetwork network, T value) {
+        current.accumulateAndGet(new Prepared<>(network, value), (installed, candidate) ->
+            Objects.isNull(installed) || candidate.network.getVersion() >= installed.network.getVersion()
+                ? candidate : installed);
+        notifyInstalled();
+    }
+
+    private boolean isAvailable(Prepared<T> prepared, SubwayNetwork network) {
+        if (Objects.isNull(prepared)) {
+            return false;
+        }
+        if (!supersedes(network, prepared.network)) {
+            return true;
+        }
+        SubwayNetwork latest = latestNetwork.get();
+        return Objects.nonNull(latest) && !isSameGraph(latest, network) && isSameGraph(prepared.network, latest);
+    }
+
+    private synchronized void notifyInstalled() {
+        notifyAll();
+    }
+
+    private synchronized void notifyFailure() {
+        failureCount++;
+        notifyAll();
+    }
+
+    private static SubwayNetwork newer(SubwayNetwork current, SubwayNetwork candidate) {
+        if (Objects.isNull(current) || supersedes(candidate, current)) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private static boolean supersedes(SubwayNetwork candidate, SubwayNetwork current) {
+        return !isSameGraph(candidate, current) && candidate.getVersion() >= current.getVersion();
+    }
+
+    private static boolean isSameGraph(SubwayNetwork network, SubwayNetwork other) {
+        return network.getSubwayGraph() == other.getSubwayGraph();
+    }
+
+    private static class Prepared<T> {
+        private final SubwayNetwork network;
+        private final T value;
+
+        private Prepared(SubwayNetwork network, T value) {
+            this.network = network;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class ParetoSearch {
+    private static final int NONE = SearchSpace.NONE;
+
+    private final TransferGraph graph;
+    private final int target;
+    private final int maxLabels;
+    private final IntList nodes = new IntList();
+    private final IntList distances = new IntList();
+    private final IntList surcharges = new IntList();
+    private final IntList transfers = new IntList();
+    private final IntList prevLabels = new IntList();
+    private final IntList prevEdges = new IntList();
+    private final BitSet dominatedLabels = new BitSet();
+    private final IntList[] bags;
+    private final IntList targetBag = new IntList();
+    private final IndexedMinHeap heap;
+
+    private ParetoSearch(TransferGraph graph, int target, int maxLabels) {
+        this.graph = graph;
+        this.target = target;
+        this.maxLabels = maxLabels;
+        this.bags = new IntList[graph.size()];
+        this.heap = new IndexedMinHeap(maxLabels + graph.getGraph().getLineCount());
+    }
+
+    public static List<TransferPath> findPaths(TransferGraph graph, int source, int target, int maxLabels) {
+        if (source == target) {
+            throw new BadRequestException(SAME_STATION);
+        }
+        return new ParetoSearch(graph, target, maxLabels).search(source);
+    }
+
+    private List<TransferPath> search(int source) {
+        for (int node = graph.firstNode(source); node < graph.lastNode(source); node++) {
+            addLabel(node, 0, 0, 0, NONE, NONE);
+        }
+        boolean truncated = false;
+        while (!heap.isEmpty() && !truncated) {
+            int label = heap.poll();
+            if (!dominatedLabels.get(label) && !isTarget(nodes.get(label))) {
+                truncated = !expand(label);
+            }
+        }
+        if (targetBag.isEmpty() && truncated) {
+            return Collections.singletonList(TransferSearch.findPath(graph, source, target,
+                TransferPolicy.DISTANCE_WITH_PENALTY, 0));
+        }
+        if (targetBag.isEmpty()) {
+            throw new BadRequestException(NOT_CONNECTED_STATION);
+        }
+        return toTransferPaths(source);
+    }
+
+    private boolean expand(int label) {
+        int node = nodes.get(label);
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            if (nodes.size() >= maxLabels) {
+                return false;
+            }
+            boolean transfer = graph.isTransfer(edge);
+            int surcharge = transfer ? 0 : graph.getGraph().getSurcharge(graph.getBaseEdge(edge));
+            addLabel(graph.getTarget(edge), distances.get(label) + graph.getDistance(edge),
+                Math.max(surcharges.get(label), surcharge), transfers.get(label) + (transfer ? 1 : 0), label, edge);
+        }
+        return true;
+    }
+
+    private void addLabel(int node, int distance, int surcharge, int transferCount, int prevLabel, int prevEdge) {
+        if (isDominated(targetBag, distance, surcharge, transferCount)) {
+            return;
+        }
+        IntList bag = bags[node];
+        if (Objects.isNull(bag)) {
+            bag = new IntList();
+            bags[node] = bag;
+        }
+        if (isDominated(bag, distance, surcharge, transferCount)) {
+            return;
+        }
+        int label = nodes.size();
+        nodes.add(node);
+        distances.add(distance);
+        surcharges.add(surcharge);
+        transfers.add(transferCount);
+        prevLabels.add(prevLabel);
+        prevEdges.add(prevEdge);
+        insert(bag, label);
+        if (isTarget(node)) {
+            insert(targetBag, label);
+            return;
+        }
+        heap.push(label, distance);
+    }
+
+    private boolean isTarget(int node) {
+        return graph.getStationIndex(node) == target;
+    }
+
+    private boolean isDominated(IntList bag, int distance, int surcharge, int transferCount) {
+        for (int i = 0; i < bag.size(); i++) {
+            int label = bag.get(i);
+            if (distances.get(label) <= distance && surcharges.get(label) <= surcharge
+                && transfers.get(label) <= transferCount) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void insert(IntList bag, int label) {
+        int size = 0;
+        for (int i = 0; i < bag.size(); i++) {
+            int other = bag.get(i);
+            if (dominates(label, other)) {
+                dominatedLabels.set(other);
+                continue;
+            }
+            bag.set(size++, other);
+        }
+        while (bag.size() > size) {
+            bag.removeLast();
+        }
+        bag.add(label);
+    }
+
+    private boolean dominates(int label, int other) {
+        return distances.get(label) <= distances.get(other) && surcharges.get(label) <= surcharges.get(other)
+            && transfers.get(label) <= transfers.get(other);
+    }
+
+    private List<TransferPath> toTransferPaths(int source) {
+        List<TransferPath> paths = new ArrayList<>(targetBag.size());
+        for (int i = 0; i < targetBag.size(); i++) {
+            paths.add(toTransferPath(source, targetBag.get(i)));
+        }
+        paths.sort(Comparator.comparingInt(TransferPath::getDistance)
+            .thenComparingInt(TransferPath::getTransferCount));
+        return paths;
+    }
+
+    private TransferPath toTransferPath(int source, int targetLabel) {
+        IntList edges = new IntList();
+        for (int label = targetLabel; prevLabels.get(label) != NONE; label = prevLabels.get(label)) {
+            int edge = prevEdges.get(label);
+            if (!graph.isTransfer(edge)) {
+                edges.add(graph.getBaseEdge(edge));
+            }
+        }
+        int[] baseEdges = new int[edges.size()];
+        for (int i = 0; i < baseEdges.length; i++) {
+            baseEdges[i] = edges.get(baseEdges.length - 1 - i);
+        }
+        return TransferPath.of(graph.getGraph(), source, baseEdges);
+    }
+}
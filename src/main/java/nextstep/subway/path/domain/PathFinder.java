@@ -2,10 +2,35 @@ package nextstep.subway.path.domain;
 
 import java.util.Set;
 
+import nextstep.subway.line.domain.NetworkRevision;
 import nextstep.subway.line.domain.Section;
 import nextstep.subway.path.dto.PathFinderResponse;
 import nextstep.subway.station.domain.Station;
 
 public interface PathFinder {
-    PathFinderResponse getShortestPaths(Set<Section> sections, Station sourceStation, Station targetStation);
+    PathFinderResponse getShortestPaths(SubwayNetwork network, Station sourceStation, Station targetStation);
+
+    default void prepare(SubwayNetwork network) {
+    }
+
+    default void awaitPrepared(SubwayNetwork network) {
+    }
+
+    default void shutdown() {
+    }
+
+    default long getMemoryBytes() {
+        return 0;
+    }
+
+    default SubwayGraphSnapshot snapshot(SubwayNetwork network, NetworkRevision revision) {
+        return SubwayGraphSnapshot.of(network.getSubwayGraph(), revision);
+    }
+
+    default void restore(SubwayNetwork network, SubwayGraphSnapshot snapshot) {
+    }
+
+    default PathFinderResponse getShortestPaths(Set<Section> sections, Station sourceStation, Station targetStation) {
+        return getShortestPaths(SubwayNetwork.of(sections), sourceStation, targetStation);
+    }
 }
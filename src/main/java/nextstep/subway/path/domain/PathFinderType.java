@@ -0,0 +1,23 @@
+package nextstep.subway.path.domain;
+
+import java.util.function.Supplier;
+
+public enum PathFinderType {
+    GRAPH(GraphPathFinder::new),
+    ARRAY(ArrayPathFinder::new),
+    BIDIRECTIONAL(BidirectionalPathFinder::new),
+    ASTAR(AStarPathFinder::new),
+    CONTRACTION_HIERARCHY(ContractionHierarchyPathFinder::new),
+    LANDMARK(LandmarkPathFinder::new),
+    ALL_PAIRS(AllPairsPathFinder::new);
+
+    private final Supplier<PathFinder> factory;
+
+    PathFinderType(Supplier<PathFinder> factory) {
+        this.factory = factory;
+    }
+
+    public PathFinder create() {
+        return factory.get();
+    }
+}
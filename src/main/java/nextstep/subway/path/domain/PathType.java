@@ -0,0 +1,10 @@
+package nextstep.subway.path.domain;
+
+public enum PathType {
+    DISTANCE,
+    FARE;
+
+    public boolean isFare() {
+        return this == FARE;
+    }
+}
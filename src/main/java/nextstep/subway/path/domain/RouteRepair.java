@@ -0,0 +1,171 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.line.domain.SectionSnapshot;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+public class RouteRepair {
+
+    private final SubwayGraph next;
+    private final boolean preserving;
+    private final Set<Segment> removedSegments;
+    private final Map<Segment, Station> splitStations;
+    private final Map<Segment, Station> mergedStations;
+
+    private RouteRepair(SubwayGraph next, boolean preserving, Set<Segment> removedSegments,
+        Map<Segment, Station> splitStations, Map<Segment, Station> mergedStations) {
+        this.next = next;
+        this.preserving = preserving;
+        this.removedSegments = removedSegments;
+        this.splitStations = splitStations;
+        this.mergedStations = mergedStations;
+    }
+
+    public static RouteRepair of(SubwayGraph previous, SubwayGraph next, SectionDelta delta) {
+        Set<Segment> removedSegments = new HashSet<>();
+        for (SectionSnapshot section : delta.getRemovedSections()) {
+            removedSegments.add(Segment.of(section));
+        }
+        Map<Segment, Station> splitStations = new HashMap<>();
+        Map<Segment, Station> mergedStations = new HashMap<>();
+        boolean preserving = true;
+        switch (delta.getType()) {
+            case ADDED:
+                preserving = countKnownStations(previous, delta.getAddedSections()) <= 1;
+                break;
+            case SPLIT:
+                Station inserted = findSharedStation(delta.getAddedSections());
+                preserving = !previous.contains(inserted);
+                if (isSingleEdge(previous, delta.getRemovedSections().get(0))) {
+                    splitStations.put(Segment.of(delta.getRemovedSections().get(0)), inserted);
+                }
+                break;
+            case MERGED:
+                Station removed = findSharedStation(delta.getRemovedSections());
+                if (isSingleEdge(previous, delta.getRemovedSections().get(0))
+                    && isSingleEdge(previous, delta.getRemovedSections().get(1))) {
+                    mergedStations.put(Segment.of(delta.getAddedSections().get(0)), removed);
+                }
+                break;
+            default:
+                break;
+        }
+        return new RouteRepair(next, preserving, removedSegments, splitStations, mergedStations);
+    }
+
+    private static int countKnownStations(SubwayGraph previous, List<SectionSnapshot> sections) {
+        Set<Station> knownStations = new HashSet<>();
+        for (SectionSnapshot section : sections) {
+            if (previous.contains(section.getUpStation())) {
+                knownStations.add(section.getUpStation());
+            }
+            if (previous.contains(section.getDownStation())) {
+                knownStations.add(section.getDownStation());
+            }
+        }
+        return knownStations.size();
+    }
+
+    private static Station findSharedStation(List<SectionSnapshot> sections) {
+        SectionSnapshot first = sections.get(0);
+        SectionSnapshot second = sections.get(1);
+        if (first.getUpStation().equals(second.getUpStation())
+            || first.getUpStation().equals(second.getDownStation())) {
+            return first.getUpStation();
+        }
+        return first.getDownStation();
+    }
+
+    private static boolean isSingleEdge(SubwayGraph graph, SectionSnapshot section) {
+        int up = graph.indexOf(section.getUpStation());
+        int down = graph.indexOf(section.getDownStation());
+        int count = 0;
+        for (int edge = graph.firstEdge(up); edge < graph.lastEdge(up); edge++) {
+            if (graph.getTarget(edge) == down) {
+                count++;
+            }
+        }
+        return count == 1;
+    }
+
+    public boolean isPreserving() {
+        return preserving;
+    }
+
+    public Optional<PathFinderResponse> repair(PathFinderResponse route) {
+        List<Station> stations = route.getStations();
+        if (!next.contains(stations.get(0)) || !next.contains(stations.get(stations.size() - 1))) {
+            return Optional.empty();
+        }
+        List<Station> repaired = new ArrayList<>(stations.size() + 1);
+        repaired.add(stations.get(0));
+        for (int i = 1; i < stations.size(); i++) {
+            Station previous = stations.get(i - 1);
+            Station current = stations.get(i);
+            Segment segment = Segment.of(previous, current);
+            if (!removedSegments.contains(segment)) {
+                repaired.add(current);
+                continue;
+            }
+            if (splitStations.containsKey(segment)) {
+                repaired.add(splitStations.get(segment));
+                repaired.add(current);
+                continue;
+            }
+            if (!isMergedStation(stations, i)) {
+                return Optional.empty();
+            }
+            repaired.add(stations.get(++i));
+        }
+        return Optional.of(new PathFinderResponse(repaired, route.getDistance(), route.getLineSurcharge()));
+    }
+
+    private boolean isMergedStation(List<Station> stations, int index) {
+        if (index + 1 >= stations.size()) {
+            return false;
+        }
+        Segment merged = Segment.of(stations.get(index - 1), stations.get(index + 1));
+        return stations.get(index).equals(mergedStations.get(merged));
+    }
+
+    private static class Segment {
+        private final Station station;
+        private final Station other;
+
+        private Segment(Station station, Station other) {
+            this.station = station;
+            this.other = other;
+        }
+
+        private static Segment of(SectionSnapshot section) {
+            return of(section.getUpStation(), section.getDownStation());
+        }
+
+        private static Segment of(Station station, Station other) {
+            return new Segment(station, other);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Segment segment = (Segment) o;
+            return station.equals(segment.station) && other.equals(segment.other)
+                || station.equals(segment.other) && other.equals(segment.station);
+        }
+
+        @Override
+        public int hashCode() {
+            return station.hashCode() + other.hashCode();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package nextstep.subway.path.domain;
+
+import java.util.Arrays;
+
+public class SearchSpace {
+    public static final int NONE = -1;
+    public static final int INFINITY = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<SearchSpace> FORWARD = ThreadLocal.withInitial(SearchSpace::new);
+    private static final ThreadLocal<SearchSpace> BACKWARD = ThreadLocal.withInitial(SearchSpace::new);
+
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+    private int generation;
+    private int[] stamps = new int[0];
+    private int[] distances = new int[0];
+    private int[] prevNodes = new int[0];
+    private int[] prevEdges = new int[0];
+    private long relaxCount;
+
+    public static SearchSpace forward(int size) {
+        return FORWARD.get().reset(size);
+    }
+
+    public static SearchSpace backward(int size) {
+        return BACKWARD.get().reset(size);
+    }
+
+    public static SearchStatistics statistics() {
+        return SearchStatistics.of(FORWARD.get(), BACKWARD.get());
+    }
+
+    private SearchSpace reset(int size) {
+        if (stamps.length < size) {
+            stamps = new int[size];
+            distances = new int[size];
+            prevNodes = new int[size];
+            prevEdges = new int[size];
+            heap.ensureCapacity(size);
+        }
+        heap.clear();
+        if (++generation == 0) {
+            Arrays.fill(stamps, 0);
+            generation = 1;
+        }
+        return this;
+    }
+
+    public IndexedMinHeap getHeap() {
+        return heap;
+    }
+
+    public boolean isReached(int node) {
+        return stamps[node] == generation;
+    }
+
+    public int getDistance(int node) {
+        if (!isReached(node)) {
+            return INFINITY;
+        }
+        return distances[node];
+    }
+
+    public int getPrevNode(int node) {
+        return prevNodes[node];
+    }
+
+    public int getPrevEdge(int node) {
+        return prevEdges[node];
+    }
+
+    public void start(int node) {
+        reach(node, 0, NONE, NONE);
+        heap.push(node, 0);
+    }
+
+    public void reach(int node, int distance, int prevNode, int prevEdge) {
+        stamps[node] = generation;
+        distances[node] = distance;
+        prevNodes[node] = prevNode;
+        prevEdges[node] = prevEdge;
+    }
+
+    void countRelaxed(int edgeCount) {
+        relaxCount += edgeCount;
+    }
+
+    long getRelaxCount() {
+        return relaxCount;
+    }
+}
@@ -0,0 +1,43 @@
+package nextstep.subway.path.domain;
+
+public class SearchStatistics {
+    private final long settledCount;
+    private final long relaxedCount;
+    private final long heapOperationCount;
+
+    private SearchStatistics(long settledCount, long relaxedCount, long heapOperationCount) {
+        this.settledCount = settledCount;
+        this.relaxedCount = relaxedCount;
+        this.heapOperationCount = heapOperationCount;
+    }
+
+    static SearchStatistics of(SearchSpace... spaces) {
+        long settledCount = 0;
+        long relaxedCount = 0;
+        long heapOperationCount = 0;
+        for (SearchSpace space : spaces) {
+            IndexedMinHeap heap = space.getHeap();
+            settledCount += heap.getPollCount();
+            relaxedCount += space.getRelaxCount();
+            heapOperationCount += heap.getPushCount() + heap.getPollCount();
+        }
+        return new SearchStatistics(settledCount, relaxedCount, heapOperationCount);
+    }
+
+    public SearchStatistics since(SearchStatistics start) {
+        return new SearchStatistics(settledCount - start.settledCount, relaxedCount - start.relaxedCount,
+            heapOperationCount - start.heapOperationCount);
+    }
+
+    public long getSettledCount() {
+        return settledCount;
+    }
+
+    public long getRelaxedCount() {
+        return relaxedCount;
+    }
+
+    public long getHeapOperationCount() {
+        return heapOperationCount;
+    }
+}
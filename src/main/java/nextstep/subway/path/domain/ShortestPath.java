@@ -0,0 +1,79 @@
+package nextstep.subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+public class ShortestPath {
+
+    private final int[] nodes;
+    private final int distance;
+    private final int surcharge;
+
+    private ShortestPath(int[] nodes, int distance, int surcharge) {
+        this.nodes = nodes;
+        this.distance = distance;
+        this.surcharge = surcharge;
+    }
+
+    public static ShortestPath of(int[] nodes, int distance, int surcharge) {
+        return new ShortestPath(nodes, distance, surcharge);
+    }
+
+    public static ShortestPath of(SubwayGraph graph, SearchSpace space, int target) {
+        int length = 1;
+        for (int node = target; space.getPrevNode(node) != SearchSpace.NONE; node = space.getPrevNode(node)) {
+            length++;
+        }
+        int[] nodes = new int[length];
+        int surcharge = 0;
+        int node = target;
+        for (int i = length - 1; i > 0; i--) {
+            nodes[i] = node;
+            surcharge = Math.max(surcharge, graph.getSurcharge(space.getPrevEdge(node)));
+            node = space.getPrevNode(node);
+        }
+        nodes[0] = node;
+        return new ShortestPath(nodes, space.getDistance(target), surcharge);
+    }
+
+    public static ShortestPath of(SubwayGraph graph, SearchSpace forward, SearchSpace backward, int meeting) {
+        ShortestPath head = of(graph, forward, meeting);
+        int length = head.nodes.length;
+        for (int node = meeting; backward.getPrevNode(node) != SearchSpace.NONE; node = backward.getPrevNode(node)) {
+            length++;
+        }
+        int[] nodes = new int[length];
+        System.arraycopy(head.nodes, 0, nodes, 0, head.nodes.length);
+        int surcharge = head.surcharge;
+        int node = meeting;
+        for (int i = head.nodes.length; i < length; i++) {
+            surcharge = Math.max(surcharge, graph.getSurcharge(backward.getPrevEdge(node)));
+            node = backward.getPrevNode(node);
+            nodes[i] = node;
+        }
+        return new ShortestPath(nodes, head.distance + backward.getDistance(meeting), surcharge);
+    }
+
+    public int[] getNodes() {
+        return nodes;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getSurcharge() {
+        return surcharge;
+    }
+
+    public PathFinderResponse toResponse(SubwayGraph graph) {
+        List<Station> stations = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            stations.add(graph.getStation(node));
+        }
+        return new PathFinderResponse(stations, distance, surcharge);
+    }
+}
@@ -0,0 +1,61 @@
+package nextstep.subway.path.domain;
+
+import nextstep.subway.station.domain.Station;
+
+public class ShortestPathTree {
+
+    private final SubwayGraph graph;
+    private final int[] nodes;
+    private final int[] distances;
+    private final int[] surcharges;
+
+    private ShortestPathTree(SubwayGraph graph, int[] nodes, int[] distances, int[] surcharges) {
+        this.graph = graph;
+        this.nodes = nodes;
+        this.distances = distances;
+        this.surcharges = surcharges;
+    }
+
+    public static ShortestPathTree of(SubwayGraph graph, int source, int maxDistance) {
+        SearchSpace space = SearchSpace.forward(graph.size());
+        IndexedMinHeap heap = space.getHeap();
+        space.start(source);
+
+        IntList settled = new IntList();
+        int[] surchargeByNode = new int[graph.size()];
+        while (!heap.isEmpty() && heap.peekKey() <= maxDistance) {
+            int node = heap.poll();
+            settled.add(node);
+            if (space.getPrevNode(node) != SearchSpace.NONE) {
+                surchargeByNode[node] = Math.max(surchargeByNode[space.getPrevNode(node)],
+                    graph.getSurcharge(space.getPrevEdge(node)));
+            }
+            DijkstraSearch.relax(graph, space, node);
+        }
+
+        int[] nodes = settled.toArray();
+        int[] distances = new int[nodes.length];
+        int[] surcharges = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            distances[i] = space.getDistance(nodes[i]);
+            surcharges[i] = surchargeByNode[nodes[i]];
+        }
+        return new ShortestPathTree(graph, nodes, distances, surcharges);
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public Station getStation(int index) {
+        return graph.getStation(nodes[index]);
+    }
+
+    public int getDistance(int index) {
+        return distances[index];
+    }
+
+    public int getSurcharge(int index) {
+        return surcharges[index];
+    }
+}
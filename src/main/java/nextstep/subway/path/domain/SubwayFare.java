@@ -2,6 +2,7 @@ package nextstep.subway.path.domain;
 
 import nextstep.subway.member.domain.MemberAgeType;
 import nextstep.subway.path.domain.discount.AdolescentDiscountPolicy;
+import nextstep.subway.path.domain.discount.DiscountPolicy;
 import nextstep.subway.path.domain.discount.KidDiscountPolicy;
 import nextstep.subway.path.dto.SubwayFareRequest;
 
@@ -18,29 +19,83 @@ public class SubwayFare {
     private static final int OVER_FARE = 100;
     private static final int LIMIT_OVER_MAX_QUOTIENT = (LIMIT_DISTANCE - BASIC_DISTANCE) / LIMIT_FARE_DISTANCE;
     private static final int LIMIT_OVER_MAX_FARE = BASIC_FARE + LIMIT_OVER_MAX_QUOTIENT * OVER_FARE;
+    private static final int MAX_SEARCH_DISTANCE = 1 << 30;
+    private static final int NO_SURCHARGE = 0;
+    private static final int TABLE_DISTANCE_LIMIT = 512;
+    private static final int TABLE_FARE_LIMIT = 10_000;
+
+    private static final DiscountPolicy KID_DISCOUNT_POLICY = new KidDiscountPolicy();
+    private static final DiscountPolicy ADOLESCENT_DISCOUNT_POLICY = new AdolescentDiscountPolicy();
+    private static final int[] DISTANCE_FARES = createDistanceFares();
+    private static final int[][] DISCOUNTED_FARES = createDiscountedFares();
 
     private SubwayFare() {
     }
 
     public static int getSubwayUsageFare(SubwayFareRequest subwayFareRequest) {
-        int subwayFare = calculateSubwayFare(subwayFareRequest.getDistance(), subwayFareRequest.getLineSurcharge());
-        if (subwayFareRequest.getMemberAgeType().isNone()) {
+        return getSubwayUsageFare(subwayFareRequest.getDistance(), subwayFareRequest.getLineSurcharge(),
+            subwayFareRequest.getMemberAgeType());
+    }
+
+    public static int getSubwayUsageFare(int distance, int lineSurcharge, MemberAgeType memberAgeType) {
+        int subwayFare = calculateSubwayFare(distance, lineSurcharge);
+        if (memberAgeType.isNone()) {
             return subwayFare;
         }
-        return discountFareByPolicy(subwayFare, subwayFareRequest.getMemberAgeType());
+        return discountFare(subwayFare, memberAgeType);
+    }
+
+    public static int getBaseFare(int distance, int lineSurcharge) {
+        return calculateSubwayFare(distance, lineSurcharge);
+    }
+
+    public static int getMaxDistanceWithinFare(int fare, MemberAgeType memberAgeType) {
+        int low = ZERO_DISTANCE;
+        int high = BASIC_DISTANCE;
+        while (high < MAX_SEARCH_DISTANCE && getSubwayUsageFare(high, memberAgeType) <= fare) {
+            low = high;
+            high <<= 1;
+        }
+        if (getSubwayUsageFare(high, memberAgeType) <= fare) {
+            return high;
+        }
+        while (low + 1 < high) {
+            int middle = (low + high) >>> 1;
+            if (getSubwayUsageFare(middle, memberAgeType) <= fare) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int getSubwayUsageFare(int distance, MemberAgeType memberAgeType) {
+        return getSubwayUsageFare(distance, NO_SURCHARGE, memberAgeType);
+    }
+
+    private static int discountFare(int fare, MemberAgeType memberAgeType) {
+        int[] discountedFares = DISCOUNTED_FARES[memberAgeType.ordinal()];
+        if (fare >= 0 && fare < discountedFares.length) {
+            return discountedFares[fare];
+        }
+        return getDiscountPolicy(memberAgeType).getDiscountFare(fare);
     }
 
-    private static int discountFareByPolicy(int fare, MemberAgeType memberAgeType) {
+    private static DiscountPolicy getDiscountPolicy(MemberAgeType memberAgeType) {
         if (memberAgeType.isKid()) {
-            return new KidDiscountPolicy().getDiscountFare(fare);
+            return KID_DISCOUNT_POLICY;
         }
-        return new AdolescentDiscountPolicy().getDiscountFare(fare);
+        return ADOLESCENT_DISCOUNT_POLICY;
     }
 
     private static int calculateSubwayFare(int distance, int lineSurcharge) {
         if (distance <= ZERO_DISTANCE) {
             return FREE_FARE;
         }
+        if (distance < DISTANCE_FARES.length) {
+            return DISTANCE_FARES[distance] + lineSurcharge;
+        }
         return calculateSubwayDistanceFare(distance) + lineSurcharge;
     }
 
@@ -55,4 +110,33 @@ public class SubwayFare {
 
         return LIMIT_OVER_MAX_FARE + (distance - LIMIT_DISTANCE) / UN_LIMIT_FARE_DISTANCE * OVER_FARE;
     }
+
+    private static int[] createDistanceFares() {
+        int[] distanceFares = new int[TABLE_DISTANCE_LIMIT];
+        for (int distance = ZERO_DISTANCE + 1; distance < distanceFares.length; distance++) {
+            distanceFares[distance] = calculateSubwayDistanceFare(distance);
+        }
+        return distanceFares;
+    }
+
+    private static int[][] createDiscountedFares() {
+        MemberAgeType[] memberAgeTypes = MemberAgeType.values();
+        int[][] discountedFares = new int[memberAgeTypes.length][];
+        for (MemberAgeType memberAgeType : memberAgeTypes) {
+            discountedFares[memberAgeType.ordinal()] = createDiscountedFares(memberAgeType);
+        }
+        return discountedFares;
+    }
+
+    private static int[] createDiscountedFares(MemberAgeType memberAgeType) {
+        if (memberAgeType.isNone()) {
+            return new int[0];
+        }
+        DiscountPolicy discountPolicy = getDiscountPolicy(memberAgeType);
+        int[] discountedFares = new int[TABLE_FARE_LIMIT];
+        for (int fare = FREE_FARE; fare < discountedFares.length; fare++) {
+            discountedFares[fare] = discountPolicy.getDiscountFare(fare);
+        }
+        return discountedFares;
+    }
 }
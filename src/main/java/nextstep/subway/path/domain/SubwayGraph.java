@@ -0,0 +1,601 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.line.domain.SectionSnapshot;
+import nextstep.subway.station.domain.Station;
+
+public class SubwayGraph {
+    private static final double SAFETY_FACTOR = 0.999;
+    private static final long NO_REVISION = -1L;
+    private static final AtomicLong REVISIONS = new AtomicLong();
+    private static final IntList NO_EDGES = new IntList();
+
+    private final long revision;
+    private final long baseRevision;
+    private final int[] changedNodes;
+    private final Storage storage;
+    private final int size;
+    private final Station[] stations;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final int[] firstEdges;
+    private final int[] lastEdges;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] surcharges;
+    private final int[] durations;
+    private final int[] lineIndexes;
+    private final int edgeLength;
+    private final int edgeCount;
+    private final Line[] lines;
+    private final int[] lineEdgeCounts;
+    private final Map<Integer, Integer> surchargeEdgeCounts;
+    private final int[] surchargeLevels;
+    private final int uncoordinatedCount;
+    private final double minDistanceRatio;
+
+    private SubwayGraph(long revision, long baseRevision, int[] changedNodes, Storage storage, int size,
+        Station[] stations, double[] latitudes, double[] longitudes, int[] firstEdges, int[] lastEdges,
+        EdgeTable edges, int edgeCount, Line[] lines, int[] lineEdgeCounts, Map<Integer, Integer> surchargeEdgeCounts,
+        int uncoordinatedCount, double minDistanceRatio) {
+        this.revision = revision;
+        this.baseRevision = baseRevision;
+        this.changedNodes = changedNodes;
+        this.storage = storage;
+        this.size = size;
+        this.stations = stations;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.firstEdges = firstEdges;
+        this.lastEdges = lastEdges;
+        this.targets = edges.targets;
+        this.distances = edges.distances;
+        this.surcharges = edges.surcharges;
+        this.durations = edges.durations;
+        this.lineIndexes = edges.lineIndexes;
+        this.edgeLength = edges.length;
+        this.edgeCount = edgeCount;
+        this.lines = lines;
+        this.lineEdgeCounts = lineEdgeCounts;
+        this.surchargeEdgeCounts = Collections.unmodifiableMap(surchargeEdgeCounts);
+        this.surchargeLevels = surchargeEdgeCounts.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.uncoordinatedCount = uncoordinatedCount;
+        this.minDistanceRatio = minDistanceRatio;
+    }
+
+    public static SubwayGraph of(Collection<Section> sections) {
+        Map<Station, Integer> indexes = indexStations(sections);
+        int[] offsets = countOffsets(sections, indexes);
+        EdgeTable edges = new EdgeTable(offsets[indexes.size()]);
+        Map<Line, Integer> lines = new LinkedHashMap<>();
+        int[] cursors = new int[indexes.size()];
+        System.arraycopy(offsets, 0, cursors, 0, cursors.length);
+
+        for (Section section : sections) {
+            int up = indexes.get(section.getUpStation());
+            int down = indexes.get(section.getDownStation());
+            int surcharge = section.getLine().getSurcharge();
+            int line = lines.computeIfAbsent(section.getLine(), key -> lines.size());
+            edges.set(cursors[up]++, down, section.getDistance(), surcharge, section.getDuration(), line);
+            edges.set(cursors[down]++, up, section.getDistance(), surcharge, section.getDuration(), line);
+        }
+        edges.length = offsets[indexes.size()];
+        Station[] stations = indexes.keySet().toArray(new Station[0]);
+        return of(stations, lines.keySet().toArray(new Line[0]), offsets, edges);
+    }
+
+    static SubwayGraph of(Station[] stations, Line[] lines, int[] offsets, int[] targets, int[] distances,
+        int[] durations, int[] lineIndexes) {
+        int[] surcharges = new int[targets.length];
+        for (int edge = 0; edge < targets.length; edge++) {
+            surcharges[edge] = lines[lineIndexes[edge]].getSurcharge();
+        }
+        return of(stations, lines, offsets,
+            new EdgeTable(targets, distances, surcharges, durations, lineIndexes, targets.length));
+    }
+
+    private static SubwayGraph of(Station[] stations, Line[] lines, int[] offsets, EdgeTable edges) {
+        int size = stations.length;
+        long revision = REVISIONS.incrementAndGet();
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        int uncoordinatedCount = collectCoordinates(stations, size, latitudes, longitudes);
+        int[] firstEdges = Arrays.copyOf(offsets, size);
+        int[] lastEdges = Arrays.copyOfRange(offsets, 1, size + 1);
+        int[] lineEdgeCounts = new int[lines.length];
+        Map<Integer, Integer> surchargeEdgeCounts = new TreeMap<>();
+        for (int edge = 0; edge < edges.length; edge++) {
+            lineEdgeCounts[edges.lineIndexes[edge]]++;
+            surchargeEdgeCounts.merge(edges.surcharges[edge], 1, Integer::sum);
+        }
+        double minDistanceRatio = calculateMinDistanceRatio(size, latitudes, longitudes, firstEdges, lastEdges, edges);
+        return new SubwayGraph(revision, NO_REVISION, new int[0], Storage.of(revision, stations, size), size,
+            stations, latitudes, longitudes, firstEdges, lastEdges, edges, edges.length, lines, lineEdgeCounts,
+            surchargeEdgeCounts, uncoordinatedCount, minDistanceRatio);
+    }
+
+    public SubwayGraph apply(SectionDelta delta) {
+        Set<Integer> removedEdges = new HashSet<>();
+        Set<Integer> changed = new LinkedHashSet<>();
+        List<Line> lineTable = new ArrayList<>(Arrays.asList(lines));
+        for (SectionSnapshot section : delta.getRemovedSections()) {
+            int up = requireIndex(section.getUpStation());
+            int down = requireIndex(section.getDownStation());
+            int line = findLineIndex(lineTable, section.getLine());
+            removedEdges.add(findEdge(up, down, line, section.getDistance(), removedEdges));
+            removedEdges.add(findEdge(down, up, line, section.getDistance(), removedEdges));
+            changed.add(up);
+            changed.add(down);
+        }
+
+        Map<Station, Integer> addedStations = new LinkedHashMap<>();
+        List<SectionSnapshot> addedSections = delta.getAddedSections();
+        Map<Integer, IntList> addedEdges = new HashMap<>();
+        int[] addedUps = new int[addedSections.size()];
+        int[] addedDowns = new int[addedSections.size()];
+        int[] addedLines = new int[addedSections.size()];
+        for (int i = 0; i < addedSections.size(); i++) {
+            SectionSnapshot section = addedSections.get(i);
+            addedUps[i] = indexOrAppend(section.getUpStation(), addedStations);
+            addedDowns[i] = indexOrAppend(section.getDownStation(), addedStations);
+            addedLines[i] = putLine(lineTable, section.getLine());
+            addedEdges.computeIfAbsent(addedUps[i], key -> new IntList()).add(i);
+            addedEdges.computeIfAbsent(addedDowns[i], key -> new IntList()).add(i);
+            changed.add(addedUps[i]);
+            changed.add(addedDowns[i]);
+        }
+
+        int nextSize = size + addedStations.size();
+        int[] nextLineEdgeCounts = Arrays.copyOf(lineEdgeCounts, lineTable.size());
+        Map<Integer, Integer> nextSurchargeEdgeCounts = new TreeMap<>(surchargeEdgeCounts);
+        for (int edge : removedEdges) {
+            nextLineEdgeCounts[lineIndexes[edge]]--;
+            nextSurchargeEdgeCounts.merge(surcharges[edge], -1, Integer::sum);
+        }
+        for (int i = 0; i < addedSections.size(); i++) {
+            nextLineEdgeCounts[addedLines[i]] += 2;
+            nextSurchargeEdgeCounts.merge(addedSections.get(i).getLine().getSurcharge(), 2, Integer::sum);
+        }
+        nextSurchargeEdgeCounts.values().removeIf(count -> count == 0);
+        int[] lineMapping = compactLines(lineTable, nextLineEdgeCounts);
+
+        int nextEdgeCount = edgeCount - removedEdges.size() + addedSections.size() * 2;
+        int relocatedEdges = 0;
+        for (int node : changed) {
+            relocatedEdges += node < size ? lastEdges[node] - firstEdges[node] : 0;
+        }
+        int deadEdges = edgeLength - edgeCount + relocatedEdges;
+        boolean compact = lineTable.size() < lineMapping.length || deadEdges > nextEdgeCount;
+
+        long nextRevision = REVISIONS.incrementAndGet();
+        boolean owned = storage.claim(revision, nextRevision);
+        Storage nextStorage = owned ? storage : storage.fork(nextRevision, size);
+        Station[] nextStations = owned ? grow(stations, nextSize) : Arrays.copyOf(stations, nextSize);
+        double[] nextLatitudes = owned ? grow(latitudes, nextSize) : Arrays.copyOf(latitudes, nextSize);
+        double[] nextLongitudes = owned ? grow(longitudes, nextSize) : Arrays.copyOf(longitudes, nextSize);
+        int uncoordinated = uncoordinatedCount;
+        for (Map.Entry<Station, Integer> added : addedStations.entrySet()) {
+            nextStorage.put(added.getKey(), added.getValue());
+            nextStations[added.getValue()] = added.getKey();
+        }
+        collectCoordinates(nextStations, nextSize, nextLatitudes, nextLongitudes, size);
+
+        int[] nextFirstEdges = Arrays.copyOf(firstEdges, nextSize);
+        int[] nextLastEdges = Arrays.copyOf(lastEdges, nextSize);
+        EdgeTable edges = new EdgeTable(targets, distances, surcharges, durations, lineIndexes, edgeLength);
+        int appendedEdges = relocatedEdges + addedSections.size() * 2;
+        EdgeTable nextEdges = compact ? new EdgeTable(nextEdgeCount)
+            : owned ? edges.extend(appendedEdges) : edges.copy(appendedEdges);
+        double nextMinDistanceRatio = minDistanceRatio;
+        for (int node = 0; node < nextSize; node++) {
+            if (!compact && !changed.contains(node)) {
+                continue;
+            }
+            boolean wasActive = isActive(node);
+            nextFirstEdges[node] = nextEdges.length;
+            for (int edge = wasActive ? firstEdges[node] : 0; wasActive && edge < lastEdges[node]; edge++) {
+                if (!removedEdges.contains(edge)) {
+                    nextEdges.add(edges, edge, lineMapping);
+                }
+            }
+            IntList incident = addedEdges.getOrDefault(node, NO_EDGES);
+            for (int i = 0; i < incident.size(); i++) {
+                int added = incident.get(i);
+                SectionSnapshot section = addedSections.get(added);
+                int target = addedUps[added] == node ? addedDowns[added] : addedUps[added];
+                nextEdges.add(target, section.getDistance(), section.getLine().getSurcharge(),
+                    section.getDuration(), lineMapping[addedLines[added]]);
+                nextMinDistanceRatio = Math.min(nextMinDistanceRatio, distanceRatio(section.getDistance(),
+                    GeoDistance.kilometersBetween(nextLatitudes[node], nextLongitudes[node],
+                        nextLatitudes[target], nextLongitudes[target])));
+            }
+            nextLastEdges[node] = nextEdges.length;
+            boolean active = nextLastEdges[node] > nextFirstEdges[node];
+            if (wasActive != active && !nextStations[node].hasCoordinates()) {
+                uncoordinated += active ? 1 : -1;
+            }
+        }
+        if (compact) {
+            nextMinDistanceRatio = calculateMinDistanceRatio(nextSize, nextLatitudes, nextLongitudes, nextFirstEdges,
+                nextLastEdges, nextEdges);
+        }
+        return new SubwayGraph(nextRevision, revision, changed.stream().mapToInt(Integer::intValue).toArray(),
+            nextStorage, nextSize, nextStations, nextLatitudes, nextLongitudes, nextFirstEdges, nextLastEdges,
+            nextEdges, nextEdgeCount, lineTable.toArray(new Line[0]), compactCounts(nextLineEdgeCounts, lineMapping,
+                lineTable.size()), nextSurchargeEdgeCounts, uncoordinated, nextMinDistanceRatio);
+    }
+
+    private int requireIndex(Station station) {
+        int index = findIndex(station);
+        if (index == SearchSpace.NONE) {
+            throw new IllegalStateException("station is not in the graph: " + station.getName());
+        }
+        return index;
+    }
+
+    private int findEdge(int node, int target, int line, int distance, Set<Integer> removedEdges) {
+        for (int edge = firstEdge(node); edge < lastEdge(node); edge++) {
+            if (!removedEdges.contains(edge) && getTarget(edge) == target && getLineIndex(edge) == line
+                && getDistance(edge) == distance) {
+                return edge;
+            }
+        }
+        throw new IllegalStateException("section is not in the graph: "
+            + stations[node].getName() + " - " + stations[target].getName());
+    }
+
+    private int indexOrAppend(Station station, Map<Station, Integer> addedStations) {
+        Integer index = storage.indexOf(station, size);
+        if (Objects.nonNull(index)) {
+            return index;
+        }
+        return addedStations.computeIfAbsent(station, key -> size + addedStations.size());
+    }
+
+    private static int findLineIndex(List<Line> lineTable, Line line) {
+        for (int index = 0; index < lineTable.size(); index++) {
+            if (isSameLine(lineTable.get(index), line)) {
+                return index;
+            }
+        }
+        throw new IllegalStateException("line is not in the graph: " + line.getName());
+    }
+
+    private static int putLine(List<Line> lineTable, Line line) {
+        for (int index = 0; index < lineTable.size(); index++) {
+            if (isSameLine(lineTable.get(index), line)) {
+                lineTable.set(index, line);
+                return index;
+            }
+        }
+        lineTable.add(line);
+        return lineTable.size() - 1;
+    }
+
+    private static boolean isSameLine(Line line, Line other) {
+        if (line == other) {
+            return true;
+        }
+        return Objects.nonNull(line.getId()) && line.getId().equals(other.getId());
+    }
+
+    private static int[] compactLines(List<Line> lineTable, int[] lineEdgeCounts) {
+        int[] lineMapping = new int[lineTable.size()];
+        List<Line> usedLines = new ArrayList<>();
+        for (int index = 0; index < lineMapping.length; index++) {
+            lineMapping[index] = usedLines.size();
+            if (lineEdgeCounts[index] > 0) {
+                usedLines.add(lineTable.get(index));
+            }
+        }
+        lineTable.clear();
+        lineTable.addAll(usedLines);
+        return lineMapping;
+    }
+
+    private static int[] compactCounts(int[] lineEdgeCounts, int[] lineMapping, int lineCount) {
+        int[] compacted = new int[lineCount];
+        for (int index = 0; index < lineEdgeCounts.length; index++) {
+            if (lineEdgeCounts[index] > 0) {
+                compacted[lineMapping[index]] = lineEdgeCounts[index];
+            }
+        }
+        return compacted;
+    }
+
+    private static Map<Station, Integer> indexStations(Collection<Section> sections) {
+        Map<Station, Integer> indexes = new LinkedHashMap<>();
+        for (Section section : sections) {
+            indexes.putIfAbsent(section.getUpStation(), indexes.size());
+            indexes.putIfAbsent(section.getDownStation(), indexes.size());
+        }
+        return indexes;
+    }
+
+    private static int[] countOffsets(Collection<Section> sections, Map<Station, Integer> indexes) {
+        int[] offsets = new int[indexes.size() + 1];
+        for (Section section : sections) {
+            offsets[indexes.get(section.getUpStation()) + 1]++;
+            offsets[indexes.get(section.getDownStation()) + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        return offsets;
+    }
+
+    private static int collectCoordinates(Station[] stations, int size, double[] latitudes, double[] longitudes) {
+        collectCoordinates(stations, size, latitudes, longitudes, 0);
+        int uncoordinatedCount = 0;
+        for (int node = 0; node < size; node++) {
+            uncoordinatedCount += stations[node].hasCoordinates() ? 0 : 1;
+        }
+        return uncoordinatedCount;
+    }
+
+    private static void collectCoordinates(Station[] stations, int size, double[] latitudes, double[] longitudes,
+        int from) {
+        for (int node = from; node < size; node++) {
+            Station station = stations[node];
+            latitudes[node] = station.hasCoordinates() ? station.getLatitude() : Double.NaN;
+            longitudes[node] = station.hasCoordinates() ? station.getLongitude() : Double.NaN;
+        }
+    }
+
+    private static double calculateMinDistanceRatio(int size, double[] latitudes, double[] longitudes,
+        int[] firstEdges, int[] lastEdges, EdgeTable edges) {
+        double minRatio = Double.MAX_VALUE;
+        for (int node = 0; node < size; node++) {
+            for (int edge = firstEdges[node]; edge < lastEdges[node]; edge++) {
+                int target = edges.targets[edge];
+                minRatio = Math.min(minRatio, distanceRatio(edges.distances[edge], GeoDistance.kilometersBetween(
+                    latitudes[node], longitudes[node], latitudes[target], longitudes[target])));
+            }
+        }
+        return minRatio;
+    }
+
+    private static double distanceRatio(int distance, double kilometers) {
+        if (kilometers > 0) {
+            return distance / kilometers;
+        }
+        return Double.MAX_VALUE;
+    }
+
+    private static Station[] grow(Station[] values, int length) {
+        return values.length >= length ? values : Arrays.copyOf(values, Math.max(length, values.length * 2));
+    }
+
+    private static double[] grow(double[] values, int length) {
+        return values.length >= length ? values : Arrays.copyOf(values, Math.max(length, values.length * 2));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public int indexOf(Station station) {
+        int index = findIndex(station);
+        if (index == SearchSpace.NONE) {
+            throw new BadRequestException(NOT_EXIST_STATION);
+        }
+        return index;
+    }
+
+    public boolean contains(Station station) {
+        return findIndex(station) != SearchSpace.NONE;
+    }
+
+    int findNode(Long stationId) {
+        Integer index = storage.indexOf(stationId, size);
+        return Objects.nonNull(index) && isActive(index) ? index : SearchSpace.NONE;
+    }
+
+    private int findIndex(Station station) {
+        Integer index = storage.indexOf(station, size);
+        return Objects.nonNull(index) && isActive(index) ? index : SearchSpace.NONE;
+    }
+
+    boolean isActive(int node) {
+        return node < size && lastEdges[node] > firstEdges[node];
+    }
+
+    public Station getStation(int index) {
+        return stations[index];
+    }
+
+    public int firstEdge(int node) {
+        return firstEdges[node];
+    }
+
+    public int lastEdge(int node) {
+        return lastEdges[node];
+    }
+
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    public int getDistance(int edge) {
+        return distances[edge];
+    }
+
+    public int getSurcharge(int edge) {
+        return surcharges[edge];
+    }
+
+    public int getDuration(int edge) {
+        return durations[edge];
+    }
+
+    public int getLineIndex(int edge) {
+        return lineIndexes[edge];
+    }
+
+    public Line getLine(int lineIndex) {
+        return lines[lineIndex];
+    }
+
+    public int getLineCount() {
+        return lines.length;
+    }
+
+    public int[] getSurchargeLevels() {
+        return surchargeLevels;
+    }
+
+    public boolean isCoordinated() {
+        return uncoordinatedCount == 0;
+    }
+
+    public double getMinDistancePerKilometer() {
+        if (!isCoordinated() || minDistanceRatio == Double.MAX_VALUE) {
+            return 0;
+        }
+        return minDistanceRatio * SAFETY_FACTOR;
+    }
+
+    public double kilometersBetween(int node, int other) {
+        return GeoDistance.kilometersBetween(latitudes[node], longitudes[node], latitudes[other], longitudes[other]);
+    }
+
+    boolean isPatchOf(SubwayGraph previous) {
+        return baseRevision == previous.revision;
+    }
+
+    int[] getChangedNodes() {
+        return changedNodes;
+    }
+
+    private static class Storage {
+        private final AtomicLong owner;
+        private final Map<Station, Integer> indexes;
+        private final Map<Long, Integer> idIndexes;
+
+        private Storage(long owner, Map<Station, Integer> indexes, Map<Long, Integer> idIndexes) {
+            this.owner = new AtomicLong(owner);
+            this.indexes = indexes;
+            this.idIndexes = idIndexes;
+        }
+
+        private static Storage of(long owner, Station[] stations, int size) {
+            Storage storage = new Storage(owner, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+            for (int node = 0; node < size; node++) {
+                storage.put(stations[node], node);
+            }
+            return storage;
+        }
+
+        private boolean claim(long revision, long nextRevision) {
+            return owner.compareAndSet(revision, nextRevision);
+        }
+
+        private Storage fork(long nextRevision, int size) {
+            Storage forked = new Storage(nextRevision, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+            indexes.forEach((station, index) -> {
+                if (index < size) {
+                    forked.put(station, index);
+                }
+            });
+            return forked;
+        }
+
+        private void put(Station station, int index) {
+            indexes.put(station, index);
+            if (Objects.nonNull(station.getId())) {
+                idIndexes.put(station.getId(), index);
+            }
+        }
+
+        private Integer indexOf(Station station, int size) {
+            return Objects.isNull(station) ? null : visible(indexes.get(station), size);
+        }
+
+        private Integer indexOf(Long stationId, int size) {
+            return Objects.isNull(stationId) ? null : visible(idIndexes.get(stationId), size);
+        }
+
+        private static Integer visible(Integer index, int size) {
+            return Objects.nonNull(index) && index < size ? index : null;
+        }
+    }
+
+    private static class EdgeTable {
+        private final int[] targets;
+        private final int[] distances;
+        private final int[] surcharges;
+        private final int[] durations;
+        private final int[] lineIndexes;
+        private int length;
+
+        private EdgeTable(int capacity) {
+            this(new int[capacity], new int[capacity], new int[capacity], new int[capacity], new int[capacity], 0);
+        }
+
+        private EdgeTable(int[] targets, int[] distances, int[] surcharges, int[] durations, int[] lineIndexes,
+            int length) {
+            this.targets = targets;
+            this.distances = distances;
+            this.surcharges = surcharges;
+            this.durations = durations;
+            this.lineIndexes = lineIndexes;
+            this.length = length;
+        }
+
+        private EdgeTable extend(int appended) {
+            if (length + appended <= targets.length) {
+                return new EdgeTable(targets, distances, surcharges, durations, lineIndexes, length);
+            }
+            return copy(Math.max(appended, targets.length));
+        }
+
+        private EdgeTable copy(int appended) {
+            int capacity = length + appended;
+            return new EdgeTable(Arrays.copyOf(targets, capacity), Arrays.copyOf(distances, capacity),
+                Arrays.copyOf(surcharges, capacity), Arrays.copyOf(durations, capacity),
+                Arrays.copyOf(lineIndexes, capacity), length);
+        }
+
+        private void set(int edge, int target, int distance, int surcharge, int duration, int lineIndex) {
+            targets[edge] = target;
+            distances[edge] = distance;
+            surcharges[edge] = surcharge;
+            durations[edge] = duration;
+            lineIndexes[edge] = lineIndex;
+        }
+
+        private void add(int target, int distance, int surcharge, int duration, int lineIndex) {
+            set(length++, target, distance, surcharge, duration, lineIndex);
+        }
+
+        private void add(EdgeTable source, int edge, int[] lineMapping) {
+            add(source.targets[edge], source.distances[edge], source.surcharges[edge], source.durations[edge],
+                lineMapping[source.lineIndexes[edge]]);
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package nextstep.subway.path.domain;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.station.domain.Station;
+
+public class SubwayGraphSnapshot {
+    private static final int MAGIC = 0x53554247;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 7 + Long.BYTES * 2;
+    private static final int NONE = SearchSpace.NONE;
+    private static final int NO_HIERARCHY = -1;
+    private static final int[] NO_VALUES = new int[0];
+
+    private final NetworkRevision revision;
+    private final long[] stationIds;
+    private final long[] lineIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] durations;
+    private final int[] lineIndexes;
+    private final int[] landmarks;
+    private final int[] landmarkDistances;
+    private final int[] ranks;
+    private final int[][] hierarchyTables;
+    private final SubwayGraph graph;
+
+    private SubwayGraphSnapshot(NetworkRevision revision, long[] stationIds, long[] lineIds, int[] offsets,
+        int[] targets, int[] distances, int[] durations, int[] lineIndexes, int[] landmarks, int[] landmarkDistances,
+        int[] ranks, int[][] hierarchyTables, SubwayGraph graph) {
+        this.revision = revision;
+        this.stationIds = stationIds;
+        this.lineIds = lineIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.durations = durations;
+        this.lineIndexes = lineIndexes;
+        this.landmarks = landmarks;
+        this.landmarkDistances = landmarkDistances;
+        this.ranks = ranks;
+        this.hierarchyTables = hierarchyTables;
+        this.graph = graph;
+    }
+
+    public static SubwayGraphSnapshot of(SubwayGraph graph, NetworkRevision revision) {
+        int[] nodeIndexes = nodeIndexesOf(graph);
+        int stationCount = 0;
+        for (int nodeIndex : nodeIndexes) {
+            if (nodeIndex != NONE) {
+                stationCount++;
+            }
+        }
+        long[] stationIds = new long[stationCount];
+        int[] offsets = new int[stationCount + 1];
+        for (int node = 0; node < graph.size(); node++) {
+            if (nodeIndexes[node] != NONE) {
+                Station station = graph.getStation(node);
+                stationIds[nodeIndexes[node]] = requireId(station.getId(), station.getName());
+                offsets[nodeIndexes[node] + 1] = offsets[nodeIndexes[node]] + graph.lastEdge(node)
+                    - graph.firstEdge(node);
+            }
+        }
+        long[] lineIds = new long[graph.getLineCount()];
+        for (int index = 0; index < lineIds.length; index++) {
+            lineIds[index] = requireId(graph.getLine(index).getId(), graph.getLine(index).getName());
+        }
+        return new SubwayGraphSnapshot(revision, stationIds, lineIds, offsets,
+            edgesOf(graph, edge -> nodeIndexes[graph.getTarget(edge)]), edgesOf(graph, graph::getDistance),
+            edgesOf(graph, graph::getDuration), edgesOf(graph, graph::getLineIndex), NO_VALUES, NO_VALUES, null,
+            null, graph);
+    }
+
+    private static int[] nodeIndexesOf(SubwayGraph graph) {
+        int[] nodeIndexes = new int[graph.size()];
+        int stationCount = 0;
+        for (int node = 0; node < graph.size(); node++) {
+            nodeIndexes[node] = graph.isActive(node) ? stationCount++ : NONE;
+        }
+        return nodeIndexes;
+    }
+
+    private static int[] edgesOf(SubwayGraph graph, IntUnaryOperator value) {
+        int[] values = new int[graph.getEdgeCount()];
+        int index = 0;
+        for (int node = 0; node < graph.size(); node++) {
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                values[index++] = value.applyAsInt(edge);
+            }
+        }
+        return values;
+    }
+
+    public SubwayGraphSnapshot withLandmarks(Landmarks prepared) {
+        if (Objects.isNull(graph) || prepared.getGraph() != graph) {
+            return this;
+        }
+        int[] nodeIndexes = nodeIndexesOf(graph);
+        int stationCount = stationIds.length;
+        int[] nextLandmarks = new int[prepared.getLandmarkCount()];
+        int[] nextDistances = new int[nextLandmarks.length * stationCount];
+        for (int i = 0; i < nextLandmarks.length; i++) {
+            nextLandmarks[i] = nodeIndexes[prepared.getLandmark(i)];
+            if (nextLandmarks[i] == NONE) {
+                return this;
+            }
+            for (int node = 0; node < graph.size(); node++) {
+                if (nodeIndexes[node] != NONE) {
+                    nextDistances[i * stationCount + nodeIndexes[node]] = prepared.getDistance(i, node);
+                }
+            }
+        }
+        return new SubwayGraphSnapshot(revision, stationIds, lineIds, offsets, targets, distances, durations,
+            lineIndexes, nextLandmarks, nextDistances, ranks, hierarchyTables, graph);
+    }
+
+    public SubwayGraphSnapshot withHierarchy(ContractionHierarchy prepared) {
+        if (Objects.isNull(graph) || prepared.getGraph() != graph) {
+            return this;
+        }
+        int[] nodeIndexes = nodeIndexesOf(graph);
+        int[] order = new int[graph.size()];
+        for (int node = 0; node < graph.size(); node++) {
+            order[prepared.getRank(node)] = node;
+        }
+        int[] nextRanks = new int[stationIds.length];
+        int rank = 0;
+        for (int node : order) {
+            if (nodeIndexes[node] != NONE) {
+                nextRanks[nodeIndexes[node]] = rank++;
+            }
+        }
+        int[][] tables = prepared.getTables();
+        int[][] nextTables = tables.clone();
+        for (int table : new int[] {ContractionHierarchy.FROMS, ContractionHierarchy.TOS,
+            ContractionHierarchy.MIDDLES}) {
+            nextTables[table] = new int[tables[table].length];
+            for (int edge = 0; edge < tables[table].length; edge++) {
+                int node = tables[table][edge];
+                nextTables[table][edge] = node == NONE ? NONE : nodeIndexes[node];
+                if (node != NONE && nodeIndexes[node] == NONE) {
+                    return this;
+                }
+            }
+        }
+        return new SubwayGraphSnapshot(revision, stationIds, lineIds, offsets, targets, distances, durations,
+            lineIndexes, landmarks, landmarkDistances, nextRanks, nextTables, graph);
+    }
+
+    public void write(Path file) throws IOException {
+        int hierarchyEdgeCount = Objects.isNull(ranks) ? NO_HIERARCHY : hierarchyTables[0].length;
+        long bytes = HEADER_BYTES + bodyBytes(stationIds.length, lineIds.length, targets.length, landmarks.length,
+            hierarchyEdgeCount);
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(bytes));
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+        buffer.putLong(revision.getEpoch()).putLong(revision.getRevision());
+        buffer.putInt(stationIds.length).putInt(lineIds.length).putInt(targets.length).putInt(landmarks.length)
+            .putInt(hierarchyEdgeCount);
+        buffer.asLongBuffer().put(stationIds).put(lineIds);
+        buffer.position(buffer.position() + Long.BYTES * (stationIds.length + lineIds.length));
+        putInts(buffer, offsets, targets, distances, durations, lineIndexes, landmarks, landmarkDistances);
+        if (Objects.nonNull(ranks)) {
+            putInts(buffer, ranks);
+            putInts(buffer, hierarchyTables);
+        }
+        buffer.flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void putInts(ByteBuffer buffer, int[]... tables) {
+        for (int[] values : tables) {
+            buffer.asIntBuffer().put(values);
+            buffer.position(buffer.position() + Integer.BYTES * values.length);
+        }
+    }
+
+    public static SubwayGraphSnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("snapshot is truncated: " + file, e);
+        }
+    }
+
+    private static SubwayGraphSnapshot read(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IOException("unsupported snapshot format");
+        }
+        NetworkRevision revision = NetworkRevision.of(buffer.getLong(), buffer.getLong());
+        int stationCount = buffer.getInt();
+        int lineCount = buffer.getInt();
+        int edgeCount = buffer.getInt();
+        int landmarkCount = buffer.getInt();
+        int hierarchyEdgeCount = buffer.getInt();
+        if (stationCount < 0 || lineCount < 0 || edgeCount < 0 || landmarkCount < 0
+            || hierarchyEdgeCount < NO_HIERARCHY
+            || bodyBytes(stationCount, lineCount, edgeCount, landmarkCount, hierarchyEdgeCount)
+            != buffer.remaining()) {
+            throw new IOException("snapshot is corrupted");
+        }
+        long[] stationIds = getLongs(buffer, stationCount);
+        long[] lineIds = getLongs(buffer, lineCount);
+        int[] offsets = getInts(buffer, stationCount + 1);
+        int[] targets = getInts(buffer, edgeCount);
+        int[] distances = getInts(buffer, edgeCount);
+        int[] durations = getInts(buffer, edgeCount);
+        int[] lineIndexes = getInts(buffer, edgeCount);
+        int[] landmarks = getInts(buffer, landmarkCount);
+        int[] landmarkDistances = getInts(buffer, landmarkCount * stationCount);
+        int[] ranks = null;
+        int[][] hierarchyTables = null;
+        if (hierarchyEdgeCount != NO_HIERARCHY) {
+            ranks = getInts(buffer, stationCount);
+            hierarchyTables = new int[ContractionHierarchy.TABLE_COUNT][];
+            for (int table = 0; table < hierarchyTables.length; table++) {
+                hierarchyTables[table] = getInts(buffer, hierarchyEdgeCount);
+            }
+        }
+        if (!isValid(offsets, targets, stationCount, edgeCount)
+            || !isValid(lineIndexes, lineCount)
+            || !isValid(landmarks, stationCount)
+            || Objects.nonNull(ranks) && !isValidHierarchy(ranks, hierarchyTables)) {
+            throw new IOException("snapshot is corrupted");
+        }
+        return new SubwayGraphSnapshot(revision, stationIds, lineIds, offsets, targets, distances, durations,
+            lineIndexes, landmarks, landmarkDistances, ranks, hierarchyTables, null);
+    }
+
+    private static long bodyBytes(int stationCount, int lineCount, int edgeCount, int landmarkCount,
+        int hierarchyEdgeCount) {
+        long hierarchyInts = hierarchyEdgeCount == NO_HIERARCHY ? 0L
+            : stationCount + (long) hierarchyEdgeCount * ContractionHierarchy.TABLE_COUNT;
+        return (long) Long.BYTES * (stationCount + (long) lineCount)
+            + (long) Integer.BYTES * (stationCount + 1L + edgeCount * 4L + landmarkCount
+            + (long) landmarkCount * stationCount + hierarchyInts);
+    }
+
+    private static long[] getLongs(ByteBuffer buffer, int length) {
+        long[] values = new long[length];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + Long.BYTES * length);
+        return values;
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + Integer.BYTES * length);
+        return values;
+    }
+
+    private static boolean isValid(int[] offsets, int[] targets, int stationCount, int edgeCount) {
+        if (offsets[0] != 0 || offsets[stationCount] != edgeCount) {
+            return false;
+        }
+        for (int node = 0; node < stationCount; node++) {
+            if (offsets[node] > offsets[node + 1]) {
+                return false;
+            }
+        }
+        return isValid(targets, stationCount);
+    }
+
+    private static boolean isValid(int[] indexes, int bound) {
+        for (int index : indexes) {
+            if (index < 0 || index >= bound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValidHierarchy(int[] ranks, int[][] tables) {
+        boolean[] ranked = new boolean[ranks.length];
+        for (int rank : ranks) {
+            if (rank < 0 || rank >= ranks.length || ranked[rank]) {
+                return false;
+            }
+            ranked[rank] = true;
+        }
+        if (!isValid(tables[ContractionHierarchy.FROMS], ranks.length)
+            || !isValid(tables[ContractionHierarchy.TOS], ranks.length)) {
+            return false;
+        }
+        for (int edge = 0; edge < tables[ContractionHierarchy.FROMS].length; edge++) {
+            int middle = tables[ContractionHierarchy.MIDDLES][edge];
+            int first = tables[ContractionHierarchy.FIRST_CHILDREN][edge];
+            int second = tables[ContractionHierarchy.SECOND_CHILDREN][edge];
+            boolean original = middle == NONE && first == NONE && second == NONE;
+            boolean shortcut = middle >= 0 && middle < ranks.length
+                && first >= 0 && first < edge && second >= 0 && second < edge;
+            if (!original && !shortcut) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long requireId(Long id, String name) {
+        if (Objects.isNull(id)) {
+            throw new IllegalStateException("entity is not persisted: " + name);
+        }
+        return id;
+    }
+
+    public NetworkRevision getRevision() {
+        return revision;
+    }
+
+    public List<Long> getStationIds() {
+        return toList(stationIds);
+    }
+
+    public List<Long> getLineIds() {
+        return toList(lineIds);
+    }
+
+    public boolean hasLandmarks() {
+        return landmarks.length > 0;
+    }
+
+    public boolean hasHierarchy() {
+        return Objects.nonNull(ranks);
+    }
+
+    private static List<Long> toList(long[] ids) {
+        List<Long> values = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            values.add(id);
+        }
+        return values;
+    }
+
+    public SubwayGraphSnapshot resolve(Collection<Station> stations, Collection<Line> lines) {
+        Map<Long, Station> stationsById = new HashMap<>();
+        for (Station station : stations) {
+            stationsById.put(station.getId(), station);
+        }
+        Map<Long, Line> linesById = new HashMap<>();
+        for (Line line : lines) {
+            linesById.put(line.getId(), line);
+        }
+        Station[] graphStations = new Station[stationIds.length];
+        for (int node = 0; node < stationIds.length; node++) {
+            graphStations[node] = require(stationsById, stationIds[node], "station");
+        }
+        Line[] graphLines = new Line[lineIds.length];
+        for (int index = 0; index < lineIds.length; index++) {
+            graphLines[index] = require(linesById, lineIds[index], "line");
+        }
+        SubwayGraph resolved = SubwayGraph.of(graphStations, graphLines, offsets, targets, distances, durations,
+            lineIndexes);
+        return new SubwayGraphSnapshot(revision, stationIds, lineIds, offsets, targets, distances, durations,
+            lineIndexes, landmarks, landmarkDistances, ranks, hierarchyTables, resolved);
+    }
+
+    private static <T> T require(Map<Long, T> entities, long id, String type) {
+        T entity = entities.get(id);
+        if (Objects.isNull(entity)) {
+            throw new IllegalStateException(type + " is not in the database: " + id);
+        }
+        return entity;
+    }
+
+    public SubwayGraph getGraph() {
+        if (Objects.isNull(graph)) {
+            throw new IllegalStateException("snapshot is not resolved");
+        }
+        return graph;
+    }
+
+    public Optional<Landmarks> toLandmarks(SubwayNetwork network) {
+        if (!hasLandmarks() || network.getSubwayGraph() != getGraph()) {
+            return Optional.empty();
+        }
+        return Optional.of(Landmarks.of(getGraph(), landmarks, landmarkDistances));
+    }
+
+    public Optional<ContractionHierarchy> toHierarchy(SubwayNetwork network) {
+        if (!hasHierarchy() || network.getSubwayGraph() != getGraph()) {
+            return Optional.empty();
+        }
+        return Optional.of(ContractionHierarchy.of(network, ranks, hierarchyTables));
+    }
+}
@@ -0,0 +1,161 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jgrapht.graph.WeightedMultigraph;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.station.domain.Station;
+
+public class SubwayNetwork {
+    private static final long INITIAL_VERSION = 0L;
+
+    private final long version;
+    private final SubwayGraph subwayGraph;
+    private volatile Set<Station> stations;
+    private volatile WeightedMultigraph<Station, SubwayWeightedEdge> graph;
+    private volatile TransferGraph transferGraph;
+    private volatile Timetable timetable;
+
+    private SubwayNetwork(long version, SubwayGraph subwayGraph) {
+        this.version = version;
+        this.subwayGraph = subwayGraph;
+    }
+
+    public static SubwayNetwork of(Set<Section> sections) {
+        return of(INITIAL_VERSION, sections);
+    }
+
+    public static SubwayNetwork of(long version, Set<Section> sections) {
+        return new SubwayNetwork(version, SubwayGraph.of(sections));
+    }
+
+    public static SubwayNetwork of(long version, SubwayGraph subwayGraph) {
+        return new SubwayNetwork(version, subwayGraph);
+    }
+
+    public SubwayNetwork apply(long nextVersion, SectionDelta delta) {
+        return new SubwayNetwork(nextVersion, subwayGraph.apply(delta));
+    }
+
+    private static Set<Station> collectStations(SubwayGraph subwayGraph) {
+        Set<Station> stations = new HashSet<>();
+        for (int node = 0; node < subwayGraph.size(); node++) {
+            if (subwayGraph.isActive(node)) {
+                stations.add(subwayGraph.getStation(node));
+            }
+        }
+        return Collections.unmodifiableSet(stations);
+    }
+
+    private static WeightedMultigraph<Station, SubwayWeightedEdge> toWeightedGraph(SubwayGraph subwayGraph) {
+        WeightedMultigraph<Station, SubwayWeightedEdge> graph = new WeightedMultigraph<>(SubwayWeightedEdge.class);
+        for (int node = 0; node < subwayGraph.size(); node++) {
+            graph.addVertex(subwayGraph.getStation(node));
+        }
+        for (int node = 0; node < subwayGraph.size(); node++) {
+            for (int edge = subwayGraph.firstEdge(node); edge < subwayGraph.lastEdge(node); edge++) {
+                int target = subwayGraph.getTarget(edge);
+                if (node < target) {
+                    SubwayWeightedEdge weightedEdge = graph.addEdge(subwayGraph.getStation(node),
+                        subwayGraph.getStation(target));
+                    weightedEdge.setSurcharge(subwayGraph.getSurcharge(edge));
+                    graph.setEdgeWeight(weightedEdge, subwayGraph.getDistance(edge));
+                }
+            }
+        }
+        return graph;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Set<Station> getStations() {
+        Set<Station> current = stations;
+        if (Objects.isNull(current)) {
+            return initializeStations();
+        }
+        return current;
+    }
+
+    private synchronized Set<Station> initializeStations() {
+        if (Objects.isNull(stations)) {
+            stations = collectStations(subwayGraph);
+        }
+        return stations;
+    }
+
+    public WeightedMultigraph<Station, SubwayWeightedEdge> getGraph() {
+        WeightedMultigraph<Station, SubwayWeightedEdge> current = graph;
+        if (Objects.isNull(current)) {
+            return initializeGraph();
+        }
+        return current;
+    }
+
+    private synchronized WeightedMultigraph<Station, SubwayWeightedEdge> initializeGraph() {
+        if (Objects.isNull(graph)) {
+            graph = toWeightedGraph(subwayGraph);
+        }
+        return graph;
+    }
+
+    public SubwayGraph getSubwayGraph() {
+        return subwayGraph;
+    }
+
+    public TransferGraph getTransferGraph() {
+        TransferGraph current = transferGraph;
+        if (Objects.isNull(current)) {
+            return initializeTransferGraph();
+        }
+        return current;
+    }
+
+    private synchronized TransferGraph initializeTransferGraph() {
+        if (Objects.isNull(transferGraph)) {
+            transferGraph = TransferGraph.of(subwayGraph);
+        }
+        return transferGraph;
+    }
+
+    public Timetable getTimetable() {
+        Timetable current = timetable;
+        if (Objects.isNull(current)) {
+            return initializeTimetable();
+        }
+        return current;
+    }
+
+    private synchronized Timetable initializeTimetable() {
+        if (Objects.isNull(timetable)) {
+            timetable = Timetable.of(subwayGraph);
+        }
+        return timetable;
+    }
+
+    public boolean contains(Station station) {
+        return subwayGraph.contains(station);
+    }
+
+    public Station findStationById(Long id) {
+        return findStation(id).orElseThrow(() -> new BadRequestException(NOT_EXIST_STATION));
+    }
+
+    public Optional<Station> findStation(Long id) {
+        int node = subwayGraph.findNode(id);
+        if (node == SearchSpace.NONE) {
+            return Optional.empty();
+        }
+        return Optional.of(subwayGraph.getStation(node));
+    }
+}
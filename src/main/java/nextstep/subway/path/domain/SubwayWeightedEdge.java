@@ -0,0 +1,15 @@
+package nextstep.subway.path.domain;
+
+import org.jgrapht.graph.DefaultWeightedEdge;
+
+public class SubwayWeightedEdge extends DefaultWeightedEdge {
+    private int surcharge;
+
+    public void setSurcharge(int surcharge) {
+        this.surcharge = surcharge;
+    }
+
+    public int getSurcharge() {
+        return surcharge;
+    }
+}
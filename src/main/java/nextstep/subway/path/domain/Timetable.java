@@ -0,0 +1,259 @@
+package nextstep.subway.path.domain;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import nextstep.subway.line.domain.LineSchedule;
+
+public class Timetable {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int NONE = SearchSpace.NONE;
+    private static final int MINUTES_PER_HOUR = 60;
+
+    private final SubwayGraph graph;
+    private final int[] routeOffsets;
+    private final int[] routeLines;
+    private final int[] routeStops;
+    private final int[] routeEdges;
+    private final int[] routeTimes;
+    private final int[] tripRoutes;
+    private final int[] tripDepartures;
+    private final int[] connectionTrips;
+    private final int[] connectionPositions;
+    private final int[] connectionFroms;
+    private final int[] connectionTos;
+    private final int[] connectionDepartures;
+    private final int[] connectionArrivals;
+
+    private Timetable(SubwayGraph graph, Routes routes, Trips trips, int[] order) {
+        this.graph = graph;
+        this.routeOffsets = routes.offsets.toArray();
+        this.routeLines = routes.lines.toArray();
+        this.routeStops = routes.stops.toArray();
+        this.routeEdges = routes.edges.toArray();
+        this.routeTimes = routes.times.toArray();
+        this.tripRoutes = trips.routes.toArray();
+        this.tripDepartures = trips.departures.toArray();
+        int count = order.length;
+        this.connectionTrips = new int[count];
+        this.connectionPositions = new int[count];
+        this.connectionFroms = new int[count];
+        this.connectionTos = new int[count];
+        this.connectionDepartures = new int[count];
+        this.connectionArrivals = new int[count];
+        for (int i = 0; i < count; i++) {
+            connectionTrips[i] = trips.connectionTrips.get(order[i]);
+            connectionPositions[i] = trips.connectionPositions.get(order[i]);
+            int stop = routeOffsets[tripRoutes[connectionTrips[i]]] + connectionPositions[i];
+            connectionFroms[i] = routeStops[stop];
+            connectionTos[i] = routeStops[stop + 1];
+            connectionDepartures[i] = tripDepartures[connectionTrips[i]] + routeTimes[stop];
+            connectionArrivals[i] = tripDepartures[connectionTrips[i]] + routeTimes[stop + 1];
+        }
+    }
+
+    public static Timetable of(SubwayGraph graph) {
+        Routes routes = Routes.of(graph);
+        Trips trips = Trips.of(graph, routes);
+        long[] keys = new long[trips.connectionTrips.size()];
+        for (int i = 0; i < keys.length; i++) {
+            int route = trips.routes.get(trips.connectionTrips.get(i));
+            int stop = routes.offsets.get(route) + trips.connectionPositions.get(i);
+            long departure = trips.departures.get(trips.connectionTrips.get(i)) + routes.times.get(stop);
+            keys[i] = departure << Integer.SIZE | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int)keys[i];
+        }
+        return new Timetable(graph, routes, trips, order);
+    }
+
+    public static int toMinutes(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
+    public static LocalTime toLocalTime(int minutes) {
+        return LocalTime.of(minutes / MINUTES_PER_HOUR % 24, minutes % MINUTES_PER_HOUR);
+    }
+
+    public int firstConnectionAfter(int departure) {
+        int low = 0;
+        int high = connectionDepartures.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (connectionDepartures[middle] < departure) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+
+    public int getConnectionCount() {
+        return connectionDepartures.length;
+    }
+
+    public int getTripCount() {
+        return tripRoutes.length;
+    }
+
+    public int getTrip(int connection) {
+        return connectionTrips[connection];
+    }
+
+    public int getPosition(int connection) {
+        return connectionPositions[connection];
+    }
+
+    public int getFrom(int connection) {
+        return connectionFroms[connection];
+    }
+
+    public int getTo(int connection) {
+        return connectionTos[connection];
+    }
+
+    public int getDeparture(int connection) {
+        return connectionDepartures[connection];
+    }
+
+    public int getArrival(int connection) {
+        return connectionArrivals[connection];
+    }
+
+    public int getLineIndex(int trip) {
+        return routeLines[tripRoutes[trip]];
+    }
+
+    public int getStop(int trip, int position) {
+        return routeStops[routeOffsets[tripRoutes[trip]] + position];
+    }
+
+    public int getEdge(int trip, int position) {
+        return routeEdges[routeOffsets[tripRoutes[trip]] + position];
+    }
+
+    public int getTime(int trip, int position) {
+        return tripDepartures[trip] + routeTimes[routeOffsets[tripRoutes[trip]] + position];
+    }
+
+    private static class Routes {
+        private final IntList offsets = new IntList();
+        private final IntList lines = new IntList();
+        private final IntList stops = new IntList();
+        private final IntList edges = new IntList();
+        private final IntList times = new IntList();
+
+        private static Routes of(SubwayGraph graph) {
+            Routes routes = new Routes();
+            for (int line = 0; line < graph.getLineCount(); line++) {
+                int terminal = findTerminal(graph, line);
+                if (terminal == NONE) {
+                    continue;
+                }
+                int otherTerminal = routes.add(graph, line, terminal);
+                routes.add(graph, line, otherTerminal);
+            }
+            routes.offsets.add(routes.stops.size());
+            return routes;
+        }
+
+        private static int findTerminal(SubwayGraph graph, int line) {
+            int fallback = NONE;
+            for (int station = 0; station < graph.size(); station++) {
+                int degree = lineDegree(graph, line, station);
+                if (degree == 1) {
+                    return station;
+                }
+                if (degree > 0 && fallback == NONE) {
+                    fallback = station;
+                }
+            }
+            return fallback;
+        }
+
+        private static int lineDegree(SubwayGraph graph, int line, int station) {
+            int degree = 0;
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                if (graph.getLineIndex(edge) == line) {
+                    degree++;
+                }
+            }
+            return degree;
+        }
+
+        private int add(SubwayGraph graph, int line, int terminal) {
+            offsets.add(stops.size());
+            lines.add(line);
+            int previous = NONE;
+            int station = terminal;
+            int time = 0;
+            boolean[] visited = new boolean[graph.size()];
+            while (true) {
+                visited[station] = true;
+                stops.add(station);
+                times.add(time);
+                int edge = nextEdge(graph, line, station, previous, visited);
+                edges.add(edge);
+                if (edge == NONE) {
+                    return station;
+                }
+                time += graph.getDuration(edge);
+                previous = station;
+                station = graph.getTarget(edge);
+            }
+        }
+
+        private static int nextEdge(SubwayGraph graph, int line, int station, int previous, boolean[] visited) {
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                int target = graph.getTarget(edge);
+                if (graph.getLineIndex(edge) == line && target != previous && !visited[target]) {
+                    return edge;
+                }
+            }
+            return NONE;
+        }
+    }
+
+    private static class Trips {
+        private final IntList routes = new IntList();
+        private final IntList departures = new IntList();
+        private final IntList connectionTrips = new IntList();
+        private final IntList connectionPositions = new IntList();
+
+        private static Trips of(SubwayGraph graph, Routes routes) {
+            Trips trips = new Trips();
+            for (int route = 0; route + 1 < routes.offsets.size(); route++) {
+                int hops = routes.offsets.get(route + 1) - routes.offsets.get(route) - 1;
+                LineSchedule schedule = graph.getLine(routes.lines.get(route)).getSchedule();
+                int first = toMinutes(schedule.getFirstDepartureTime());
+                int last = toMinutes(schedule.getLastDepartureTime());
+                if (last < first) {
+                    last += MINUTES_PER_DAY;
+                }
+                for (int departure = first; departure <= last; departure += schedule.getHeadway()) {
+                    trips.add(route, departure, hops);
+                }
+            }
+            return trips;
+        }
+
+        private void add(int route, int departure, int hops) {
+            int trip = routes.size();
+            routes.add(route);
+            departures.add(departure);
+            for (int position = 0; position < hops; position++) {
+                connectionTrips.add(trip);
+                connectionPositions.add(position);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package nextstep.subway.path.domain;
+
+import java.util.List;
+
+public class TimetablePath {
+
+    private final List<Leg> legs;
+    private final int departure;
+    private final int arrival;
+
+    private TimetablePath(List<Leg> legs, int departure, int arrival) {
+        this.legs = legs;
+        this.departure = departure;
+        this.arrival = arrival;
+    }
+
+    public static TimetablePath of(List<Leg> legs, int departure) {
+        int arrival = legs.isEmpty() ? departure : legs.get(legs.size() - 1).getArrival();
+        return new TimetablePath(legs, departure, arrival);
+    }
+
+    public List<Leg> getLegs() {
+        return legs;
+    }
+
+    public int getDeparture() {
+        return departure;
+    }
+
+    public int getArrival() {
+        return arrival;
+    }
+
+    public int getDistance(SubwayGraph graph) {
+        return legs.stream()
+            .mapToInt(leg -> leg.getDistance(graph))
+            .sum();
+    }
+
+    public int getSurcharge(SubwayGraph graph) {
+        return legs.stream()
+            .mapToInt(leg -> graph.getLine(leg.getLineIndex()).getSurcharge())
+            .max()
+            .orElse(0);
+    }
+
+    public static class Leg {
+        private final int lineIndex;
+        private final int[] stations;
+        private final int[] edges;
+        private final int departure;
+        private final int arrival;
+
+        public Leg(int lineIndex, int[] stations, int[] edges, int departure, int arrival) {
+            this.lineIndex = lineIndex;
+            this.stations = stations;
+            this.edges = edges;
+            this.departure = departure;
+            this.arrival = arrival;
+        }
+
+        public int getLineIndex() {
+            return lineIndex;
+        }
+
+        public int[] getStations() {
+            return stations;
+        }
+
+        public int getDeparture() {
+            return departure;
+        }
+
+        public int getArrival() {
+            return arrival;
+        }
+
+        public int getDistance(SubwayGraph graph) {
+            int distance = 0;
+            for (int edge : edges) {
+                distance += graph.getDistance(edge);
+            }
+            return distance;
+        }
+    }
+}
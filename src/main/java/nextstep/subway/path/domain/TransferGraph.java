@@ -0,0 +1,131 @@
+package nextstep.subway.path.domain;
+
+public class TransferGraph {
+    public static final int TRANSFER = SearchSpace.NONE;
+
+    private final SubwayGraph graph;
+    private final int[] firstNodes;
+    private final int[] stationIndexes;
+    private final int[] lineIndexes;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] baseEdges;
+
+    private TransferGraph(SubwayGraph graph, int[] firstNodes, int[] stationIndexes, int[] lineIndexes,
+        int[] offsets, int[] targets, int[] baseEdges) {
+        this.graph = graph;
+        this.firstNodes = firstNodes;
+        this.stationIndexes = stationIndexes;
+        this.lineIndexes = lineIndexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.baseEdges = baseEdges;
+    }
+
+    public static TransferGraph of(SubwayGraph graph) {
+        int[] firstNodes = new int[graph.size() + 1];
+        IntList stationIndexes = new IntList();
+        IntList lineIndexes = new IntList();
+        for (int station = 0; station < graph.size(); station++) {
+            firstNodes[station] = stationIndexes.size();
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                if (!containsLine(lineIndexes, firstNodes[station], graph.getLineIndex(edge))) {
+                    stationIndexes.add(station);
+                    lineIndexes.add(graph.getLineIndex(edge));
+                }
+            }
+        }
+        firstNodes[graph.size()] = stationIndexes.size();
+
+        int nodeCount = stationIndexes.size();
+        int[] offsets = new int[nodeCount + 1];
+        IntList targets = new IntList(graph.getEdgeCount() + nodeCount);
+        IntList baseEdges = new IntList(graph.getEdgeCount() + nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node] = targets.size();
+            int station = stationIndexes.get(node);
+            int line = lineIndexes.get(node);
+            for (int edge = graph.firstEdge(station); edge < graph.lastEdge(station); edge++) {
+                if (graph.getLineIndex(edge) == line) {
+                    int target = graph.getTarget(edge);
+                    targets.add(findNode(firstNodes, lineIndexes, target, line));
+                    baseEdges.add(edge);
+                }
+            }
+            for (int other = firstNodes[station]; other < firstNodes[station + 1]; other++) {
+                if (other != node) {
+                    targets.add(other);
+                    baseEdges.add(TRANSFER);
+                }
+            }
+        }
+        offsets[nodeCount] = targets.size();
+        return new TransferGraph(graph, firstNodes, stationIndexes.toArray(), lineIndexes.toArray(), offsets,
+            targets.toArray(), baseEdges.toArray());
+    }
+
+    private static boolean containsLine(IntList lineIndexes, int from, int line) {
+        for (int node = from; node < lineIndexes.size(); node++) {
+            if (lineIndexes.get(node) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int findNode(int[] firstNodes, IntList lineIndexes, int station, int line) {
+        int node = firstNodes[station];
+        while (lineIndexes.get(node) != line) {
+            node++;
+        }
+        return node;
+    }
+
+    public SubwayGraph getGraph() {
+        return graph;
+    }
+
+    public int size() {
+        return stationIndexes.length;
+    }
+
+    public int firstNode(int station) {
+        return firstNodes[station];
+    }
+
+    public int lastNode(int station) {
+        return firstNodes[station + 1];
+    }
+
+    public int getStationIndex(int node) {
+        return stationIndexes[node];
+    }
+
+    public int getLineIndex(int node) {
+        return lineIndexes[node];
+    }
+
+    public int firstEdge(int node) {
+        return offsets[node];
+    }
+
+    public int lastEdge(int node) {
+        return offsets[node + 1];
+    }
+
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    public int getBaseEdge(int edge) {
+        return baseEdges[edge];
+    }
+
+    public boolean isTransfer(int edge) {
+        return baseEdges[edge] == TRANSFER;
+    }
+
+    public int getDistance(int edge) {
+        return isTransfer(edge) ? 0 : graph.getDistance(baseEdges[edge]);
+    }
+}
@@ -0,0 +1,55 @@
+package nextstep.subway.path.domain;
+
+public class TransferPath {
+
+    private final int[] stations;
+    private final int[] edges;
+    private final int distance;
+    private final int surcharge;
+    private final int transferCount;
+
+    private TransferPath(int[] stations, int[] edges, int distance, int surcharge, int transferCount) {
+        this.stations = stations;
+        this.edges = edges;
+        this.distance = distance;
+        this.surcharge = surcharge;
+        this.transferCount = transferCount;
+    }
+
+    public static TransferPath of(SubwayGraph graph, int source, int[] edges) {
+        int[] stations = new int[edges.length + 1];
+        stations[0] = source;
+        int distance = 0;
+        int surcharge = 0;
+        int transferCount = 0;
+        for (int i = 0; i < edges.length; i++) {
+            stations[i + 1] = graph.getTarget(edges[i]);
+            distance += graph.getDistance(edges[i]);
+            surcharge = Math.max(surcharge, graph.getSurcharge(edges[i]));
+            if (i > 0 && graph.getLineIndex(edges[i]) != graph.getLineIndex(edges[i - 1])) {
+                transferCount++;
+            }
+        }
+        return new TransferPath(stations, edges, distance, surcharge, transferCount);
+    }
+
+    public int[] getStations() {
+        return stations;
+    }
+
+    public int[] getEdges() {
+        return edges;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getSurcharge() {
+        return surcharge;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+}
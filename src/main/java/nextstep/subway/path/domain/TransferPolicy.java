@@ -0,0 +1,10 @@
+package nextstep.subway.path.domain;
+
+public enum TransferPolicy {
+    FEWEST_TRANSFERS,
+    DISTANCE_WITH_PENALTY;
+
+    public boolean isFewestTransfers() {
+        return this == FEWEST_TRANSFERS;
+    }
+}
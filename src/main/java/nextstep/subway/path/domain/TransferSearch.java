@@ -0,0 +1,88 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+
+import nextstep.subway.exception.BadRequestException;
+
+public class TransferSearch {
+    public static final int MAX_TRANSFER_PENALTY = 10_000;
+
+    private TransferSearch() {
+    }
+
+    public static TransferPath findPath(TransferGraph transferGraph, int source, int target, TransferPolicy policy,
+        int transferPenalty) {
+        if (source == target) {
+            throw new BadRequestException(SAME_STATION);
+        }
+        validateTransferPenalty(transferPenalty);
+        int penalty = policy.isFewestTransfers() ? fewestTransfersPenalty(transferGraph.getGraph()) : transferPenalty;
+        SearchSpace space = SearchSpace.forward(transferGraph.size());
+        SearchSpace settled = SearchSpace.backward(transferGraph.size());
+        IndexedMinHeap heap = space.getHeap();
+        for (int node = transferGraph.firstNode(source); node < transferGraph.lastNode(source); node++) {
+            space.start(node);
+        }
+
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            settled.reach(node, space.getDistance(node), SearchSpace.NONE, SearchSpace.NONE);
+            if (transferGraph.getStationIndex(node) == target) {
+                return toTransferPath(transferGraph, space, source, node);
+            }
+            relax(transferGraph, space, settled, node, penalty);
+        }
+        throw new BadRequestException(NOT_CONNECTED_STATION);
+    }
+
+    private static void validateTransferPenalty(int transferPenalty) {
+        if (transferPenalty < 0 || transferPenalty > MAX_TRANSFER_PENALTY) {
+            throw new BadRequestException(INVALID_TRANSFER_PENALTY);
+        }
+    }
+
+    private static int fewestTransfersPenalty(SubwayGraph graph) {
+        long totalDistance = 0;
+        for (int node = 0; node < graph.size(); node++) {
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                totalDistance += graph.getDistance(edge);
+            }
+        }
+        long maxPenalty = Integer.MAX_VALUE / (graph.size() + 1L);
+        return (int)Math.min(totalDistance / 2 + 1, maxPenalty);
+    }
+
+    private static void relax(TransferGraph transferGraph, SearchSpace space, SearchSpace settled, int node,
+        int penalty) {
+        long cost = space.getDistance(node);
+        space.countRelaxed(transferGraph.lastEdge(node) - transferGraph.firstEdge(node));
+        for (int edge = transferGraph.firstEdge(node); edge < transferGraph.lastEdge(node); edge++) {
+            int next = transferGraph.getTarget(edge);
+            if (settled.isReached(next)) {
+                continue;
+            }
+            long weight = transferGraph.isTransfer(edge) ? penalty : transferGraph.getDistance(edge);
+            int nextCost = (int)Math.min(cost + weight, SearchSpace.INFINITY - 1L);
+            if (nextCost < space.getDistance(next)) {
+                space.reach(next, nextCost, node, edge);
+                space.getHeap().push(next, nextCost);
+            }
+        }
+    }
+
+    private static TransferPath toTransferPath(TransferGraph transferGraph, SearchSpace space, int source,
+        int targetNode) {
+        IntList edges = new IntList();
+        for (int node = targetNode; space.getPrevNode(node) != SearchSpace.NONE; node = space.getPrevNode(node)) {
+            int edge = space.getPrevEdge(node);
+            if (!transferGraph.isTransfer(edge)) {
+                edges.add(transferGraph.getBaseEdge(edge));
+            }
+        }
+        int[] baseEdges = new int[edges.size()];
+        for (int i = 0; i < baseEdges.length; i++) {
+            baseEdges[i] = edges.get(baseEdges.length - 1 - i);
+        }
+        return TransferPath.of(transferGraph.getGraph(), source, baseEdges);
+    }
+}
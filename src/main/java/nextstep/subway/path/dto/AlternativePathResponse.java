@@ -0,0 +1,37 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class AlternativePathResponse {
+
+    private List<PathStationResponse> stations;
+    private int distance;
+    private int lineSurcharge;
+    private int fare;
+
+    public AlternativePathResponse() {
+    }
+
+    public AlternativePathResponse(List<PathStationResponse> stations, int distance, int lineSurcharge, int fare) {
+        this.stations = stations;
+        this.distance = distance;
+        this.lineSurcharge = lineSurcharge;
+        this.fare = fare;
+    }
+
+    public List<PathStationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getLineSurcharge() {
+        return lineSurcharge;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
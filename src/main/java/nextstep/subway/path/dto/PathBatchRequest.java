@@ -0,0 +1,18 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class PathBatchRequest {
+    private List<PathRequest> paths;
+
+    public PathBatchRequest() {
+    }
+
+    public PathBatchRequest(List<PathRequest> paths) {
+        this.paths = paths;
+    }
+
+    public List<PathRequest> getPaths() {
+        return paths;
+    }
+}
@@ -0,0 +1,19 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class PathBatchResponse {
+
+    private List<PathResponse> paths;
+
+    public PathBatchResponse() {
+    }
+
+    public PathBatchResponse(List<PathResponse> paths) {
+        this.paths = paths;
+    }
+
+    public List<PathResponse> getPaths() {
+        return paths;
+    }
+}
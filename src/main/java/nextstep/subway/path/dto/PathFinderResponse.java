@@ -9,11 +9,21 @@ public class PathFinderResponse {
     private final List<Station> stations;
     private final int distance;
     private final int lineSurcharge;
+    private final boolean stale;
 
     public PathFinderResponse(List<Station> stations, int distance, int lineSurcharge) {
+        this(stations, distance, lineSurcharge, false);
+    }
+
+    private PathFinderResponse(List<Station> stations, int distance, int lineSurcharge, boolean stale) {
         this.stations = stations;
         this.distance = distance;
         this.lineSurcharge = lineSurcharge;
+        this.stale = stale;
+    }
+
+    public PathFinderResponse toStale() {
+        return new PathFinderResponse(stations, distance, lineSurcharge, true);
     }
 
     public List<Station> getStations() {
@@ -27,4 +37,8 @@ public class PathFinderResponse {
     public int getLineSurcharge() {
         return lineSurcharge;
     }
+
+    public boolean isStale() {
+        return stale;
+    }
 }
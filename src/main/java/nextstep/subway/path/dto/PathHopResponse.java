@@ -0,0 +1,45 @@
+package nextstep.subway.path.dto;
+
+public class PathHopResponse {
+
+    private Long sourceId;
+    private Long targetId;
+    private Long lineId;
+    private String lineName;
+    private int distance;
+
+    public PathHopResponse() {
+    }
+
+    private PathHopResponse(Long sourceId, Long targetId, Long lineId, String lineName, int distance) {
+        this.sourceId = sourceId;
+        this.targetId = targetId;
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.distance = distance;
+    }
+
+    public static PathHopResponse of(Long sourceId, Long targetId, Long lineId, String lineName, int distance) {
+        return new PathHopResponse(sourceId, targetId, lineId, lineName, distance);
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+}
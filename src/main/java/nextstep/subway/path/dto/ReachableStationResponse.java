@@ -0,0 +1,39 @@
+package nextstep.subway.path.dto;
+
+public class ReachableStationResponse {
+
+    private Long id;
+    private String name;
+    private int distance;
+    private int fare;
+
+    public ReachableStationResponse() {
+    }
+
+    private ReachableStationResponse(Long id, String name, int distance, int fare) {
+        this.id = id;
+        this.name = name;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public static ReachableStationResponse of(Long id, String name, int distance, int fare) {
+        return new ReachableStationResponse(id, name, distance, fare);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
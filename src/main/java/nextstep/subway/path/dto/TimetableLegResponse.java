@@ -0,0 +1,55 @@
+package nextstep.subway.path.dto;
+
+import java.time.LocalTime;
+
+public class TimetableLegResponse {
+
+    private Long lineId;
+    private String lineName;
+    private Long sourceId;
+    private Long targetId;
+    private LocalTime departureTime;
+    private LocalTime arrivalTime;
+
+    public TimetableLegResponse() {
+    }
+
+    private TimetableLegResponse(Long lineId, String lineName, Long sourceId, Long targetId,
+        LocalTime departureTime, LocalTime arrivalTime) {
+        this.lineId = lineId;
+        this.lineName = lineName;
+        this.sourceId = sourceId;
+        this.targetId = targetId;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+    }
+
+    public static TimetableLegResponse of(Long lineId, String lineName, Long sourceId, Long targetId,
+        LocalTime departureTime, LocalTime arrivalTime) {
+        return new TimetableLegResponse(lineId, lineName, sourceId, targetId, departureTime, arrivalTime);
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public String getLineName() {
+        return lineName;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return arrivalTime;
+    }
+}
@@ -0,0 +1,57 @@
+package nextstep.subway.path.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public class TimetablePathResponse {
+
+    private List<PathStationResponse> stations;
+    private List<TimetableLegResponse> legs;
+    private LocalTime departureTime;
+    private LocalTime arrivalTime;
+    private int duration;
+    private int distance;
+    private int fare;
+
+    public TimetablePathResponse() {
+    }
+
+    public TimetablePathResponse(List<PathStationResponse> stations, List<TimetableLegResponse> legs,
+        LocalTime departureTime, LocalTime arrivalTime, int duration, int distance, int fare) {
+        this.stations = stations;
+        this.legs = legs;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+        this.duration = duration;
+        this.distance = distance;
+        this.fare = fare;
+    }
+
+    public List<PathStationResponse> getStations() {
+        return stations;
+    }
+
+    public List<TimetableLegResponse> getLegs() {
+        return legs;
+    }
+
+    public LocalTime getDepartureTime() {
+        return departureTime;
+    }
+
+    public LocalTime getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
@@ -0,0 +1,44 @@
+package nextstep.subway.path.dto;
+
+import java.util.List;
+
+public class TransferPathResponse {
+
+    private List<PathStationResponse> stations;
+    private List<PathHopResponse> hops;
+    private int distance;
+    private int transferCount;
+    private int fare;
+
+    public TransferPathResponse() {
+    }
+
+    public TransferPathResponse(List<PathStationResponse> stations, List<PathHopResponse> hops, int distance,
+        int transferCount, int fare) {
+        this.stations = stations;
+        this.hops = hops;
+        this.distance = distance;
+        this.transferCount = transferCount;
+        this.fare = fare;
+    }
+
+    public List<PathStationResponse> getStations() {
+        return stations;
+    }
+
+    public List<PathHopResponse> getHops() {
+        return hops;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransferCount() {
+        return transferCount;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
@@ -1,7 +1,13 @@
 package nextstep.subway.path.ui;
 
+import java.time.LocalTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,22 +15,87 @@ import org.springframework.web.bind.annotation.RestController;
 import nextstep.subway.auth.domain.AuthenticationPrincipal;
 import nextstep.subway.auth.domain.LoginMember;
 import nextstep.subway.path.application.PathService;
+import nextstep.subway.path.application.TimetablePathService;
+import nextstep.subway.path.application.TransferPathService;
+import nextstep.subway.path.domain.PathType;
+import nextstep.subway.path.domain.TransferPolicy;
+import nextstep.subway.path.dto.AlternativePathResponse;
+import nextstep.subway.path.dto.PathBatchRequest;
+import nextstep.subway.path.dto.PathBatchResponse;
 import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.ReachableStationResponse;
+import nextstep.subway.path.dto.TimetablePathResponse;
+import nextstep.subway.path.dto.TransferPathResponse;
 
 @RequestMapping("/paths")
 @RestController
 public class PathController {
 
     private final PathService pathService;
+    private final TransferPathService transferPathService;
+    private final TimetablePathService timetablePathService;
 
-    public PathController(PathService pathService) {
+    public PathController(PathService pathService, TransferPathService transferPathService,
+        TimetablePathService timetablePathService) {
         this.pathService = pathService;
+        this.transferPathService = transferPathService;
+        this.timetablePathService = timetablePathService;
     }
 
     @GetMapping
     public ResponseEntity<PathResponse> getShortestPaths(
+        @AuthenticationPrincipal(required = false) LoginMember loginMember,
+        @RequestParam Long source, @RequestParam Long target,
+        @RequestParam(defaultValue = "DISTANCE") PathType type) {
+        return ResponseEntity.ok(pathService.getShortestPaths(source, target, type, loginMember.getAge()));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<PathBatchResponse> getShortestPathsInBatch(
+        @AuthenticationPrincipal(required = false) LoginMember loginMember,
+        @RequestBody PathBatchRequest pathBatchRequest) {
+        return ResponseEntity.ok(pathService.getShortestPaths(pathBatchRequest, loginMember.getAge()));
+    }
+
+    @GetMapping("/alternatives")
+    public ResponseEntity<List<AlternativePathResponse>> getAlternativePaths(
+        @AuthenticationPrincipal(required = false) LoginMember loginMember,
+        @RequestParam Long source, @RequestParam Long target, @RequestParam(defaultValue = "3") int count) {
+        return ResponseEntity.ok(pathService.getAlternativePaths(source, target, count, loginMember.getAge()));
+    }
+
+    @GetMapping("/transfers")
+    public ResponseEntity<TransferPathResponse> getTransferPaths(
+        @AuthenticationPrincipal(required = false) LoginMember loginMember,
+        @RequestParam Long source, @RequestParam Long target,
+        @RequestParam(defaultValue = "FEWEST_TRANSFERS") TransferPolicy policy,
+        @RequestParam(required = false) Integer transferPenalty) {
+        return ResponseEntity.ok(transferPathService.getTransferPaths(source, target, policy, transferPenalty,
+            loginMember.getAge()));
+    }
+
+    @GetMapping("/pareto")
+    public ResponseEntity<List<TransferPathResponse>> getParetoPaths(
         @AuthenticationPrincipal(required = false) LoginMember loginMember,
         @RequestParam Long source, @RequestParam Long target) {
-        return ResponseEntity.ok(pathService.getShortestPaths(source, target, loginMember.getAge()));
+        return ResponseEntity.ok(transferPathService.getParetoPaths(source, target, loginMember.getAge()));
+    }
+
+    @GetMapping("/timetable")
+    public ResponseEntity<TimetablePathResponse> getEarliestArrivalPaths(
+        @AuthenticationPrincipal(required = false) LoginMember loginMember,
+        @RequestParam Long source, @RequestParam Long target,
+        @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime departureTime) {
+        return ResponseEntity.ok(timetablePathService.getEarliestArrivalPaths(source, target, departureTime,
+            loginMember.getAge()));
+    }
+
+    @GetMapping("/reachable")
+    public ResponseEntity<List<ReachableStationResponse>> findReachableStations(
+        @AuthenticationPrincipal(required = false) LoginMember loginMember,
+        @RequestParam Long source, @RequestParam(required = false) Integer maxDistance,
+        @RequestParam(required = false) Integer maxFare) {
+        return ResponseEntity.ok(
+            pathService.findReachableStations(source, maxDistance, maxFare, loginMember.getAge()));
     }
 }
@@ -47,4 +47,9 @@ public class StationService {
         return stationRepository.findById(id).orElseThrow(
             () -> new BadRequestException(NOT_FOUND_DATA));
     }
+
+    @Transactional(readOnly = true)
+    public List<Station> findStationsByIds(List<Long> ids) {
+        return stationRepository.findAllById(ids);
+    }
 }
@@ -12,6 +12,8 @@ public class Station extends BaseEntity {
     private Long id;
     @Column(unique = true)
     private String name;
+    private Double latitude;
+    private Double longitude;
 
     public Station() {
     }
@@ -20,6 +22,12 @@ public class Station extends BaseEntity {
         this.name = name;
     }
 
+    public Station(String name, Double latitude, Double longitude) {
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public Long getId() {
         return id;
     }
@@ -28,6 +36,18 @@ public class Station extends BaseEntity {
         return name;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public boolean hasCoordinates() {
+        return Objects.nonNull(latitude) && Objects.nonNull(longitude);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -4,6 +4,8 @@ import nextstep.subway.station.domain.Station;
 
 public class StationRequest {
     private String name;
+    private Double latitude;
+    private Double longitude;
 
     public StationRequest() {
     }
@@ -12,11 +14,25 @@ public class StationRequest {
         this.name = name;
     }
 
+    public StationRequest(String name, Double latitude, Double longitude) {
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
     public String getName() {
         return name;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
     public Station toStation() {
-        return new Station(name);
+        return new Station(name, latitude, longitude);
     }
 }
@@ -7,19 +7,29 @@ import java.time.LocalDateTime;
 public class StationResponse {
     private Long id;
     private String name;
+    private Double latitude;
+    private Double longitude;
     private LocalDateTime createdDate;
     private LocalDateTime modifiedDate;
 
     public static StationResponse of(Station station) {
-        return new StationResponse(station.getId(), station.getName(), station.getCreatedDate(), station.getModifiedDate());
+        return new StationResponse(station.getId(), station.getName(), station.getLatitude(), station.getLongitude(),
+            station.getCreatedDate(), station.getModifiedDate());
     }
 
     public StationResponse() {
     }
 
     public StationResponse(Long id, String name, LocalDateTime createdDate, LocalDateTime modifiedDate) {
+        this(id, name, null, null, createdDate, modifiedDate);
+    }
+
+    public StationResponse(Long id, String name, Double latitude, Double longitude,
+        LocalDateTime createdDate, LocalDateTime modifiedDate) {
         this.id = id;
         this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.createdDate = createdDate;
         this.modifiedDate = modifiedDate;
     }
@@ -32,6 +42,14 @@ public class StationResponse {
         return name;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
     public LocalDateTime getCreatedDate() {
         return createdDate;
     }
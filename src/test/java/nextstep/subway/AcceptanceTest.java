@@ -1,6 +1,7 @@
 package nextstep.subway;
 
 import io.restassured.RestAssured;
+import nextstep.subway.path.application.SubwayNetworkService;
 import nextstep.subway.utils.DatabaseCleanup;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,9 +16,13 @@ public class AcceptanceTest {
     @Autowired
     private DatabaseCleanup databaseCleanup;
 
+    @Autowired
+    private SubwayNetworkService subwayNetworkService;
+
     @BeforeEach
     public void setUp() {
         RestAssured.port = port;
         databaseCleanup.execute();
+        subwayNetworkService.refresh();
     }
 }
@@ -0,0 +1,63 @@
+package nextstep.subway;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SyntheticNetworkLayoutTest {
+
+    @DisplayName("요청한 수의 노선을 만들고 각 노선은 같은 역을 두 번 지나지 않는다.")
+    @Test
+    void createLines() {
+        // when
+        SyntheticNetworkLayout layout = SyntheticNetworkLayout.of(3000, 200, 1L);
+
+        // then
+        assertThat(layout.getLines()).hasSize(200);
+        for (int[] line : layout.getLines()) {
+            Set<Integer> stations = new HashSet<>();
+            for (int station : line) {
+                stations.add(station);
+            }
+            assertThat(line.length).isGreaterThanOrEqualTo(2);
+            assertThat(stations).hasSize(line.length);
+        }
+    }
+
+    @DisplayName("첫 노선 이후의 노선은 기존 노선의 역에서 출발해 환승역으로 연결된다.")
+    @Test
+    void connectLines() {
+        // given
+        SyntheticNetworkLayout layout = SyntheticNetworkLayout.of(3000, 200, 1L);
+        Set<Integer> connectedStations = new HashSet<>();
+
+        // when & then
+        for (int[] line : layout.getLines()) {
+            if (!connectedStations.isEmpty()) {
+                assertThat(connectedStations).contains(line[0]);
+            }
+            for (int station : line) {
+                connectedStations.add(station);
+            }
+        }
+        assertThat(connectedStations.size()).isGreaterThan(3000 / 2);
+    }
+
+    @DisplayName("같은 시드로 만든 네트워크는 항상 같다.")
+    @Test
+    void reproducible() {
+        // when
+        SyntheticNetworkLayout layout = SyntheticNetworkLayout.of(500, 20, 7L);
+        SyntheticNetworkLayout other = SyntheticNetworkLayout.of(500, 20, 7L);
+
+        // then
+        for (int line = 0; line < 20; line++) {
+            assertThat(layout.getLines().get(line)).containsExactly(other.getLines().get(line));
+            assertThat(layout.getSurcharge(line)).isEqualTo(other.getSurcharge(line));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package nextstep.subway.line.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class NetworkRevisionRepositoryTest {
+
+    @Autowired
+    private NetworkRevisionRepository networkRevisionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("잠근 노선도 리비전을 올리면 같은 세대에서 바로 다음 리비전이 저장된다.")
+    @Test
+    void increase() {
+        // given
+        NetworkRevision created = networkRevisionRepository.save(NetworkRevision.create());
+        NetworkRevision before = NetworkRevision.of(created.getEpoch(), created.getRevision());
+
+        // when
+        NetworkRevision increased = networkRevisionRepository.findForUpdate(NetworkRevision.ID)
+            .orElseThrow(IllegalStateException::new)
+            .increase();
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        NetworkRevision stored = networkRevisionRepository.findById(NetworkRevision.ID)
+            .orElseThrow(IllegalStateException::new);
+        assertThat(stored).isEqualTo(increased);
+        assertThat(stored.follows(before)).isTrue();
+        assertThat(before.isIncludedIn(stored)).isTrue();
+    }
+
+    @DisplayName("노선도 리비전이 다시 만들어지면 세대가 달라져 이전 리비전을 잇지 않는다.")
+    @Test
+    void recreate() {
+        // given
+        NetworkRevision previous = NetworkRevision.create().increase();
+
+        // when
+        NetworkRevision recreated = networkRevisionRepository.save(NetworkRevision.create()).increase();
+
+        // then
+        assertThat(recreated.follows(NetworkRevision.none())).isFalse();
+        assertThat(previous.isIncludedIn(recreated)).isFalse();
+    }
+}
@@ -161,4 +161,48 @@ class SectionsTest {
             .isInstanceOf(BadRequestException.class)
             .hasMessage(NON_EXIST_STATION_TO_SECTION.getMessage());
     }
+
+    @DisplayName("구간 사이에 역을 등록하면 기존 구간의 소요 시간이 나뉜다.")
+    @Test
+    void addSectionSplitsDuration() {
+        // given
+        Sections sections = new Sections();
+        sections.add(new Section(line, 교대역, 당산역, 100, 20));
+
+        // when
+        sections.addSection(new Section(line, 교대역, 시청역, 40, 8));
+
+        // then
+        assertThat(sections.getSections()).extracting(Section::getDuration).containsExactlyInAnyOrder(12, 8);
+    }
+
+    @DisplayName("기존 구간 소요 시간보다 길거나 같은 소요 시간의 역은 등록할 수 없다.")
+    @ParameterizedTest
+    @ValueSource(ints = {20, 25})
+    void addGreaterThanOrEqualDurationStation(int duration) {
+        // given
+        Sections sections = new Sections();
+        sections.add(new Section(line, 교대역, 당산역, 100, 20));
+        Section section = new Section(line, 교대역, 시청역, 40, duration);
+
+        // when & then
+        assertThatThrownBy(() -> sections.addSection(section))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(LESS_THAN_DURATION_BETWEEN_STATION.getMessage());
+    }
+
+    @DisplayName("구간을 삭제하면 연결된 구간의 소요 시간이 합쳐진다.")
+    @Test
+    void removeSectionMergesDuration() {
+        // given
+        Sections sections = new Sections();
+        sections.add(new Section(line, 교대역, 당산역, 100, 20));
+        sections.add(new Section(line, 당산역, 시청역, 30, 7));
+
+        // when
+        sections.removeSection(당산역);
+
+        // then
+        assertThat(sections.getSections()).extracting(Section::getDuration).containsExactly(27);
+    }
 }
@@ -13,7 +13,7 @@ class MemberAgeTypeTest {
 
     @DisplayName("회원 나이에 따라 타입이 정해진다.")
     @ParameterizedTest()
-    @CsvSource(value = {"0,NONE", "6,KID", "12,KID", "13,ADOLESCENT", "18,ADOLESCENT", "19,NONE"})
+    @CsvSource(value = {"0,NONE", "6,KID", "12,KID", "13,ADOLESCENT", "18,ADOLESCENT", "19,NONE", "-1,NONE", "100,NONE"})
     void findAgeType(int age, MemberAgeType expected) {
         assertEquals(expected, MemberAgeType.getMemberAgeType(age));
     }
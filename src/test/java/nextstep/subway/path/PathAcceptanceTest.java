@@ -1,9 +1,14 @@
 package nextstep.subway.path;
 
+import static nextstep.subway.exception.ExceptionMessage.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +25,14 @@ import nextstep.subway.line.acceptance.LineAcceptanceTest;
 import nextstep.subway.line.acceptance.LineSectionAcceptanceTest;
 import nextstep.subway.line.dto.LineRequest;
 import nextstep.subway.line.dto.LineResponse;
+import nextstep.subway.path.dto.AlternativePathResponse;
+import nextstep.subway.path.dto.PathBatchRequest;
+import nextstep.subway.path.dto.PathBatchResponse;
+import nextstep.subway.path.dto.PathRequest;
 import nextstep.subway.path.dto.PathResponse;
+import nextstep.subway.path.dto.ReachableStationResponse;
+import nextstep.subway.path.dto.TimetablePathResponse;
+import nextstep.subway.path.dto.TransferPathResponse;
 import nextstep.subway.station.StationAcceptanceTest;
 import nextstep.subway.station.dto.StationResponse;
 
@@ -80,6 +92,38 @@ class PathAcceptanceTest extends AcceptanceTest {
 
         // then
         최단_경로_목록_응답됨(response);
+        assertThat(response.jsonPath().getMap(".")).containsOnlyKeys("stations", "distance", "fare");
+    }
+
+    @DisplayName("등록되지 않은 역으로는 최단 경로를 조회할 수 없다.")
+    @Test
+    void getShortestPathsWithUnknownStation() {
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("source", "999");
+        params.put("target", "999");
+        ExtractableResponse<Response> response = 최단_경로_목록_요청(params);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.asString()).isEqualTo(NOT_FOUND_DATA.getMessage());
+    }
+
+    @DisplayName("노선에 등록되지 않은 역으로는 최단 경로를 조회할 수 없다.")
+    @Test
+    void getShortestPathsWithStationNotOnLine() {
+        // given
+        StationResponse 선릉역 = StationAcceptanceTest.지하철역_등록되어_있음("선릉역").as(StationResponse.class);
+
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("source", 강남역.getId().toString());
+        params.put("target", 선릉역.getId().toString());
+        ExtractableResponse<Response> response = 최단_경로_목록_요청(params);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(response.asString()).isEqualTo(NOT_EXIST_STATION.getMessage());
     }
 
     @DisplayName("최단 경로 중 추가요금이 있는 노선을 환승하여 이용 할 경우 가장 높은 추가 요금만 적용된다.")
@@ -98,6 +142,178 @@ class PathAcceptanceTest extends AcceptanceTest {
         assertEquals(기본요금 + 삼호선_추가요금, pathResponse.getFare());
     }
 
+    @DisplayName("요금 기준으로 조회하면 거리가 더 길어도 요금이 더 싼 경로를 조회한다.")
+    @Test
+    void getCheapestPaths() {
+        // given
+        StationResponse 역삼역 = StationAcceptanceTest.지하철역_등록되어_있음("역삼역").as(StationResponse.class);
+        StationResponse 선릉역 = StationAcceptanceTest.지하철역_등록되어_있음("선릉역").as(StationResponse.class);
+        LineAcceptanceTest.지하철_노선_등록되어_있음(
+            new LineRequest("급행선", "bg-red-600", 900, 역삼역.getId(), 선릉역.getId(), 5));
+        LineAcceptanceTest.지하철_노선_등록되어_있음(
+            new LineRequest("완행선", "bg-gray-600", 0, 역삼역.getId(), 선릉역.getId(), 8));
+        Map<String, String> params = new HashMap<>();
+        params.put("source", 역삼역.getId().toString());
+        params.put("target", 선릉역.getId().toString());
+        params.put("type", "FARE");
+
+        // when
+        ExtractableResponse<Response> response = 최단_경로_목록_요청(params);
+
+        // then
+        최단_경로_목록_응답됨(response);
+        PathResponse pathResponse = response.as(PathResponse.class);
+        assertEquals(8, pathResponse.getDistance());
+        assertEquals(기본요금, pathResponse.getFare());
+    }
+
+    @DisplayName("여러 최단 경로를 한 번에 조회한다.")
+    @Test
+    void getShortestPathsInBatch() {
+        // given
+        PathBatchRequest request = new PathBatchRequest(Arrays.asList(
+            new PathRequest(강남역.getId(), 남부터미널역.getId()),
+            new PathRequest(강남역.getId(), 교대역.getId()),
+            new PathRequest(양재역.getId(), 교대역.getId())));
+
+        // when
+        ExtractableResponse<Response> response = 최단_경로_일괄_요청(request);
+
+        // then
+        최단_경로_목록_응답됨(response);
+        PathBatchResponse pathBatchResponse = response.as(PathBatchResponse.class);
+        assertThat(pathBatchResponse.getPaths()).extracting("distance").containsExactly(12, 10, 5);
+        assertEquals(기본요금 + 삼호선_추가요금, pathBatchResponse.getPaths().get(0).getFare());
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 경로 수를 넘으면 일괄 조회할 수 없다.")
+    @Test
+    void getShortestPathsInBatchOverLimit() {
+        // given
+        List<PathRequest> paths = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            paths.add(new PathRequest(강남역.getId(), 교대역.getId()));
+        }
+
+        // when
+        ExtractableResponse<Response> response = 최단_경로_일괄_요청(new PathBatchRequest(paths));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("조회할 경로 목록이 없으면 일괄 조회할 수 없다.")
+    @Test
+    void getShortestPathsInBatchWithoutPaths() {
+        // when
+        ExtractableResponse<Response> response = 최단_경로_일괄_요청(new PathBatchRequest());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("최단 경로 외에 대안 경로를 거리 순으로 조회한다.")
+    @Test
+    void getAlternativePaths() {
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("source", 강남역.getId().toString());
+        params.put("target", 남부터미널역.getId().toString());
+        params.put("count", "2");
+        ExtractableResponse<Response> response = RestAssured
+            .given().log().all()
+            .params(params)
+            .when()
+            .get("/paths/alternatives")
+            .then().log().all().extract();
+
+        // then
+        최단_경로_목록_응답됨(response);
+        List<AlternativePathResponse> paths = response.jsonPath().getList(".", AlternativePathResponse.class);
+        assertThat(paths).extracting("distance").containsExactly(12, 13);
+        assertThat(paths).extracting("lineSurcharge").containsExactly(삼호선_추가요금, 삼호선_추가요금);
+    }
+
+    @DisplayName("거리, 요금, 환승 횟수 기준으로 서로 우열을 가릴 수 없는 경로를 조회한다.")
+    @Test
+    void getParetoPaths() {
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("source", 강남역.getId().toString());
+        params.put("target", 남부터미널역.getId().toString());
+        ExtractableResponse<Response> response = RestAssured
+            .given().log().all()
+            .params(params)
+            .when()
+            .get("/paths/pareto")
+            .then().log().all().extract();
+
+        // then
+        최단_경로_목록_응답됨(response);
+        List<TransferPathResponse> paths = response.jsonPath().getList(".", TransferPathResponse.class);
+        assertThat(paths).extracting("distance").containsExactly(12);
+        assertThat(paths).extracting("transferCount").containsExactly(1);
+        assertThat(paths).extracting("fare").containsExactly(기본요금 + 삼호선_추가요금);
+    }
+
+    @DisplayName("출발 시각 기준으로 가장 먼저 도착하는 경로를 조회한다.")
+    @Test
+    void getEarliestArrivalPaths() {
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("source", 강남역.getId().toString());
+        params.put("target", 남부터미널역.getId().toString());
+        params.put("departureTime", "08:00");
+        ExtractableResponse<Response> response = RestAssured
+            .given().log().all()
+            .params(params)
+            .when()
+            .get("/paths/timetable")
+            .then().log().all().extract();
+
+        // then
+        최단_경로_목록_응답됨(response);
+        TimetablePathResponse path = response.as(TimetablePathResponse.class);
+        assertThat(path.getArrivalTime()).isEqualTo(LocalTime.of(8, 12));
+        assertThat(path.getLegs()).extracting("lineName").containsExactly("신분당선", "삼호선");
+    }
+
+    @DisplayName("출발역에서 주어진 거리 안에 도달할 수 있는 역을 조회한다.")
+    @Test
+    void findReachableStations() {
+        // when
+        Map<String, String> params = new HashMap<>();
+        params.put("source", 양재역.getId().toString());
+        params.put("maxDistance", "5");
+        ExtractableResponse<Response> response = 도달_가능한_역_목록_요청(params);
+
+        // then
+        최단_경로_목록_응답됨(response);
+        List<ReachableStationResponse> reachableStations = response.jsonPath()
+            .getList(".", ReachableStationResponse.class);
+        assertThat(reachableStations).extracting("name").containsExactly("양재역", "남부터미널역", "교대역");
+        assertThat(reachableStations).extracting("distance").containsExactly(0, 2, 5);
+    }
+
+    private ExtractableResponse<Response> 도달_가능한_역_목록_요청(Map<String, String> params) {
+        return RestAssured
+            .given().log().all()
+            .params(params)
+            .when()
+            .get("/paths/reachable")
+            .then().log().all().extract();
+    }
+
+    private ExtractableResponse<Response> 최단_경로_일괄_요청(PathBatchRequest request) {
+        return RestAssured
+            .given().log().all()
+            .body(request)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .when()
+            .post("/paths/batch")
+            .then().log().all().extract();
+    }
+
     private ExtractableResponse<Response> 최단_경로_목록_요청(Map<String, String> params) {
         ExtractableResponse<Response> response = RestAssured
             .given().log().all()
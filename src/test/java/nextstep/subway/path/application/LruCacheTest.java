@@ -0,0 +1,101 @@
+package nextstep.subway.path.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    private AtomicLong now;
+    private LruCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        cache = new LruCache<>(2, Duration.ofSeconds(10), now::get);
+    }
+
+    @DisplayName("캐시된 값은 다시 계산하지 않는다.")
+    @Test
+    void hit() {
+        // given
+        cache.get("강남역", key -> 1);
+
+        // when
+        int value = cache.get("강남역", key -> 2);
+
+        // then
+        assertThat(value).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 값을 제거한다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        // given
+        cache.put("강남역", 1);
+        cache.put("양재역", 2);
+        cache.getIfPresent("강남역");
+
+        // when
+        cache.put("교대역", 3);
+
+        // then
+        assertThat(cache.getIfPresent("양재역")).isNull();
+        assertThat(cache.getIfPresent("강남역")).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 구역으로 나뉜 큰 캐시도 최대 크기를 넘지 않는다.")
+    @Test
+    void evictAcrossSegments() {
+        // given
+        LruCache<Integer, Integer> largeCache = new LruCache<>(1000, Duration.ofSeconds(10), now::get);
+
+        // when
+        for (int i = 0; i < 3000; i++) {
+            largeCache.put(i, i);
+        }
+
+        // then
+        assertThat(largeCache.size()).isLessThanOrEqualTo(1000);
+        assertThat(largeCache.getEvictionCount()).isEqualTo(3000 - largeCache.size());
+        assertThat(largeCache.getIfPresent(2999)).isEqualTo(2999);
+    }
+
+    @DisplayName("만료 시간이 지난 값은 제거한다.")
+    @Test
+    void expire() {
+        // given
+        cache.put("강남역", 1);
+
+        // when
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+
+        // then
+        assertThat(cache.getIfPresent("강남역")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("값을 갱신하거나 null을 반환한 항목은 제거한다.")
+    @Test
+    void updateAll() {
+        // given
+        cache.put("강남역", 1);
+        cache.put("양재역", 2);
+
+        // when
+        cache.updateAll((key, value) -> value == 1 ? null : value * 10);
+
+        // then
+        assertThat(cache.getIfPresent("강남역")).isNull();
+        assertThat(cache.getIfPresent("양재역")).isEqualTo(20);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,140 @@
+package nextstep.subway.path.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.domain.PathType;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class PathCacheTest {
+
+    private PathCache pathCache;
+    private AtomicInteger searchCount;
+    private Station 강남역;
+    private Station 양재역;
+    private Line 신분당선;
+    private SubwayNetwork network;
+    private PathFinderResponse 강남_양재_경로;
+
+    @BeforeEach
+    void setUp() {
+        pathCache = new PathCache(100, 600);
+        searchCount = new AtomicInteger();
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        신분당선 = new Line("신분당선", "bg-red-600", 0, 강남역, 양재역, 10);
+        network = SubwayNetwork.of(1L, new HashSet<>(신분당선.getSections().getSections()));
+        강남_양재_경로 = new PathFinderResponse(Arrays.asList(강남역, 양재역), 10, 0);
+    }
+
+    @DisplayName("같은 버전의 같은 경로는 다시 탐색하지 않는다.")
+    @Test
+    void cacheRoute() {
+        // when
+        getRoute(network, 강남_양재_경로);
+        PathFinderResponse cached = getRoute(network, 강남_양재_경로);
+
+        // then
+        assertThat(cached).isSameAs(강남_양재_경로);
+        assertThat(searchCount).hasValue(1);
+    }
+
+    @DisplayName("이전 버전의 전처리 결과로 찾은 경로는 캐시하지 않는다.")
+    @Test
+    void skipStaleRoute() {
+        // given
+        PathFinderResponse staleRoute = 강남_양재_경로.toStale();
+
+        // when
+        getRoute(network, staleRoute);
+        getRoute(network, 강남_양재_경로);
+        getRoute(network, 강남_양재_경로);
+
+        // then
+        assertThat(searchCount).hasValue(2);
+    }
+
+    @DisplayName("새 버전의 노선도로 조회하면 이전 버전에서 캐시한 경로를 쓰지 않는다.")
+    @Test
+    void dropRoutesOfOlderVersion() {
+        // given
+        SubwayNetwork next = SubwayNetwork.of(2L, network.getSubwayGraph());
+        getRoute(network, 강남_양재_경로);
+
+        // when
+        getRoute(next, 강남_양재_경로);
+        getRoute(network, 강남_양재_경로);
+
+        // then
+        assertThat(searchCount).hasValue(3);
+    }
+
+    @DisplayName("다른 버전으로 캐시된 경로는 적중이 아니라 실패로 센다.")
+    @Test
+    void countOtherVersionAsMiss() {
+        // given
+        SubwayNetwork next = SubwayNetwork.of(2L, network.getSubwayGraph());
+        getRoute(next, 강남_양재_경로);
+
+        // when
+        getRoute(network, 강남_양재_경로);
+
+        // then
+        assertThat(pathCache.getRoutes().getHitCount()).isZero();
+        assertThat(pathCache.getRoutes().getMissCount()).isEqualTo(2);
+    }
+
+    @DisplayName("구간 변경분을 적용하면 캐시한 경로를 고쳐 다음 버전에서도 다시 탐색하지 않는다.")
+    @Test
+    void repairCachedRoute() {
+        // given
+        getRoute(network, 강남_양재_경로);
+        Station 신논현역 = new Station("신논현역");
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 강남역, 신논현역, 4));
+        SubwayNetwork next = network.apply(2L, delta);
+
+        // when
+        pathCache.repairRoutes(network, next, delta);
+        PathFinderResponse repaired = getRoute(next, 강남_양재_경로);
+
+        // then
+        assertThat(repaired.getStations()).containsExactly(강남역, 신논현역, 양재역);
+        assertThat(searchCount).hasValue(1);
+    }
+
+    @DisplayName("이전 버전의 전처리 결과로 찾은 경로는 구간 변경분을 적용한 뒤에도 남지 않는다.")
+    @Test
+    void doNotRepairStaleRoute() {
+        // given
+        getRoute(network, 강남_양재_경로.toStale());
+        Station 신논현역 = new Station("신논현역");
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 강남역, 신논현역, 4));
+        SubwayNetwork next = network.apply(2L, delta);
+
+        // when
+        pathCache.repairRoutes(network, next, delta);
+        getRoute(next, 강남_양재_경로);
+
+        // then
+        assertThat(searchCount).hasValue(2);
+    }
+
+    private PathFinderResponse getRoute(SubwayNetwork network, PathFinderResponse route) {
+        return pathCache.getRoute(network, PathType.DISTANCE, 1L, 2L, () -> {
+            searchCount.incrementAndGet();
+            return route;
+        });
+    }
+}
@@ -0,0 +1,114 @@
+package nextstep.subway.path.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.path.domain.BatchPathSearch;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.station.domain.Station;
+
+class PathExecutorTest {
+
+    private PathExecutor pathExecutor;
+
+    @BeforeEach
+    void setUp() {
+        pathExecutor = new PathExecutor(1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathExecutor.shutdown();
+    }
+
+    @DisplayName("작업은 경로 탐색 전용 스레드에서 실행된다.")
+    @Test
+    void executeOnWorker() throws InterruptedException {
+        // given
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        pathExecutor.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("path-worker-");
+    }
+
+    @DisplayName("대기열이 가득 차면 요청한 스레드가 직접 작업을 실행한다.")
+    @Test
+    void runOnCallerWhenSaturated() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        pathExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        pathExecutor.execute(() -> await(release));
+
+        // when
+        AtomicReference<String> threadName = new AtomicReference<>();
+        pathExecutor.execute(() -> threadName.set(Thread.currentThread().getName()));
+        release.countDown();
+
+        // then
+        assertThat(threadName.get()).isEqualTo(Thread.currentThread().getName());
+    }
+
+    @DisplayName("종료된 뒤에는 작업을 조용히 버리지 않고 거부한다.")
+    @Test
+    void rejectAfterShutdown() {
+        // given
+        AtomicBoolean executed = new AtomicBoolean();
+        pathExecutor.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> pathExecutor.execute(() -> executed.set(true)))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executed).isFalse();
+    }
+
+    @DisplayName("종료된 뒤에 일괄 경로 탐색을 요청하면 빈 결과 대신 예외가 발생한다.")
+    @Test
+    void rejectBatchAfterShutdown() {
+        // given
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 0, 강남역, 양재역, 10);
+        SubwayGraph graph = SubwayNetwork.of(new HashSet<>(신분당선.getSections().getSections())).getSubwayGraph();
+        int[] sources = {graph.indexOf(강남역)};
+        int[] targets = {graph.indexOf(양재역)};
+        pathExecutor.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> BatchPathSearch.findPaths(graph, sources, targets, pathExecutor))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package nextstep.subway.path.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.path.application.PathMetrics.Phase;
+import nextstep.subway.path.application.PathMetrics.Query;
+import nextstep.subway.path.domain.DijkstraSearch;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.station.domain.Station;
+
+class PathMetricsTest {
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("단계별 실행 시간을 단계 태그로 기록한다.")
+    @Test
+    void recordPhase() {
+        // given
+        PathMetrics pathMetrics = new PathMetrics(registry, 1);
+
+        // when
+        String result = pathMetrics.record(Phase.RESPONSE, () -> "응답");
+
+        // then
+        assertThat(result).isEqualTo("응답");
+        assertThat(registry.get("subway.path.phase").tag("phase", "response").timer().count()).isEqualTo(1);
+        assertThat(registry.get("subway.path.phase").tag("phase", "search").timer().count()).isZero();
+    }
+
+    @DisplayName("표본으로 뽑힌 탐색은 조회 종류별로 확정한 노드, 완화한 간선, 힙 연산 수를 기록한다.")
+    @Test
+    void recordSearch() {
+        // given
+        PathMetrics pathMetrics = new PathMetrics(registry, 1);
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 0, 강남역, 양재역, 10);
+        SubwayGraph graph = SubwayNetwork.of(new HashSet<>(신분당선.getSections().getSections())).getSubwayGraph();
+
+        // when
+        pathMetrics.record(Query.SHORTEST,
+            () -> DijkstraSearch.findPath(graph, graph.indexOf(강남역), graph.indexOf(양재역)));
+
+        // then
+        assertThat(registry.get("subway.path.query").tag("query", "shortest").timer().count()).isEqualTo(1);
+        assertThat(registry.get("subway.path.search.settled").tag("query", "shortest").summary().totalAmount())
+            .isEqualTo(2);
+        assertThat(registry.get("subway.path.search.relaxed").tag("query", "shortest").summary().totalAmount())
+            .isEqualTo(1);
+        assertThat(registry.get("subway.path.search.heap.operations").tag("query", "shortest").summary()
+            .totalAmount()).isEqualTo(4);
+    }
+
+    @DisplayName("탐색 공간을 쓰지 않은 조회는 탐색 통계를 0으로 남기지 않는다.")
+    @Test
+    void skipSearchWithoutSearchSpace() {
+        // given
+        PathMetrics pathMetrics = new PathMetrics(registry, 1);
+
+        // when
+        pathMetrics.record(Query.SHORTEST, () -> "캐시된 경로");
+
+        // then
+        assertThat(registry.get("subway.path.query").tag("query", "shortest").timer().count()).isEqualTo(1);
+        assertThat(registry.get("subway.path.search.settled").tag("query", "shortest").summary().count()).isZero();
+    }
+
+    @DisplayName("다른 스레드에서 탐색하는 조회는 실행 시간만 기록한다.")
+    @Test
+    void recordQueryTimeOnly() {
+        // given
+        PathMetrics pathMetrics = new PathMetrics(registry, 1);
+
+        // when
+        pathMetrics.record(Query.BATCH, () -> "일괄 조회");
+
+        // then
+        assertThat(registry.get("subway.path.query").tag("query", "batch").timer().count()).isEqualTo(1);
+        assertThat(registry.find("subway.path.search.settled").tag("query", "batch").summary()).isNull();
+    }
+}
@@ -0,0 +1,221 @@
+package nextstep.subway.path.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nextstep.subway.event.SubwayNetworkChangedEvent;
+import nextstep.subway.line.application.LineService;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.domain.ArrayPathFinder;
+import nextstep.subway.path.domain.PathFinder;
+import nextstep.subway.path.domain.SubwayGraph;
+import nextstep.subway.path.domain.SubwayGraphSnapshot;
+import nextstep.subway.path.domain.SubwayNetwork;
+import nextstep.subway.station.domain.Station;
+
+@ExtendWith(MockitoExtension.class)
+class SubwayNetworkServiceTest {
+    private static final long EPOCH = 7L;
+
+    @Mock
+    private LineService lineService;
+    @Mock
+    private SubwayNetworkSnapshotStore snapshotStore;
+    @Mock
+    private PathFinder pathFinder;
+
+    private SubwayNetworkService subwayNetworkService;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Line 신분당선;
+    private Line 이호선;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        교대역 = new Station("교대역");
+        신분당선 = new Line("신분당선", "bg-red-600", 0, 강남역, 양재역, 10);
+        이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+
+        subwayNetworkService = new SubwayNetworkService(lineService, new ArrayPathFinder(),
+            new PathCache(100, 600), snapshotStore, new PathMetrics(new SimpleMeterRegistry(), 1));
+    }
+
+    @DisplayName("노선이 바뀌면 버전이 올라간 새 스냅샷으로 교체된다.")
+    @Test
+    void refreshOnChange() {
+        // given
+        when(lineService.findAllSection())
+            .thenReturn(collectSections(신분당선))
+            .thenReturn(collectSections(신분당선, 이호선));
+        SubwayNetwork before = subwayNetworkService.getNetwork();
+
+        // when
+        subwayNetworkService.onNetworkChanged(new SubwayNetworkChangedEvent());
+
+        // then
+        SubwayNetwork after = subwayNetworkService.getNetwork();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getStations()).containsExactlyInAnyOrder(강남역, 양재역, 교대역);
+    }
+
+    @DisplayName("구간 변경분을 적용하면 버전이 올라가고 기존 스냅샷을 가진 조회는 이전 그래프를 계속 본다.")
+    @Test
+    void applyDelta() {
+        // given
+        when(lineService.findRevision()).thenReturn(Optional.of(NetworkRevision.of(EPOCH, 0L)));
+        when(lineService.findAllSection()).thenReturn(collectSections(신분당선));
+        SubwayNetwork before = subwayNetworkService.getNetwork();
+        Station 판교역 = new Station("판교역");
+
+        // when
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 양재역, 판교역, 5));
+        subwayNetworkService.onNetworkChanged(SubwayNetworkChangedEvent.of(delta, NetworkRevision.of(EPOCH, 1L)));
+
+        // then
+        SubwayNetwork after = subwayNetworkService.getNetwork();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getStations()).contains(판교역);
+        assertThat(before.getStations()).containsExactlyInAnyOrder(강남역, 양재역);
+        assertThat(before.getSubwayGraph().size()).isEqualTo(2);
+        verify(snapshotStore).save(after, NetworkRevision.of(EPOCH, 1L));
+    }
+
+    @DisplayName("설치된 리비전 바로 다음이 아닌 구간 변경분은 적용하지 않고 노선도를 다시 만든다.")
+    @Test
+    void rebuildOnRevisionGap() {
+        // given
+        when(lineService.findRevision()).thenReturn(Optional.of(NetworkRevision.of(EPOCH, 0L)));
+        when(lineService.findAllSection()).thenReturn(collectSections(신분당선));
+        SubwayNetwork before = subwayNetworkService.getNetwork();
+        Station 판교역 = new Station("판교역");
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 양재역, 판교역, 5));
+        when(lineService.findAllSection()).thenReturn(collectSections(신분당선));
+
+        // when
+        subwayNetworkService.onNetworkChanged(SubwayNetworkChangedEvent.of(delta, NetworkRevision.of(EPOCH, 2L)));
+
+        // then
+        SubwayNetwork rebuilt = subwayNetworkService.getNetwork();
+        assertThat(rebuilt.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(rebuilt.getStations()).containsExactlyInAnyOrder(강남역, 양재역, 판교역);
+        verify(lineService, times(2)).findAllSection();
+    }
+
+    @DisplayName("이미 반영된 리비전의 구간 변경분은 다시 적용하지 않는다.")
+    @Test
+    void ignoreIncludedRevision() {
+        // given
+        when(lineService.findRevision()).thenReturn(Optional.of(NetworkRevision.of(EPOCH, 0L)));
+        when(lineService.findAllSection()).thenReturn(collectSections(신분당선));
+        subwayNetworkService.getNetwork();
+        Station 판교역 = new Station("판교역");
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 양재역, 판교역, 5));
+        SubwayNetworkChangedEvent event = SubwayNetworkChangedEvent.of(delta, NetworkRevision.of(EPOCH, 1L));
+        subwayNetworkService.onNetworkChanged(event);
+        SubwayNetwork applied = subwayNetworkService.getNetwork();
+
+        // when
+        subwayNetworkService.onNetworkChanged(event);
+
+        // then
+        assertThat(subwayNetworkService.getNetwork()).isSameAs(applied);
+        verify(lineService, times(1)).findAllSection();
+    }
+
+    @DisplayName("저장된 그래프로 시작하면 저장된 전처리 결과를 복원하고 경로 탐색 전처리가 끝날 때까지 기다린다.")
+    @Test
+    void warmUpAwaitsPreprocessing() {
+        // given
+        SubwayGraphSnapshot snapshot = mock(SubwayGraphSnapshot.class);
+        when(snapshot.getGraph()).thenReturn(SubwayGraph.of(collectSections(신분당선)));
+        when(snapshotStore.isEnabled()).thenReturn(true);
+        when(snapshotStore.load(NetworkRevision.none())).thenReturn(Optional.of(snapshot));
+        SubwayNetworkService warmService = new SubwayNetworkService(lineService, pathFinder,
+            new PathCache(100, 600), snapshotStore, new PathMetrics(new SimpleMeterRegistry(), 1));
+
+        // when
+        warmService.warmUp();
+
+        // then
+        SubwayNetwork network = warmService.getNetwork();
+        verify(pathFinder).restore(network, snapshot);
+        verify(pathFinder).prepare(network);
+        verify(pathFinder).awaitPrepared(network);
+        verify(lineService, never()).findAllSection();
+    }
+
+    @DisplayName("스냅샷을 다시 만드는 동안 조회는 완성된 스냅샷만 본다.")
+    @Test
+    void refreshAtomically() throws InterruptedException {
+        // given
+        Set<Section> small = collectSections(신분당선);
+        Set<Section> large = collectSections(신분당선, 이호선);
+        when(lineService.findAllSection()).thenAnswer(invocation -> new HashSet<>(
+            subwayNetworkService.findNetwork().map(SubwayNetwork::getVersion).orElse(0L) % 2 == 0 ? small : large));
+        subwayNetworkService.getNetwork();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(4);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(new Thread(() -> {
+                long lastVersion = 0;
+                while (running.get()) {
+                    SubwayNetwork network = subwayNetworkService.getNetwork();
+                    int expectedSize = network.getVersion() % 2 == 1 ? 2 : 3;
+                    if (network.getVersion() < lastVersion || network.getSubwayGraph().size() != expectedSize) {
+                        failure.set("version " + network.getVersion() + " after " + lastVersion
+                            + " with " + network.getSubwayGraph().size() + " stations");
+                    }
+                    lastVersion = network.getVersion();
+                }
+                done.countDown();
+            }));
+        }
+        readers.forEach(Thread::start);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            subwayNetworkService.refresh();
+        }
+        running.set(false);
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(failure.get()).isNull();
+        assertThat(subwayNetworkService.getNetwork().getVersion()).isEqualTo(201);
+    }
+
+    private Set<Section> collectSections(Line... lines) {
+        return Stream.of(lines)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+    }
+}
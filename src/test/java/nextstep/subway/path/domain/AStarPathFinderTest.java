@@ -0,0 +1,117 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class AStarPathFinderTest {
+    private static final int GRID_SIDE = 21;
+
+    private PathFinder pathFinder;
+    private Line 신분당선;
+    private Line 이호선;
+    private Line 삼호선;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Set<Section> sections;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역", 37.497952, 127.027619);
+        양재역 = new Station("양재역", 37.484147, 127.034631);
+        교대역 = new Station("교대역", 37.493415, 127.014080);
+        남부터미널역 = new Station("남부터미널역", 37.485013, 127.016189);
+
+        신분당선 = new Line("신분당선", "bg-red-600", 10, 강남역, 양재역, 10);
+        이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+
+        sections = Stream.of(신분당선, 이호선, 삼호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+
+        pathFinder = new AStarPathFinder();
+    }
+
+    @DisplayName("좌표로 남은 거리를 추정해 다익스트라보다 적은 역을 확정하고 같은 최단 경로를 찾는다.")
+    @Test
+    void settleFewerStationsWithCoordinates() {
+        // given
+        Station[][] stations = createGridStations();
+        SubwayNetwork network = SubwayNetwork.of(createGrid(stations));
+        int row = GRID_SIDE / 2;
+        Station source = stations[row][2];
+        Station target = stations[row][GRID_SIDE - 3];
+
+        // when
+        SearchStatistics beforeDijkstra = SearchSpace.statistics();
+        PathFinderResponse expected = new ArrayPathFinder().getShortestPaths(network, source, target);
+        SearchStatistics dijkstra = SearchSpace.statistics().since(beforeDijkstra);
+        SearchStatistics beforeAStar = SearchSpace.statistics();
+        PathFinderResponse findPath = pathFinder.getShortestPaths(network, source, target);
+        SearchStatistics aStar = SearchSpace.statistics().since(beforeAStar);
+
+        // then
+        assertEquals(2 * (GRID_SIDE - 5), expected.getDistance());
+        RandomSubwayNetwork.assertShortestPath(network.getSubwayGraph(), findPath, expected.getDistance());
+        assertThat(aStar.getSettledCount()).isLessThan(dijkstra.getSettledCount() / 2);
+    }
+
+    @DisplayName("좌표가 없는 역이 있으면 좌표 없이 최단 경로를 조회한다.")
+    @Test
+    void findShortestWithoutCoordinatesTest() {
+        // given
+        Station 역삼역 = new Station("역삼역");
+        Line 사호선 = new Line("사호선", "bg-blue-600", 0, 양재역, 역삼역, 4);
+        sections.addAll(사호선.getSections().getSections());
+
+        // when
+        PathFinderResponse findPath = pathFinder.getShortestPaths(sections, 역삼역, 교대역);
+
+        // then
+        assertThat(findPath.getStations()).extracting("name")
+            .containsExactly(역삼역.getName(), 양재역.getName(), 남부터미널역.getName(), 교대역.getName());
+        assertEquals(9, findPath.getDistance());
+    }
+
+    private Station[][] createGridStations() {
+        Station[][] stations = new Station[GRID_SIDE][GRID_SIDE];
+        for (int row = 0; row < GRID_SIDE; row++) {
+            for (int column = 0; column < GRID_SIDE; column++) {
+                stations[row][column] = new Station(row + "-" + column, 37.45 + row * 0.01, 126.90 + column * 0.01);
+            }
+        }
+        return stations;
+    }
+
+    private Set<Section> createGrid(Station[][] stations) {
+        Set<Section> sections = new HashSet<>();
+        for (int i = 0; i < GRID_SIDE; i++) {
+            Line rowLine = new Line("가로" + i, "bg-gray-600", 0, stations[i][0], stations[i][1], 2);
+            Line columnLine = new Line("세로" + i, "bg-gray-600", 0, stations[0][i], stations[1][i], 2);
+            for (int j = 2; j < GRID_SIDE; j++) {
+                rowLine.addSection(new Section(rowLine, stations[i][j - 1], stations[i][j], 2));
+                columnLine.addSection(new Section(columnLine, stations[j - 1][i], stations[j][i], 2));
+            }
+            sections.addAll(rowLine.getSections().getSections());
+            sections.addAll(columnLine.getSections().getSections());
+        }
+        return sections;
+    }
+}
@@ -0,0 +1,101 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class AllPairsPathFinderTest {
+
+    private PathFinder pathFinder;
+
+    @BeforeEach
+    void setUp() {
+        pathFinder = new AllPairsPathFinder();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathFinder.shutdown();
+    }
+
+    @DisplayName("새 버전의 노선도가 들어오면 거리 행렬을 다시 만들어 새 구간으로 경로를 찾는다.")
+    @Test
+    void rebuildMatrixForNewVersion() {
+        // given
+        Set<Section> sections = RandomSubwayNetwork.createSections(21, 100, 20);
+        SubwayNetwork network = SubwayNetwork.of(1L, sections);
+        pathFinder.prepare(network);
+        pathFinder.awaitPrepared(network);
+        long memoryBytes = pathFinder.getMemoryBytes();
+        SubwayGraph graph = network.getSubwayGraph();
+        Station source = graph.getStation(0);
+        Station target = graph.getStation(graph.size() - 1);
+        Set<Section> changed = new HashSet<>(sections);
+        changed.addAll(new Line("급행선", "bg-red-600", 900, source, target, 1).getSections().getSections());
+        SubwayNetwork next = SubwayNetwork.of(2L, changed);
+
+        // when
+        pathFinder.prepare(next);
+        pathFinder.awaitPrepared(next);
+        PathFinderResponse findPath = pathFinder.getShortestPaths(next, source, target);
+
+        // then
+        assertThat(memoryBytes).isPositive();
+        assertThat(findPath.getStations()).containsExactly(source, target);
+        assertEquals(1, findPath.getDistance());
+        assertEquals(900, findPath.getLineSurcharge());
+        assertMatrixMatchesDijkstra(next);
+    }
+
+    @DisplayName("역이 너무 많아 거리 행렬을 만들지 않는 노선도는 다익스트라로 경로를 찾는다.")
+    @Test
+    void fallBackBeyondMaxStations() {
+        // given
+        List<Station> stations = new ArrayList<>();
+        for (int i = 0; i <= DistanceMatrix.MAX_STATIONS; i++) {
+            stations.add(new Station("역" + i));
+        }
+        Line 일호선 = new Line("일호선", "bg-blue-600", 0, stations.get(0), stations.get(1), 1);
+        for (int i = 2; i < stations.size(); i++) {
+            일호선.addSection(new Section(일호선, stations.get(i - 1), stations.get(i), 1));
+        }
+        SubwayNetwork network = SubwayNetwork.of(1L, new HashSet<>(일호선.getSections().getSections()));
+
+        // when
+        pathFinder.prepare(network);
+        pathFinder.awaitPrepared(network);
+        PathFinderResponse findPath = pathFinder.getShortestPaths(network, stations.get(0),
+            stations.get(stations.size() - 1));
+
+        // then
+        assertFalse(DistanceMatrix.supports(network.getSubwayGraph()));
+        assertEquals(0, pathFinder.getMemoryBytes());
+        assertThat(findPath.getStations()).containsExactlyElementsOf(stations);
+        assertEquals(DistanceMatrix.MAX_STATIONS, findPath.getDistance());
+    }
+
+    private void assertMatrixMatchesDijkstra(SubwayNetwork network) {
+        SubwayGraph graph = network.getSubwayGraph();
+        DistanceMatrix matrix = DistanceMatrix.of(network);
+        for (int source = 0; source < graph.size(); source++) {
+            SearchSpace space = DijkstraSearch.searchTree(graph, source, SearchSpace.INFINITY);
+            for (int target = 0; target < graph.size(); target++) {
+                assertEquals(space.getDistance(target), matrix.getDistance(source, target));
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class ArrayPathFinderTest {
+
+    private final PathFinder pathFinder = new ArrayPathFinder();
+
+    @DisplayName("같은 두 역을 잇는 구간이 여러 노선에 있으면 더 짧은 구간의 추가 요금을 적용한다.")
+    @Test
+    void findShortestOnParallelSections() {
+        // given
+        Station 강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 900, 강남역, 양재역, 3);
+        Line 완행선 = new Line("완행선", "bg-gray-600", 0, 강남역, 양재역, 8);
+        Set<Section> sections = new HashSet<>(신분당선.getSections().getSections());
+        sections.addAll(완행선.getSections().getSections());
+
+        // when
+        PathFinderResponse findPath = pathFinder.getShortestPaths(sections, 강남역, 양재역);
+
+        // then
+        assertThat(findPath.getStations()).containsExactly(강남역, 양재역);
+        assertEquals(3, findPath.getDistance());
+        assertEquals(900, findPath.getLineSurcharge());
+    }
+
+    @DisplayName("크기가 다른 그래프를 번갈아 조회해도 재사용하는 탐색 공간이 이전 결과를 남기지 않는다.")
+    @Test
+    void reuseSearchSpaceAcrossGraphs() {
+        // given
+        SubwayNetwork large = SubwayNetwork.of(RandomSubwayNetwork.createSections(7, 200, 40));
+        SubwayNetwork small = SubwayNetwork.of(RandomSubwayNetwork.createSections(8, 20, 6));
+        SubwayGraph largeGraph = large.getSubwayGraph();
+        SubwayGraph smallGraph = small.getSubwayGraph();
+        int largeTarget = farthestReachable(largeGraph, 0);
+        int smallTarget = farthestReachable(smallGraph, 0);
+        int largeDistance = DijkstraSearch.findPath(largeGraph, 0, largeTarget).getDistance();
+        int smallDistance = DijkstraSearch.findPath(smallGraph, 0, smallTarget).getDistance();
+
+        for (int i = 0; i < 3; i++) {
+            // when
+            PathFinderResponse largePath = pathFinder.getShortestPaths(large, largeGraph.getStation(0),
+                largeGraph.getStation(largeTarget));
+            PathFinderResponse smallPath = pathFinder.getShortestPaths(small, smallGraph.getStation(0),
+                smallGraph.getStation(smallTarget));
+
+            // then
+            RandomSubwayNetwork.assertShortestPath(largeGraph, largePath, largeDistance);
+            RandomSubwayNetwork.assertShortestPath(smallGraph, smallPath, smallDistance);
+        }
+    }
+
+    private int farthestReachable(SubwayGraph graph, int source) {
+        SearchSpace space = DijkstraSearch.searchTree(graph, source, SearchSpace.INFINITY);
+        int farthest = source;
+        for (int node = 0; node < graph.size(); node++) {
+            if (space.isReached(node) && space.getDistance(node) > space.getDistance(farthest)) {
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+}
@@ -0,0 +1,92 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class BidirectionalPathFinderTest {
+    private static final int GRID_SIDE = 41;
+
+    private final PathFinder pathFinder = new BidirectionalPathFinder();
+
+    @DisplayName("양방향 탐색이 처음 만난 역을 지나지 않는 더 짧은 경로를 찾는다.")
+    @Test
+    void findShorterThanFirstMeeting() {
+        // given
+        Station 강남역 = new Station("강남역");
+        Station 교대역 = new Station("교대역");
+        Station 양재역 = new Station("양재역");
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 강남역, 교대역, 3);
+        이호선.addSection(new Section(이호선, 교대역, 양재역, 3));
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 900, 강남역, 양재역, 5);
+        Set<Section> sections = new HashSet<>(이호선.getSections().getSections());
+        sections.addAll(신분당선.getSections().getSections());
+
+        // when
+        PathFinderResponse findPath = pathFinder.getShortestPaths(sections, 강남역, 양재역);
+
+        // then
+        assertThat(findPath.getStations()).containsExactly(강남역, 양재역);
+        assertEquals(5, findPath.getDistance());
+        assertEquals(900, findPath.getLineSurcharge());
+    }
+
+    @DisplayName("양방향 탐색은 두 탐색이 만나면 멈춰 단방향 탐색보다 적은 역을 확정한다.")
+    @Test
+    void stopWhenSearchesMeet() {
+        // given
+        SubwayNetwork network = SubwayNetwork.of(createGrid());
+        SubwayGraph graph = network.getSubwayGraph();
+        int row = GRID_SIDE / 2;
+        Station source = new Station(nameOf(row, 10));
+        Station target = new Station(nameOf(row, 30));
+
+        // when
+        SearchStatistics beforeDijkstra = SearchSpace.statistics();
+        PathFinderResponse expected = new ArrayPathFinder().getShortestPaths(network, source, target);
+        SearchStatistics dijkstra = SearchSpace.statistics().since(beforeDijkstra);
+        SearchStatistics beforeBidirectional = SearchSpace.statistics();
+        PathFinderResponse findPath = pathFinder.getShortestPaths(network, source, target);
+        SearchStatistics bidirectional = SearchSpace.statistics().since(beforeBidirectional);
+
+        // then
+        assertEquals(20, expected.getDistance());
+        RandomSubwayNetwork.assertShortestPath(graph, findPath, 20);
+        assertThat(bidirectional.getSettledCount()).isLessThan(dijkstra.getSettledCount() * 3 / 4);
+    }
+
+    private Set<Section> createGrid() {
+        Station[][] stations = new Station[GRID_SIDE][GRID_SIDE];
+        for (int row = 0; row < GRID_SIDE; row++) {
+            for (int column = 0; column < GRID_SIDE; column++) {
+                stations[row][column] = new Station(nameOf(row, column));
+            }
+        }
+        Set<Section> sections = new HashSet<>();
+        for (int i = 0; i < GRID_SIDE; i++) {
+            Line rowLine = new Line("가로" + i, "bg-gray-600", 0, stations[i][0], stations[i][1], 1);
+            Line columnLine = new Line("세로" + i, "bg-gray-600", 0, stations[0][i], stations[1][i], 1);
+            for (int j = 2; j < GRID_SIDE; j++) {
+                rowLine.addSection(new Section(rowLine, stations[i][j - 1], stations[i][j], 1));
+                columnLine.addSection(new Section(columnLine, stations[j - 1][i], stations[j][i], 1));
+            }
+            sections.addAll(rowLine.getSections().getSections());
+            sections.addAll(columnLine.getSections().getSections());
+        }
+        return sections;
+    }
+
+    private String nameOf(int row, int column) {
+        return row + "-" + column;
+    }
+}
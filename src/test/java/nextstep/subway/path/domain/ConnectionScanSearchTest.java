@@ -0,0 +1,71 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineSchedule;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+class ConnectionScanSearchTest {
+
+    private SubwayGraph graph;
+    private Timetable timetable;
+    private Station 강남역;
+    private Station 남부터미널역;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Station 교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 0, 강남역, 양재역, 10);
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        Line 삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+
+        Set<Section> sections = Stream.of(신분당선, 이호선, 삼호선)
+            .peek(line -> line.updateSchedule(LineSchedule.of(LocalTime.of(6, 0), LocalTime.of(7, 0), 10)))
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+        graph = SubwayGraph.of(sections);
+        timetable = Timetable.of(graph);
+    }
+
+    @DisplayName("출발 시각 이후 가장 먼저 도착하는 경로를 조회한다.")
+    @Test
+    void findEarliestArrival() {
+        // when
+        TimetablePath path = ConnectionScanSearch.findEarliestArrival(timetable, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), Timetable.toMinutes(LocalTime.of(6, 5)));
+
+        // then
+        assertThat(Timetable.toLocalTime(path.getArrival())).isEqualTo(LocalTime.of(6, 22));
+        assertThat(path.getLegs()).extracting(leg -> graph.getLine(leg.getLineIndex()).getName())
+            .containsExactly("신분당선", "삼호선");
+        assertThat(path.getDistance(graph)).isEqualTo(12);
+    }
+
+    @DisplayName("막차가 끊긴 뒤에는 경로를 조회할 수 없다.")
+    @Test
+    void findAfterLastTrain() {
+        // when & then
+        assertThatThrownBy(() -> ConnectionScanSearch.findEarliestArrival(timetable, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), Timetable.toMinutes(LocalTime.of(7, 30))))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(NOT_CONNECTED_STATION.getMessage());
+    }
+}
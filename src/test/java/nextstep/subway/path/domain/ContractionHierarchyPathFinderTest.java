@@ -0,0 +1,140 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class ContractionHierarchyPathFinderTest {
+    private static final int STATION_COUNT = 30;
+
+    private PathFinder pathFinder;
+    private List<Station> stations;
+    private Set<Section> sections;
+
+    @BeforeEach
+    void setUp() {
+        pathFinder = new ContractionHierarchyPathFinder();
+        stations = new ArrayList<>();
+        for (int i = 0; i < STATION_COUNT; i++) {
+            stations.add(new Station("역" + i));
+        }
+        Line 일호선 = new Line("일호선", "bg-blue-600", 0, stations.get(0), stations.get(1), 2);
+        for (int i = 2; i < STATION_COUNT; i++) {
+            일호선.addSection(new Section(일호선, stations.get(i - 1), stations.get(i), 2));
+        }
+        sections = new HashSet<>(일호선.getSections().getSections());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathFinder.shutdown();
+    }
+
+    @DisplayName("지름길 간선으로 찾은 경로를 원래 구간의 역 순서로 풀어 돌려준다.")
+    @Test
+    void unpackShortcuts() {
+        // given
+        SubwayNetwork network = SubwayNetwork.of(1L, sections);
+        assertThat(ContractionHierarchy.of(network).getShortcutCount()).isPositive();
+
+        // when
+        PathFinderResponse findPath = pathFinder.getShortestPaths(network, stations.get(0),
+            stations.get(STATION_COUNT - 1));
+
+        // then
+        assertThat(findPath.getStations()).containsExactlyElementsOf(stations);
+        assertEquals(2 * (STATION_COUNT - 1), findPath.getDistance());
+    }
+
+    @DisplayName("새 계층을 만드는 동안에는 이전 계층으로 응답하고 완성되면 새 계층으로 응답한다.")
+    @Test
+    void serveStaleHierarchyWhileRebuilding() {
+        // given
+        Station first = stations.get(0);
+        Station last = stations.get(STATION_COUNT - 1);
+        SubwayNetwork network = SubwayNetwork.of(1L, sections);
+        pathFinder.prepare(network);
+        pathFinder.awaitPrepared(network);
+        Set<Section> changed = new HashSet<>(sections);
+        changed.addAll(new Line("급행선", "bg-red-600", 900, first, last, 5).getSections().getSections());
+        SubwayNetwork next = SubwayNetwork.of(2L, changed);
+
+        // when
+        PathFinderResponse stalePath = pathFinder.getShortestPaths(next, first, last);
+        pathFinder.awaitPrepared(next);
+        PathFinderResponse freshPath = pathFinder.getShortestPaths(next, first, last);
+
+        // then
+        assertThat(stalePath.getStations()).containsExactlyElementsOf(stations);
+        assertTrue(stalePath.isStale());
+        assertFalse(freshPath.isStale());
+        assertThat(freshPath.getStations()).containsExactly(first, last);
+        assertEquals(5, freshPath.getDistance());
+        assertEquals(900, freshPath.getLineSurcharge());
+    }
+
+    @DisplayName("버전이 같아도 구간이 다른 노선도로 조회하면 그 노선도의 계층을 새로 만들어 응답한다.")
+    @Test
+    void rebuildHierarchyForSameVersion() {
+        // given
+        Station first = stations.get(0);
+        Station last = stations.get(STATION_COUNT - 1);
+        SubwayNetwork network = SubwayNetwork.of(sections);
+        pathFinder.prepare(network);
+        pathFinder.awaitPrepared(network);
+        Set<Section> changed = new HashSet<>(sections);
+        changed.addAll(new Line("급행선", "bg-red-600", 900, first, last, 5).getSections().getSections());
+        SubwayNetwork next = SubwayNetwork.of(changed);
+
+        // when
+        pathFinder.awaitPrepared(next);
+        PathFinderResponse findPath = pathFinder.getShortestPaths(next, first, last);
+
+        // then
+        assertFalse(findPath.isStale());
+        assertThat(findPath.getStations()).containsExactly(first, last);
+        assertEquals(5, findPath.getDistance());
+    }
+
+    @DisplayName("구간 변경분을 적용한 노선도는 이전 계층의 축약 순서를 이어 받아 계층을 만든다.")
+    @Test
+    void reuseContractionOrderOfAppliedNetwork() {
+        // given
+        SubwayNetwork network = SubwayNetwork.of(1L, sections);
+        ContractionHierarchy previous = ContractionHierarchy.of(network);
+        Line 일호선 = sections.iterator().next().getLine();
+        Station 신설역 = new Station("신설역");
+        SectionDelta delta = 일호선.addSection(new Section(일호선, stations.get(0), 신설역, 1));
+        SubwayNetwork next = network.apply(2L, delta);
+
+        // when
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(next, previous);
+
+        // then
+        assertEquals(1, hierarchy.getUnorderedCount());
+        SubwayGraph graph = next.getSubwayGraph();
+        for (int source = 0; source < graph.size(); source++) {
+            for (int target = 0; target < graph.size(); target++) {
+                if (source != target) {
+                    assertEquals(DijkstraSearch.findPath(graph, source, target).getDistance(),
+                        hierarchy.findPath(source, target).getDistance());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+class FareOptimalSearchTest {
+
+    private SubwayGraph graph;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Station 역삼역;
+
+    /**
+     * 교대역    --- *2호선* --- 강남역
+     * |                       |
+     * *3호선*                  *신분당선(추가요금 900)*
+     * |                       |
+     * 남부터미널역   --- *3호선* --- 양재역
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+        역삼역 = new Station("역삼역");
+
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 900, 강남역, 양재역, 10);
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        Line 삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+        Line 사호선 = new Line("사호선", "bg-blue-600", 0, 역삼역, new Station("사당역"), 5);
+
+        Set<Section> sections = Stream.of(신분당선, 이호선, 삼호선, 사호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+        graph = SubwayGraph.of(sections);
+    }
+
+    @DisplayName("거리가 더 길어도 요금이 더 싼 경로를 조회한다.")
+    @Test
+    void findCheapestPath() {
+        // when
+        ShortestPath path = FareOptimalSearch.findPath(graph, graph.indexOf(강남역), graph.indexOf(양재역));
+
+        // then
+        assertThat(path.toResponse(graph).getStations()).containsExactly(강남역, 교대역, 남부터미널역, 양재역);
+        assertThat(path.getDistance()).isEqualTo(15);
+        assertThat(path.getSurcharge()).isZero();
+    }
+
+    @DisplayName("출발역과 도착역이 연결되어 있지 않으면 조회할 수 없다.")
+    @Test
+    void validateConnectedStation() {
+        // when
+        BadRequestException exception = assertThrows(BadRequestException.class,
+            () -> FareOptimalSearch.findPath(graph, graph.indexOf(강남역), graph.indexOf(역삼역)));
+
+        // then
+        assertEquals(NOT_CONNECTED_STATION.getMessage(), exception.getMessage());
+    }
+}
@@ -0,0 +1,69 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndexedMinHeapTest {
+
+    @DisplayName("가장 작은 키를 가진 노드부터 꺼낸다.")
+    @Test
+    void poll() {
+        // given
+        IndexedMinHeap heap = new IndexedMinHeap(5);
+        heap.push(0, 30);
+        heap.push(1, 10);
+        heap.push(2, 50);
+        heap.push(3, 20);
+
+        // when
+        List<Integer> nodes = new ArrayList<>();
+        while (!heap.isEmpty()) {
+            nodes.add(heap.poll());
+        }
+
+        // then
+        assertThat(nodes).containsExactly(1, 3, 0, 2);
+    }
+
+    @DisplayName("이미 존재하는 노드는 더 작은 키로만 갱신된다.")
+    @Test
+    void decreaseKey() {
+        // given
+        IndexedMinHeap heap = new IndexedMinHeap(3);
+        heap.push(0, 10);
+        heap.push(1, 20);
+
+        // when
+        heap.push(1, 5);
+        heap.push(0, 30);
+
+        // then
+        assertEquals(2, heap.size());
+        assertEquals(1, heap.poll());
+        assertEquals(10, heap.peekKey());
+        assertEquals(0, heap.poll());
+    }
+
+    @DisplayName("비운 뒤에는 이전 노드를 포함하지 않는다.")
+    @Test
+    void clear() {
+        // given
+        IndexedMinHeap heap = new IndexedMinHeap(2);
+        heap.push(0, 10);
+        heap.push(1, 20);
+
+        // when
+        heap.clear();
+
+        // then
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(0));
+        assertFalse(heap.contains(1));
+    }
+}
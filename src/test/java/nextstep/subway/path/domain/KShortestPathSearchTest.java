@@ -0,0 +1,68 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+class KShortestPathSearchTest {
+
+    private SubwayGraph graph;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 900, 강남역, 양재역, 10);
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        Line 삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+
+        Set<Section> sections = Stream.of(신분당선, 이호선, 삼호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+        graph = SubwayGraph.of(sections);
+    }
+
+    @DisplayName("거리가 짧은 순서로 순환하지 않는 대안 경로를 조회한다.")
+    @Test
+    void findPaths() {
+        // when
+        List<ShortestPath> paths = KShortestPathSearch.findPaths(graph, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), 3, 1_000);
+
+        // then
+        assertThat(paths).extracting(ShortestPath::getDistance).containsExactly(12, 13);
+        assertThat(paths).extracting(ShortestPath::getSurcharge).containsExactly(900, 0);
+        assertThat(paths.get(1).toResponse(graph).getStations())
+            .containsExactly(강남역, 교대역, 남부터미널역);
+    }
+
+    @DisplayName("탐색 한도를 넘으면 그때까지 찾은 경로만 반환한다.")
+    @Test
+    void findPathsWithinBudget() {
+        // when
+        List<ShortestPath> paths = KShortestPathSearch.findPaths(graph, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), 3, 0);
+
+        // then
+        assertThat(paths).extracting(ShortestPath::getDistance).containsExactly(12);
+    }
+}
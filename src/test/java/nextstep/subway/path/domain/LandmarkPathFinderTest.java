@@ -0,0 +1,163 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class LandmarkPathFinderTest {
+    private static final int LANDMARK_COUNT = 8;
+
+    private LandmarkPathFinder pathFinder;
+    private Set<Section> sections;
+    private SubwayGraph graph;
+    private Landmarks landmarks;
+
+    @BeforeEach
+    void setUp() {
+        pathFinder = new LandmarkPathFinder();
+        sections = RandomSubwayNetwork.createSections(11, 150, 30);
+        graph = SubwayNetwork.of(sections).getSubwayGraph();
+        landmarks = Landmarks.of(graph, LANDMARK_COUNT, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathFinder.shutdown();
+    }
+
+    @DisplayName("최단 거리를 줄이지 않는 구간이 추가되면 이전 랜드마크 거리를 다시 계산하지 않고 복사한다.")
+    @Test
+    void copyRowsWhenChangeDoesNotShorten() {
+        // given
+        SubwayGraph next = addSection(10_000);
+
+        // when
+        Landmarks rebuilt = Landmarks.of(next, LANDMARK_COUNT, landmarks);
+
+        // then
+        assertEquals(LANDMARK_COUNT, rebuilt.getReusedCount());
+        assertEquals(LANDMARK_COUNT, rebuilt.getCopiedRowCount());
+        assertDistancesMatchDijkstra(next, rebuilt);
+    }
+
+    @DisplayName("최단 거리를 줄이는 구간이 추가되면 영향을 받는 랜드마크 거리만 다시 계산한다.")
+    @Test
+    void recomputeRowsWhenChangeShortens() {
+        // given
+        SubwayGraph next = addSection(1);
+
+        // when
+        Landmarks rebuilt = Landmarks.of(next, LANDMARK_COUNT, landmarks);
+
+        // then
+        assertEquals(LANDMARK_COUNT, rebuilt.getReusedCount());
+        assertThat(rebuilt.getCopiedRowCount()).isLessThan(LANDMARK_COUNT);
+        assertDistancesMatchDijkstra(next, rebuilt);
+    }
+
+    @DisplayName("새 버전의 노선도로 랜드마크를 다시 만들면 이전 랜드마크를 재사용하고 새 구간으로 경로를 찾는다.")
+    @Test
+    void reuseLandmarksAfterNetworkChange() {
+        // given
+        SubwayNetwork network = SubwayNetwork.of(1L, sections);
+        pathFinder.prepare(network);
+        pathFinder.awaitPrepared(network);
+        Station source = graph.getStation(landmarks.getLandmark(0));
+        Station target = graph.getStation(farthestFromFirstLandmark());
+        Set<Section> changed = new HashSet<>(sections);
+        changed.addAll(new Line("급행선", "bg-red-600", 900, source, target, 1).getSections().getSections());
+        SubwayNetwork next = SubwayNetwork.of(2L, changed);
+
+        // when
+        pathFinder.prepare(next);
+        pathFinder.awaitPrepared(next);
+        PathFinderResponse findPath = pathFinder.getShortestPaths(next, source, target);
+
+        // then
+        assertEquals(LANDMARK_COUNT, pathFinder.getLandmarks().getReusedCount());
+        assertThat(pathFinder.getMemoryBytes()).isEqualTo(pathFinder.getLandmarks().getMemoryBytes());
+        assertThat(findPath.getStations()).containsExactly(source, target);
+        assertEquals(1, findPath.getDistance());
+        assertEquals(900, findPath.getLineSurcharge());
+    }
+
+    @DisplayName("구간 변경분을 적용한 그래프는 랜드마크 거리를 처음부터 계산하지 않고 바뀐 역 주변만 고친다.")
+    @Test
+    void repairRowsOfAppliedGraph() {
+        // given
+        Station source = graph.getStation(landmarks.getLandmark(0));
+        Station target = graph.getStation(farthestFromFirstLandmark());
+        Line 추가선 = new Line("추가선", "bg-gray-600", 0, source, target, 1);
+        SubwayGraph added = graph.apply(SectionDelta.added(추가선.getSections().getSections()));
+        SubwayGraph restored = added.apply(SectionDelta.lineRemoved(추가선.getSections().getSections()));
+
+        // when
+        Landmarks repaired = Landmarks.of(added, LANDMARK_COUNT, landmarks);
+        Landmarks repairedAgain = Landmarks.of(restored, LANDMARK_COUNT, repaired);
+
+        // then
+        assertEquals(LANDMARK_COUNT, repaired.getCopiedRowCount());
+        assertThat(repaired.getRepairedNodeCount()).isPositive();
+        assertDistancesMatchDijkstra(added, repaired);
+        assertEquals(LANDMARK_COUNT, repairedAgain.getCopiedRowCount());
+        assertDistancesMatchDijkstra(restored, repairedAgain);
+    }
+
+    @DisplayName("노선을 삭제한 변경분을 적용해도 고친 랜드마크 거리는 다익스트라로 구한 거리와 같다.")
+    @Test
+    void repairRowsAfterLineRemoved() {
+        // given
+        Set<Line> lines = new HashSet<>();
+        sections.forEach(section -> lines.add(section.getLine()));
+
+        for (Line line : lines) {
+            // when
+            SubwayGraph next = graph.apply(SectionDelta.lineRemoved(line.getSections().getSections()));
+            Landmarks repaired = Landmarks.of(next, LANDMARK_COUNT, landmarks);
+
+            // then
+            assertDistancesMatchDijkstra(next, repaired);
+        }
+    }
+
+    private SubwayGraph addSection(int distance) {
+        Station source = graph.getStation(landmarks.getLandmark(0));
+        Station target = graph.getStation(farthestFromFirstLandmark());
+        Set<Section> changed = new HashSet<>(sections);
+        changed.addAll(new Line("추가선", "bg-gray-600", 0, source, target, distance).getSections().getSections());
+        return SubwayNetwork.of(changed).getSubwayGraph();
+    }
+
+    private int farthestFromFirstLandmark() {
+        int farthest = landmarks.getLandmark(0);
+        for (int node = 0; node < graph.size(); node++) {
+            int distance = landmarks.getDistance(0, node);
+            if (distance != SearchSpace.INFINITY && distance > landmarks.getDistance(0, farthest)) {
+                farthest = node;
+            }
+        }
+        return farthest;
+    }
+
+    private void assertDistancesMatchDijkstra(SubwayGraph next, Landmarks rebuilt) {
+        for (int i = 0; i < rebuilt.getLandmarkCount(); i++) {
+            SearchSpace space = DijkstraSearch.searchTree(next, rebuilt.getLandmark(i), SearchSpace.INFINITY);
+            for (int node = 0; node < next.size(); node++) {
+                assertEquals(space.getDistance(node), rebuilt.getDistance(i, node));
+            }
+        }
+    }
+}
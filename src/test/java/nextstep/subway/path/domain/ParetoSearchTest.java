@@ -0,0 +1,89 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+class ParetoSearchTest {
+
+    private SubwayGraph graph;
+    private TransferGraph transferGraph;
+    private Station 강남역;
+    private Station 남부터미널역;
+
+    /**
+     * 교대역    --- *2호선* --- 강남역
+     * |                       |
+     * *3호선*                  *신분당선(추가 요금 900)*
+     * |                       |
+     * 남부터미널역   --- *3호선* --- 양재역
+     *
+     * 강남역 --- *7호선(거리 30)* --- 남부터미널역
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Station 교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 900, 강남역, 양재역, 10);
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        Line 삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+        Line 칠호선 = new Line("칠호선", "bg-olive-600", 0, 강남역, 남부터미널역, 30);
+
+        Set<Section> sections = Stream.of(신분당선, 이호선, 삼호선, 칠호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+        graph = SubwayGraph.of(sections);
+        transferGraph = TransferGraph.of(graph);
+    }
+
+    @DisplayName("거리, 추가 요금, 환승 횟수 중 하나라도 더 나은 경로를 모두 조회한다.")
+    @Test
+    void findParetoPaths() {
+        // when
+        List<TransferPath> paths = ParetoSearch.findPaths(transferGraph, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), 1000);
+
+        // then
+        assertThat(paths).extracting(TransferPath::getDistance).containsExactly(12, 13, 30);
+        assertThat(paths).extracting(TransferPath::getSurcharge).containsExactly(900, 0, 0);
+        assertThat(paths).extracting(TransferPath::getTransferCount).containsExactly(1, 1, 0);
+    }
+
+    @DisplayName("라벨 수 제한에 걸리면 최단 거리 경로라도 조회한다.")
+    @Test
+    void findWithLabelLimit() {
+        // when
+        List<TransferPath> paths = ParetoSearch.findPaths(transferGraph, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), 3);
+
+        // then
+        assertThat(paths).extracting(TransferPath::getDistance).containsExactly(12);
+    }
+
+    @DisplayName("출발역과 도착역이 같은 경우 경로를 조회할 수 없다.")
+    @Test
+    void validateSameStations() {
+        // when & then
+        assertThatThrownBy(() -> ParetoSearch.findPaths(transferGraph, graph.indexOf(강남역),
+            graph.indexOf(강남역), 1000))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(SAME_STATION.getMessage());
+    }
+}
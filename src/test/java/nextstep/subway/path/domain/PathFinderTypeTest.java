@@ -0,0 +1,145 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class PathFinderTypeTest {
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private Set<Section> sections;
+
+    /**
+     * 교대역    --- *2호선* --- 강남역
+     * |                       |
+     * *3호선*                  *신분당선(추가 요금 10)*
+     * |                       |
+     * 남부터미널역   --- *3호선* --- 양재역
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 10, 강남역, 양재역, 10);
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        Line 삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+
+        sections = Stream.of(신분당선, 이호선, 삼호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+    }
+
+    @DisplayName("최단 경로를 조회한다.")
+    @ParameterizedTest
+    @EnumSource(PathFinderType.class)
+    void findShortest(PathFinderType type) {
+        // when
+        PathFinderResponse findPath = type.create().getShortestPaths(sections, 강남역, 남부터미널역);
+
+        // then
+        assertThat(findPath.getStations()).containsExactly(강남역, 양재역, 남부터미널역);
+        assertEquals(12, findPath.getDistance());
+        assertEquals(10, findPath.getLineSurcharge());
+    }
+
+    @DisplayName("출발역과 도착역이 같은 경우 경로를 조회할 수 없다.")
+    @ParameterizedTest
+    @EnumSource(PathFinderType.class)
+    void validateSameStations(PathFinderType type) {
+        // when && then
+        assertThatThrownBy(() -> type.create().getShortestPaths(sections, 강남역, 강남역))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(SAME_STATION.getMessage());
+    }
+
+    @DisplayName("존재하지 않는 출발역이나 도착역은 조회할 수 없다.")
+    @ParameterizedTest
+    @EnumSource(PathFinderType.class)
+    void validateExistStation(PathFinderType type) {
+        // given
+        Station 선릉역 = new Station("선릉역");
+        Station 사당역 = new Station("사당역");
+
+        // when && then
+        assertThatThrownBy(() -> type.create().getShortestPaths(sections, 선릉역, 사당역))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(NOT_EXIST_STATION.getMessage());
+    }
+
+    @DisplayName("출발역과 도착역이 연결되어 있지 않으면 경로를 조회할 수 없다.")
+    @ParameterizedTest
+    @EnumSource(PathFinderType.class)
+    void validateConnectedStation(PathFinderType type) {
+        // given
+        Station 역삼역 = new Station("역삼역");
+        Station 사당역 = new Station("사당역");
+        sections.addAll(new Line("사호선", "bg-blue-600", 0, 역삼역, 사당역, 7).getSections().getSections());
+
+        // when && then
+        assertThatThrownBy(() -> type.create().getShortestPaths(sections, 강남역, 사당역))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(NOT_CONNECTED_STATION.getMessage());
+    }
+
+    @DisplayName("임의의 노선도에서 다익스트라와 같은 거리와 추가 요금의 경로를 찾는다.")
+    @ParameterizedTest
+    @EnumSource(PathFinderType.class)
+    void crossCheckWithDijkstra(PathFinderType type) {
+        for (long seed = 1; seed <= 3; seed++) {
+            // given
+            SubwayNetwork network = SubwayNetwork.of(RandomSubwayNetwork.createSections(seed, 120, 24));
+            SubwayGraph graph = network.getSubwayGraph();
+            PathFinder pathFinder = type.create();
+            Random random = new Random(seed);
+
+            for (int query = 0; query < 100; query++) {
+                int source = random.nextInt(graph.size());
+                int target = random.nextInt(graph.size());
+                if (source == target) {
+                    continue;
+                }
+                Station sourceStation = graph.getStation(source);
+                Station targetStation = graph.getStation(target);
+
+                // when
+                ShortestPath expected;
+                try {
+                    expected = DijkstraSearch.findPath(graph, source, target);
+                } catch (BadRequestException e) {
+                    assertThatThrownBy(() -> pathFinder.getShortestPaths(network, sourceStation, targetStation))
+                        .isInstanceOf(BadRequestException.class)
+                        .hasMessage(NOT_CONNECTED_STATION.getMessage());
+                    continue;
+                }
+                PathFinderResponse actual = pathFinder.getShortestPaths(network, sourceStation, targetStation);
+
+                // then
+                assertThat(actual.getStations()).startsWith(sourceStation).endsWith(targetStation);
+                RandomSubwayNetwork.assertShortestPath(graph, actual, expected.getDistance());
+            }
+        }
+    }
+}
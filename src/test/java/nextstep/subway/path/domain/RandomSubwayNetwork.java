@@ -0,0 +1,107 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class RandomSubwayNetwork {
+    private static final double BASE_LATITUDE = 37.45;
+    private static final double BASE_LONGITUDE = 126.90;
+    private static final double SPACING = 0.01;
+    private static final int[] SURCHARGES = {0, 0, 0, 300, 900};
+    private static final int[][] DIRECTIONS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}, {1, 1}};
+
+    private RandomSubwayNetwork() {
+    }
+
+    static Set<Section> createSections(long seed, int stationCount, int lineCount) {
+        Random random = new Random(seed);
+        int side = (int) Math.ceil(Math.sqrt(stationCount));
+        Station[] stations = new Station[stationCount];
+        for (int i = 0; i < stationCount; i++) {
+            stations[i] = new Station("역" + i, BASE_LATITUDE + i / side * SPACING,
+                BASE_LONGITUDE + i % side * SPACING);
+        }
+
+        Set<Long> connectedPairs = new HashSet<>();
+        Set<Section> sections = new HashSet<>();
+        for (int lineNumber = 0; lineNumber < lineCount; lineNumber++) {
+            List<Integer> path = walk(random, side, stationCount, connectedPairs);
+            if (path.size() < 2) {
+                continue;
+            }
+            int surcharge = SURCHARGES[random.nextInt(SURCHARGES.length)];
+            Line line = new Line("노선" + lineNumber, "bg-gray-600", surcharge, stations[path.get(0)],
+                stations[path.get(1)], randomDistance(random, stations[path.get(0)], stations[path.get(1)]));
+            for (int i = 2; i < path.size(); i++) {
+                Station up = stations[path.get(i - 1)];
+                Station down = stations[path.get(i)];
+                line.addSection(new Section(line, up, down, randomDistance(random, up, down)));
+            }
+            sections.addAll(line.getSections().getSections());
+        }
+        return sections;
+    }
+
+    private static List<Integer> walk(Random random, int side, int stationCount, Set<Long> connectedPairs) {
+        int length = 4 + random.nextInt(10);
+        List<Integer> path = new ArrayList<>();
+        path.add(random.nextInt(stationCount));
+        while (path.size() < length) {
+            int current = path.get(path.size() - 1);
+            int[] direction = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+            int row = current / side + direction[0];
+            int column = current % side + direction[1];
+            int next = row * side + column;
+            if (row < 0 || column < 0 || column >= side || next >= stationCount || path.contains(next)
+                || !connectedPairs.add(pairOf(current, next))) {
+                break;
+            }
+            path.add(next);
+        }
+        return path;
+    }
+
+    private static long pairOf(int station, int other) {
+        return (long) Math.min(station, other) << 32 | Math.max(station, other);
+    }
+
+    private static int randomDistance(Random random, Station up, Station down) {
+        double kilometers = GeoDistance.kilometersBetween(up.getLatitude(), up.getLongitude(),
+            down.getLatitude(), down.getLongitude());
+        return (int) Math.ceil(kilometers) + random.nextInt(5);
+    }
+
+    static void assertShortestPath(SubwayGraph graph, PathFinderResponse response, int expectedDistance) {
+        List<Station> stations = response.getStations();
+        int distance = 0;
+        int surcharge = 0;
+        for (int i = 1; i < stations.size(); i++) {
+            int edge = findEdge(graph, graph.indexOf(stations.get(i - 1)), graph.indexOf(stations.get(i)));
+            distance += graph.getDistance(edge);
+            surcharge = Math.max(surcharge, graph.getSurcharge(edge));
+        }
+        assertThat(response.getDistance()).isEqualTo(expectedDistance);
+        assertThat(distance).isEqualTo(expectedDistance);
+        assertThat(response.getLineSurcharge()).isEqualTo(surcharge);
+    }
+
+    private static int findEdge(SubwayGraph graph, int node, int target) {
+        for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+            if (graph.getTarget(edge) == target) {
+                return edge;
+            }
+        }
+        throw new AssertionError("no section between " + graph.getStation(node).getName() + " and "
+            + graph.getStation(target).getName());
+    }
+}
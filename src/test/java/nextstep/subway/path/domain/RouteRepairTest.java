@@ -0,0 +1,112 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.path.dto.PathFinderResponse;
+import nextstep.subway.station.domain.Station;
+
+class RouteRepairTest {
+
+    private Line 신분당선;
+    private Line 이호선;
+    private Line 삼호선;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private SubwayGraph graph;
+    private PathFinderResponse 교대_양재_경로;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        신분당선 = new Line("신분당선", "bg-red-600", 10, 강남역, 양재역, 10);
+        이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+
+        graph = SubwayGraph.of(Stream.of(신분당선, 이호선, 삼호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet()));
+        교대_양재_경로 = new PathFinderResponse(Arrays.asList(교대역, 남부터미널역, 양재역), 5, 0);
+    }
+
+    @DisplayName("새로운 역으로 구간을 분할하면 경로에 새로운 역을 끼워 넣는다.")
+    @Test
+    void repairSplit() {
+        // given
+        Station 중간역 = new Station("중간역");
+        SectionDelta delta = 삼호선.addSection(new Section(삼호선, 교대역, 중간역, 1));
+
+        // when
+        RouteRepair repair = RouteRepair.of(graph, graph.apply(delta), delta);
+        Optional<PathFinderResponse> repaired = repair.repair(교대_양재_경로);
+
+        // then
+        assertTrue(repair.isPreserving());
+        assertThat(repaired).isPresent();
+        assertThat(repaired.get().getStations()).containsExactly(교대역, 중간역, 남부터미널역, 양재역);
+        assertEquals(5, repaired.get().getDistance());
+    }
+
+    @DisplayName("구간을 병합하면 경로에서 제거된 역을 뺀다.")
+    @Test
+    void repairMerge() {
+        // given
+        SectionDelta delta = 삼호선.removeSection(남부터미널역);
+
+        // when
+        RouteRepair repair = RouteRepair.of(graph, graph.apply(delta), delta);
+
+        // then
+        assertTrue(repair.isPreserving());
+        assertThat(repair.repair(교대_양재_경로).get().getStations()).containsExactly(교대역, 양재역);
+        assertThat(repair.repair(new PathFinderResponse(Arrays.asList(교대역, 남부터미널역), 3, 0))).isEmpty();
+    }
+
+    @DisplayName("노선을 삭제하면 해당 노선을 지나는 경로만 무효화한다.")
+    @Test
+    void invalidateRemovedLine() {
+        // given
+        SectionDelta delta = SectionDelta.lineRemoved(신분당선.getSections().getSections());
+        PathFinderResponse 강남_양재_경로 = new PathFinderResponse(Arrays.asList(강남역, 양재역), 10, 10);
+
+        // when
+        RouteRepair repair = RouteRepair.of(graph, graph.apply(delta), delta);
+
+        // then
+        assertTrue(repair.isPreserving());
+        assertThat(repair.repair(강남_양재_경로)).isEmpty();
+        assertThat(repair.repair(교대_양재_경로).get().getStations()).containsExactly(교대역, 남부터미널역, 양재역);
+    }
+
+    @DisplayName("기존 역으로 구간을 분할하면 지름길이 생길 수 있어 경로를 보존할 수 없다.")
+    @Test
+    void splitWithExistingStation() {
+        // given
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 강남역, 교대역, 4));
+
+        // when
+        RouteRepair repair = RouteRepair.of(graph, graph.apply(delta), delta);
+
+        // then
+        assertFalse(repair.isPreserving());
+    }
+}
@@ -3,10 +3,13 @@ package nextstep.subway.path.domain;
 import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import nextstep.subway.member.domain.MemberAgeType;
+import nextstep.subway.path.domain.discount.AdolescentDiscountPolicy;
+import nextstep.subway.path.domain.discount.KidDiscountPolicy;
 import nextstep.subway.path.dto.SubwayFareRequest;
 
 class SubwayFareTest {
@@ -40,4 +43,36 @@ class SubwayFareTest {
 
         assertEquals(expected, subwayUsageFare);
     }
+
+    @DisplayName("요금 안에서 이동할 수 있는 최대 거리를 구한다.")
+    @ParameterizedTest
+    @CsvSource(value = {"0,0", "1249,0", "1250,14", "1349,14", "1350,19", "2050,57"})
+    void getMaxDistanceWithinFare(int fare, int expected) {
+        int maxDistance = SubwayFare.getMaxDistanceWithinFare(fare, MemberAgeType.NONE);
+
+        assertEquals(expected, maxDistance);
+    }
+
+    @DisplayName("미리 계산한 요금표 범위를 벗어난 거리도 같은 규칙으로 요금을 계산한다.")
+    @ParameterizedTest
+    @CsvSource(value = {"511,7750", "512,7750", "513,7750", "514,7850", "1000,13850"})
+    void getSubwayUsageFareOverTable(int distance, int expected) {
+        assertEquals(expected, SubwayFare.getSubwayUsageFare(distance, 0, MemberAgeType.NONE));
+    }
+
+    @DisplayName("요금표로 계산한 할인 요금은 할인 정책을 적용한 요금과 같다.")
+    @Test
+    void getSubwayUsageFareByTable() {
+        for (int distance = 0; distance <= 600; distance++) {
+            for (int lineSurcharge : new int[] {0, 300, 900, 5_000}) {
+                int fare = SubwayFare.getBaseFare(distance, lineSurcharge);
+
+                assertEquals(new KidDiscountPolicy().getDiscountFare(fare),
+                    SubwayFare.getSubwayUsageFare(distance, lineSurcharge, MemberAgeType.KID));
+                assertEquals(new AdolescentDiscountPolicy().getDiscountFare(fare),
+                    SubwayFare.getSubwayUsageFare(distance, lineSurcharge, MemberAgeType.ADOLESCENT));
+                assertEquals(fare, SubwayFare.getSubwayUsageFare(distance, lineSurcharge, MemberAgeType.NONE));
+            }
+        }
+    }
 }
@@ -0,0 +1,188 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.LineRepository;
+import nextstep.subway.line.domain.NetworkRevision;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.station.domain.Station;
+import nextstep.subway.station.domain.StationRepository;
+
+@DataJpaTest
+class SubwayGraphSnapshotTest {
+    private static final NetworkRevision REVISION = NetworkRevision.of(7L, 3L);
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private LineRepository lineRepository;
+
+    @TempDir
+    Path directory;
+
+    private Station 강남역;
+    private Station 양재역;
+    private Station 남부터미널역;
+    private Line 삼호선;
+    private SubwayGraph graph;
+
+    /**
+     * 교대역    --- *2호선* --- 강남역
+     * |                       |
+     * *3호선*                  *신분당선(추가 요금 900)*
+     * |                       |
+     * 남부터미널역   --- *3호선* --- 양재역
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = stationRepository.save(new Station("강남역"));
+        양재역 = stationRepository.save(new Station("양재역"));
+        Station 교대역 = stationRepository.save(new Station("교대역"));
+        남부터미널역 = stationRepository.save(new Station("남부터미널역"));
+
+        Line 신분당선 = lineRepository.save(new Line("신분당선", "bg-red-600", 900, 강남역, 양재역, 10));
+        Line 이호선 = lineRepository.save(new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10));
+        삼호선 = lineRepository.save(new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5));
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+        lineRepository.flush();
+
+        graph = SubwayGraph.of(collectSections(신분당선, 이호선, 삼호선));
+    }
+
+    @DisplayName("저장한 스냅샷을 읽어 같은 리비전의 같은 그래프를 복원한다.")
+    @Test
+    void writeAndRead() throws IOException {
+        // given
+        Path file = directory.resolve("subway-graph.snapshot");
+        SubwayGraphSnapshot.of(graph, REVISION).write(file);
+
+        // when
+        SubwayGraphSnapshot snapshot = resolve(SubwayGraphSnapshot.read(file));
+        SubwayGraph restored = snapshot.getGraph();
+
+        // then
+        assertEquals(REVISION, snapshot.getRevision());
+        assertFalse(snapshot.hasLandmarks());
+        assertFalse(snapshot.hasHierarchy());
+        assertEquals(graph.size(), restored.size());
+        assertEquals(graph.getEdgeCount(), restored.getEdgeCount());
+        for (int node = 0; node < graph.size(); node++) {
+            assertEquals(graph.getStation(node), restored.getStation(node));
+            for (int edge = graph.firstEdge(node); edge < graph.lastEdge(node); edge++) {
+                assertEquals(graph.getTarget(edge), restored.getTarget(edge));
+                assertEquals(graph.getDistance(edge), restored.getDistance(edge));
+                assertEquals(graph.getSurcharge(edge), restored.getSurcharge(edge));
+                assertEquals(graph.getDuration(edge), restored.getDuration(edge));
+            }
+        }
+    }
+
+    @DisplayName("랜드마크 거리표와 축약 계층을 함께 저장하면 다시 만들지 않고 그대로 복원한다.")
+    @Test
+    void writeAndReadPreprocessedTables() throws IOException {
+        // given
+        Path file = directory.resolve("subway-graph.snapshot");
+        SubwayNetwork network = SubwayNetwork.of(1L, graph);
+        Landmarks landmarks = Landmarks.of(graph, 2, null);
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(network);
+        SubwayGraphSnapshot.of(graph, REVISION).withLandmarks(landmarks).withHierarchy(hierarchy).write(file);
+
+        // when
+        SubwayGraphSnapshot snapshot = resolve(SubwayGraphSnapshot.read(file));
+        SubwayNetwork restored = SubwayNetwork.of(1L, snapshot.getGraph());
+        Landmarks restoredLandmarks = snapshot.toLandmarks(restored).orElseThrow(IllegalStateException::new);
+        ContractionHierarchy restoredHierarchy = snapshot.toHierarchy(restored)
+            .orElseThrow(IllegalStateException::new);
+
+        // then
+        assertEquals(hierarchy.getShortcutCount(), restoredHierarchy.getShortcutCount());
+        for (int source = 0; source < graph.size(); source++) {
+            for (int target = 0; target < graph.size(); target++) {
+                assertEquals(landmarks.estimate(source, target), restoredLandmarks.estimate(source, target));
+                if (source != target) {
+                    assertEquals(hierarchy.findPath(source, target).getDistance(),
+                        restoredHierarchy.findPath(source, target).getDistance());
+                }
+            }
+        }
+    }
+
+    @DisplayName("구간 제거로 비활성화된 역은 빼고 전처리 결과의 역 번호를 맞춰 저장한다.")
+    @Test
+    void writeWithoutInactiveStations() throws IOException {
+        // given
+        Path file = directory.resolve("subway-graph.snapshot");
+        SectionDelta delta = 삼호선.removeSection(남부터미널역);
+        lineRepository.flush();
+        SubwayGraph applied = graph.apply(delta);
+        SubwayNetwork network = SubwayNetwork.of(2L, applied);
+        Landmarks landmarks = Landmarks.of(applied, 2, null);
+        ContractionHierarchy hierarchy = ContractionHierarchy.of(network);
+        SubwayGraphSnapshot.of(applied, REVISION).withLandmarks(landmarks).withHierarchy(hierarchy).write(file);
+
+        // when
+        SubwayGraphSnapshot snapshot = resolve(SubwayGraphSnapshot.read(file));
+        SubwayNetwork restored = SubwayNetwork.of(1L, snapshot.getGraph());
+        ContractionHierarchy restoredHierarchy = snapshot.toHierarchy(restored)
+            .orElseThrow(IllegalStateException::new);
+
+        // then
+        SubwayGraph restoredGraph = restored.getSubwayGraph();
+        assertFalse(restoredGraph.contains(남부터미널역));
+        assertEquals(applied.size() - 1, restoredGraph.size());
+        assertTrue(snapshot.hasLandmarks());
+        for (Station source : restored.getStations()) {
+            for (Station target : restored.getStations()) {
+                if (!source.equals(target)) {
+                    assertEquals(hierarchy.findPath(applied.indexOf(source), applied.indexOf(target)).getDistance(),
+                        restoredHierarchy.findPath(restoredGraph.indexOf(source), restoredGraph.indexOf(target))
+                            .getDistance());
+                }
+            }
+        }
+    }
+
+    @DisplayName("손상된 스냅샷은 읽을 수 없다.")
+    @Test
+    void readCorrupted() throws IOException {
+        // given
+        Path file = directory.resolve("subway-graph.snapshot");
+        SubwayGraphSnapshot.of(graph, REVISION).write(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        // when & then
+        assertThatThrownBy(() -> SubwayGraphSnapshot.read(file))
+            .isInstanceOf(IOException.class);
+    }
+
+    private SubwayGraphSnapshot resolve(SubwayGraphSnapshot snapshot) {
+        return snapshot.resolve(stationRepository.findAllById(snapshot.getStationIds()),
+            lineRepository.findAllById(snapshot.getLineIds()));
+    }
+
+    private Set<Section> collectSections(Line... lines) {
+        return Stream.of(lines)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+    }
+}
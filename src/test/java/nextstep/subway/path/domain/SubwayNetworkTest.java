@@ -0,0 +1,182 @@
+package nextstep.subway.path.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.line.domain.SectionDelta;
+import nextstep.subway.line.domain.SectionDeltaType;
+import nextstep.subway.station.domain.Station;
+
+class SubwayNetworkTest {
+
+    private Line 신분당선;
+    private Line 이호선;
+    private Line 삼호선;
+    private Station 강남역;
+    private Station 양재역;
+    private Station 교대역;
+    private Station 남부터미널역;
+    private SubwayNetwork network;
+
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        양재역 = new Station("양재역");
+        교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        신분당선 = new Line("신분당선", "bg-red-600", 10, 강남역, 양재역, 10);
+        이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+
+        network = SubwayNetwork.of(1L, collectSections(신분당선, 이호선, 삼호선));
+    }
+
+    @DisplayName("구간 분할을 적용한 네트워크는 전체를 다시 만든 네트워크와 같은 경로를 찾는다.")
+    @Test
+    void applySplit() {
+        // given
+        Station 신논현역 = new Station("신논현역");
+        SectionDelta delta = 신분당선.addSection(new Section(신분당선, 강남역, 신논현역, 4));
+
+        // when
+        SubwayNetwork applied = network.apply(2L, delta);
+
+        // then
+        assertEquals(SectionDeltaType.SPLIT, delta.getType());
+        assertEquals(2L, applied.getVersion());
+        assertSameDistances(applied, SubwayNetwork.of(collectSections(신분당선, 이호선, 삼호선)));
+        assertThat(network.contains(신논현역)).isFalse();
+    }
+
+    @DisplayName("구간 병합을 적용하면 제거된 역이 네트워크에서 빠진다.")
+    @Test
+    void applyMerge() {
+        // when
+        SectionDelta delta = 삼호선.removeSection(남부터미널역);
+        SubwayNetwork applied = network.apply(2L, delta);
+
+        // then
+        assertEquals(SectionDeltaType.MERGED, delta.getType());
+        assertThat(applied.contains(남부터미널역)).isFalse();
+        assertSameDistances(applied, SubwayNetwork.of(collectSections(신분당선, 이호선, 삼호선)));
+    }
+
+    @DisplayName("노선 삭제를 적용하면 해당 노선의 구간이 모두 빠진다.")
+    @Test
+    void applyLineRemoved() {
+        // when
+        SectionDelta delta = SectionDelta.lineRemoved(삼호선.getSections().getSections());
+        SubwayNetwork applied = network.apply(2L, delta);
+
+        // then
+        assertThat(applied.getStations()).containsExactlyInAnyOrder(강남역, 양재역, 교대역);
+        assertEquals(2, applied.getSubwayGraph().getLineCount());
+        assertSameDistances(applied, SubwayNetwork.of(collectSections(신분당선, 이호선)));
+    }
+
+    @DisplayName("구간 변경분을 적용해도 바뀌지 않은 역은 번호와 인접 구간 위치가 그대로다.")
+    @Test
+    void keepUnchangedStations() {
+        // given
+        SubwayGraph graph = network.getSubwayGraph();
+        Station 신논현역 = new Station("신논현역");
+
+        // when
+        SubwayGraph applied = network.apply(2L, 신분당선.addSection(new Section(신분당선, 강남역, 신논현역, 4)))
+            .getSubwayGraph();
+
+        // then
+        for (Station station : new Station[] {교대역, 남부터미널역}) {
+            int node = graph.indexOf(station);
+            assertEquals(node, applied.indexOf(station));
+            assertEquals(graph.firstEdge(node), applied.firstEdge(node));
+            assertEquals(graph.lastEdge(node), applied.lastEdge(node));
+        }
+        assertEquals(graph.indexOf(강남역), applied.indexOf(강남역));
+        assertEquals(graph.size(), applied.indexOf(신논현역));
+    }
+
+    @DisplayName("구간 분할과 병합을 거듭 적용해도 전체를 다시 만든 네트워크와 같은 경로를 찾는다.")
+    @Test
+    void applyRepeatedly() {
+        // given
+        SubwayNetwork applied = network;
+
+        for (int version = 2; version < 42; version += 2) {
+            // when
+            Station station = new Station("신설역" + version);
+            applied = applied.apply(version, 신분당선.addSection(new Section(신분당선, 강남역, station, 4)));
+            applied = applied.apply(version + 1, 신분당선.removeSection(station));
+
+            // then
+            assertThat(applied.contains(station)).isFalse();
+            assertSameDistances(applied, SubwayNetwork.of(collectSections(신분당선, 이호선, 삼호선)));
+        }
+    }
+
+    @DisplayName("같은 네트워크에 서로 다른 변경분을 적용해도 서로의 결과를 바꾸지 않는다.")
+    @Test
+    void applyOnSameBase() {
+        // given
+        SubwayNetwork original = SubwayNetwork.of(collectSections(신분당선, 이호선, 삼호선));
+        SubwayNetwork expectedLineRemoved = SubwayNetwork.of(collectSections(신분당선, 삼호선));
+        Station 신논현역 = new Station("신논현역");
+        SubwayNetwork split = network.apply(2L, 신분당선.addSection(new Section(신분당선, 강남역, 신논현역, 4)));
+
+        // when
+        SubwayNetwork lineRemoved = network.apply(2L, SectionDelta.lineRemoved(이호선.getSections().getSections()));
+
+        // then
+        assertSameDistances(network, original);
+        assertSameDistances(split, SubwayNetwork.of(collectSections(신분당선, 이호선, 삼호선)));
+        assertSameDistances(lineRemoved, expectedLineRemoved);
+    }
+
+    @DisplayName("네트워크에 없는 구간은 적용할 수 없다.")
+    @Test
+    void applyUnknownSection() {
+        // given
+        Line 사호선 = new Line("사호선", "bg-blue-600", 0, 강남역, 교대역, 7);
+
+        // when & then
+        assertThatThrownBy(() -> network.apply(2L, SectionDelta.lineRemoved(사호선.getSections().getSections())))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Set<Section> collectSections(Line... lines) {
+        return Stream.of(lines)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+    }
+
+    private void assertSameDistances(SubwayNetwork applied, SubwayNetwork rebuilt) {
+        SubwayGraph appliedGraph = applied.getSubwayGraph();
+        SubwayGraph rebuiltGraph = rebuilt.getSubwayGraph();
+        assertThat(applied.getStations()).isEqualTo(rebuilt.getStations());
+        assertEquals(rebuiltGraph.getEdgeCount(), appliedGraph.getEdgeCount());
+        for (Station source : rebuilt.getStations()) {
+            for (Station target : rebuilt.getStations()) {
+                if (!source.equals(target)) {
+                    ShortestPath expected = DijkstraSearch.findPath(rebuiltGraph,
+                        rebuiltGraph.indexOf(source), rebuiltGraph.indexOf(target));
+                    ShortestPath actual = DijkstraSearch.findPath(appliedGraph,
+                        appliedGraph.indexOf(source), appliedGraph.indexOf(target));
+                    assertEquals(expected.getDistance(), actual.getDistance());
+                    assertEquals(expected.getSurcharge(), actual.getSurcharge());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package nextstep.subway.path.domain;
+
+import static nextstep.subway.exception.ExceptionMessage.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import nextstep.subway.exception.BadRequestException;
+import nextstep.subway.line.domain.Line;
+import nextstep.subway.line.domain.Section;
+import nextstep.subway.station.domain.Station;
+
+class TransferSearchTest {
+
+    private SubwayGraph graph;
+    private TransferGraph transferGraph;
+    private Station 강남역;
+    private Station 남부터미널역;
+
+    /**
+     * 교대역    --- *2호선* --- 강남역
+     * |                       |
+     * *3호선*                  *신분당선*
+     * |                       |
+     * 남부터미널역   --- *3호선* --- 양재역
+     *
+     * 강남역 --- *7호선(거리 30)* --- 남부터미널역
+     */
+    @BeforeEach
+    void setUp() {
+        강남역 = new Station("강남역");
+        Station 양재역 = new Station("양재역");
+        Station 교대역 = new Station("교대역");
+        남부터미널역 = new Station("남부터미널역");
+
+        Line 신분당선 = new Line("신분당선", "bg-red-600", 0, 강남역, 양재역, 10);
+        Line 이호선 = new Line("이호선", "bg-green-600", 0, 교대역, 강남역, 10);
+        Line 삼호선 = new Line("삼호선", "bg-orange-600", 0, 교대역, 양재역, 5);
+        삼호선.addSection(new Section(삼호선, 교대역, 남부터미널역, 3));
+        Line 칠호선 = new Line("칠호선", "bg-olive-600", 0, 강남역, 남부터미널역, 30);
+
+        Set<Section> sections = Stream.of(신분당선, 이호선, 삼호선, 칠호선)
+            .flatMap(line -> line.getSections().getSections().stream())
+            .collect(Collectors.toSet());
+        graph = SubwayGraph.of(sections);
+        transferGraph = TransferGraph.of(graph);
+    }
+
+    @DisplayName("환승 횟수가 가장 적은 경로를 조회한다.")
+    @Test
+    void findFewestTransfers() {
+        // when
+        TransferPath path = TransferSearch.findPath(transferGraph, graph.indexOf(강남역), graph.indexOf(남부터미널역),
+            TransferPolicy.FEWEST_TRANSFERS, 0);
+
+        // then
+        assertThat(path.getTransferCount()).isZero();
+        assertThat(path.getDistance()).isEqualTo(30);
+        assertThat(lineNames(path)).containsExactly("칠호선");
+    }
+
+    @DisplayName("환승 벌점을 더한 거리가 가장 짧은 경로를 조회한다.")
+    @Test
+    void findDistanceWithPenalty() {
+        // when
+        TransferPath path = TransferSearch.findPath(transferGraph, graph.indexOf(강남역), graph.indexOf(남부터미널역),
+            TransferPolicy.DISTANCE_WITH_PENALTY, 10);
+
+        // then
+        assertThat(path.getTransferCount()).isEqualTo(1);
+        assertThat(path.getDistance()).isEqualTo(12);
+        assertThat(lineNames(path)).containsExactly("신분당선", "삼호선");
+    }
+
+    @DisplayName("환승 벌점이 음수이거나 최댓값을 넘으면 경로를 조회할 수 없다.")
+    @ParameterizedTest
+    @ValueSource(ints = {-1, TransferSearch.MAX_TRANSFER_PENALTY + 1, Integer.MAX_VALUE})
+    void validateTransferPenalty(int transferPenalty) {
+        // when && then
+        assertThatThrownBy(() -> TransferSearch.findPath(transferGraph, graph.indexOf(강남역),
+            graph.indexOf(남부터미널역), TransferPolicy.DISTANCE_WITH_PENALTY, transferPenalty))
+            .isInstanceOf(BadRequestException.class)
+            .hasMessage(INVALID_TRANSFER_PENALTY.getMessage());
+    }
+
+    @DisplayName("환승 벌점이 최댓값이면 환승하지 않는 경로를 조회한다.")
+    @Test
+    void findDistanceWithMaxPenalty() {
+        // when
+        TransferPath path = TransferSearch.findPath(transferGraph, graph.indexOf(강남역), graph.indexOf(남부터미널역),
+            TransferPolicy.DISTANCE_WITH_PENALTY, TransferSearch.MAX_TRANSFER_PENALTY);
+
+        // then
+        assertThat(path.getTransferCount()).isZero();
+        assertThat(lineNames(path)).containsExactly("칠호선");
+    }
+
+    private String[] lineNames(TransferPath path) {
+        return Arrays.stream(path.getEdges())
+            .mapToObj(edge -> graph.getLine(graph.getLineIndex(edge)).getName())
+            .toArray(String[]::new);
+    }
+}